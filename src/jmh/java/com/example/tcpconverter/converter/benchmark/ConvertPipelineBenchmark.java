@@ -0,0 +1,100 @@
+package com.example.tcpconverter.converter.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.parser.TcpMessageParser;
+import com.example.tcpconverter.converter.service.ApiSpecRegistry;
+import com.example.tcpconverter.converter.service.ApiSpecSnapshotStore;
+import com.example.tcpconverter.converter.service.ConvertMetrics;
+import com.example.tcpconverter.converter.service.ConvertResultCache;
+import com.example.tcpconverter.converter.service.TcpMessageParseService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 변환 전체 경로 벤치마크
+ * 전문 길이 검증, API 서비스 코드 추출, 레지스트리 조회, 파싱, JSON 직렬화까지 포함
+ * 레지스트리는 데이터베이스 대신 합성 스펙을 돌려주는 Repository로 실제 로드 과정을 거쳐 구성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConvertPipelineBenchmark {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    /** 중첩 오브젝트 깊이 */
+    @Param({"2"})
+    public int depth;
+
+    /** 오브젝트 단계별 필드 수 */
+    @Param({"16"})
+    public int width;
+
+    /** 배열 요소 수 */
+    @Param({"10", "1000"})
+    public int rows;
+
+    private ApiSpecRegistry registry;
+    private TcpMessageParseService service;
+    private ObjectMapper objectMapper;
+    private byte[] message;
+
+    @Setup
+    public void setUp() {
+        SyntheticSpec spec = new SyntheticSpec(depth, width, rows);
+        FieldParserHelper helper = new FieldParserHelper(MS949);
+        registry = new ApiSpecRegistry(spec.specRepository(), spec.objectRepository(),
+                new ApiSpecSnapshotStore(""), ApiSpecRegistry.LoadMode.EAGER, 0);
+        registry.loadSpecs();
+        ConvertMetrics metrics = new ConvertMetrics(new SimpleMeterRegistry());
+        service = new TcpMessageParseService(registry, new TcpMessageParser(helper), helper, metrics,
+                new CommonHeaderCodec(helper), new ConvertResultCache(metrics, false, 0, 0));
+        objectMapper = new ObjectMapper();
+        message = spec.message(MS949);
+    }
+
+    /** 레지스트리 플랜 조회 */
+    @Benchmark
+    public ParsePlan registryLookup() {
+        return registry.getPlan(SyntheticSpec.API_CODE);
+    }
+
+    /** 검증 + 파싱 (결과 맵) */
+    @Benchmark
+    public Map<String, Object> serviceParse() {
+        return service.parse(message);
+    }
+
+    /** 검증 + 파싱 + 결과 맵 JSON 직렬화 (/api/convert/parse 경로) */
+    @Benchmark
+    public byte[] serviceParseAndSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(service.parse(message));
+    }
+
+    /** 검증 + 스트리밍 JSON 출력 (/api/convert/parse/stream 경로) */
+    @Benchmark
+    public void serviceWriteJson() throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            service.writeJson(message, generator);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.tcpconverter.converter.benchmark;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+import com.example.tcpconverter.converter.parser.FieldType;
+
+/**
+ * 필드 단위 추출/변환 벤치마크
+ * 20바이트 문자 필드(ASCII, 한글)와 10바이트 숫자 필드 기준
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldParserHelperBenchmark {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private FieldParserHelper helper;
+    private byte[] message;
+    private final int[] position = new int[1];
+
+    @Setup
+    public void setUp() {
+        helper = new FieldParserHelper(MS949);
+        // [0,20) ASCII 문자, [20,40) 한글 문자, [40,50) 숫자
+        message = (String.format("%-20s", "CUSTOMER NAME") + "홍길동 고객님       " + "0000123456").getBytes(MS949);
+    }
+
+    @Benchmark
+    public String extractAsciiField() {
+        position[0] = 0;
+        return helper.extractFieldValue(message, position, 20);
+    }
+
+    @Benchmark
+    public String extractKoreanField() {
+        position[0] = 20;
+        return helper.extractFieldValue(message, position, 20);
+    }
+
+    @Benchmark
+    public Object parseStringField() {
+        return helper.parseFieldValue(message, 0, 20, FieldType.STRING);
+    }
+
+    @Benchmark
+    public Object parseNumberField() {
+        return helper.parseFieldValue(message, 40, 10, FieldType.NUMBER);
+    }
+}
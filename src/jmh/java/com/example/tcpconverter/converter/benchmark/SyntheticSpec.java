@@ -0,0 +1,140 @@
+package com.example.tcpconverter.converter.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.tcpconverter.converter.entity.ApiFieldObject;
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.example.tcpconverter.converter.repository.ApiFieldObjectRepository;
+import com.example.tcpconverter.converter.repository.ApiFieldSpecRepository;
+
+/**
+ * 벤치마크용 합성 스펙과 메시지
+ *
+ * 공통 헤더(MsgLen, ApiSvcCd 위치 포함) 뒤에 다음 구조의 본문을 생성:
+ * - 각 오브젝트 단계마다 width개의 문자/숫자 필드 (10바이트, 번갈아 배치)
+ * - depth 단계까지 중첩된 오브젝트 (L1 → L2 → ...)
+ * - 최상위 배열 Rows (RowsCNT 카운트 필드, 요소마다 width개의 필드)
+ */
+final class SyntheticSpec {
+
+    static final String API_CODE = "BEN_001";
+
+    private static final int FIELD_LENGTH = 10;
+
+    private final List<ApiFieldSpec> specs = new ArrayList<>();
+    private final List<ApiFieldObject> objects = new ArrayList<>();
+    private final int depth;
+    private final int width;
+    private final int rows;
+
+    SyntheticSpec(int depth, int width, int rows) {
+        this.depth = depth;
+        this.width = width;
+        this.rows = rows;
+
+        int order = 0;
+        specs.add(spec(++order, "MsgLen", 6, "N"));
+        specs.add(spec(++order, "HeaderFiller", 129, "C"));
+        specs.add(spec(++order, "ApiSvcCd", 20, "C"));
+        for (int i = 0; i < width; i++) {
+            specs.add(spec(++order, "F" + i, FIELD_LENGTH, i % 2 == 0 ? "C" : "N"));
+        }
+        if (depth > 0) {
+            specs.add(spec(++order, "L1", null, "O"));
+        }
+        specs.add(spec(++order, "RowsCNT", 4, "N"));
+        specs.add(spec(++order, "Rows", null, "A"));
+
+        for (int level = 1; level <= depth; level++) {
+            addLeaves("L" + level, level < depth ? "L" + (level + 1) : null);
+        }
+        addLeaves("Rows", null);
+    }
+
+    private void addLeaves(String parent, String child) {
+        int order = 0;
+        for (int i = 0; i < width; i++) {
+            objects.add(ApiFieldObject.builder().apiCode(API_CODE).parentFieldName(parent).fieldOrder(++order)
+                    .fieldName(parent + "F" + i).fieldLength(FIELD_LENGTH).fieldType(i % 2 == 0 ? "C" : "N")
+                    .isList(false).build());
+        }
+        if (child != null) {
+            objects.add(ApiFieldObject.builder().apiCode(API_CODE).parentFieldName(parent).fieldOrder(++order)
+                    .fieldName(child).fieldLength(0).fieldType("O").isList(false).build());
+        }
+    }
+
+    private static ApiFieldSpec spec(int order, String name, Integer length, String type) {
+        return ApiFieldSpec.builder().apiCode(API_CODE).fieldOrder(order).fieldName(name)
+                .fieldLength(length).fieldType(type).isList("A".equals(type)).build();
+    }
+
+    List<ApiFieldSpec> getSpecs() {
+        return specs;
+    }
+
+    List<ApiFieldObject> getObjects() {
+        return objects;
+    }
+
+    /**
+     * 스펙에 맞는 메시지 생성
+     *
+     * @param charset 메시지 문자셋
+     * @return MsgLen이 채워진 메시지
+     */
+    byte[] message(Charset charset) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("000000");
+        sb.append(pad("HEADER", 129));
+        sb.append(pad(API_CODE, 20));
+        appendLeaves(sb, width);
+        for (int level = 1; level <= depth; level++) {
+            appendLeaves(sb, width);
+        }
+        sb.append(String.format("%04d", rows));
+        for (int row = 0; row < rows; row++) {
+            appendLeaves(sb, width);
+        }
+
+        byte[] message = sb.toString().getBytes(charset);
+        byte[] length = String.format("%06d", message.length).getBytes(charset);
+        System.arraycopy(length, 0, message, 0, length.length);
+        return message;
+    }
+
+    private static void appendLeaves(StringBuilder sb, int width) {
+        for (int i = 0; i < width; i++) {
+            sb.append(i % 2 == 0 ? pad("VALUE" + i, FIELD_LENGTH) : String.format("%010d", 12345 + i));
+        }
+    }
+
+    private static String pad(String value, int length) {
+        return String.format("%-" + length + "s", value);
+    }
+
+    /**
+     * 데이터베이스 없이 합성 스펙을 돌려주는 Repository 프록시
+     * 레지스트리가 전체 로드에 사용하는 메서드만 지원
+     */
+    ApiFieldSpecRepository specRepository() {
+        return repository(ApiFieldSpecRepository.class, "findAllByOrderByApiCodeAscFieldOrderAsc", specs);
+    }
+
+    ApiFieldObjectRepository objectRepository() {
+        return repository(ApiFieldObjectRepository.class, "findAll", objects);
+    }
+
+    private static <T> T repository(Class<T> type, String method, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, invoked, args) -> {
+                    if (invoked.getName().equals(method) && (args == null || args.length == 0)) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(invoked.getName());
+                }));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.tcpconverter.converter.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.tcpconverter.converter.entity.ApiFieldObject;
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.parser.ParsePlanCompiler;
+import com.example.tcpconverter.converter.parser.TcpMessageParser;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * 파서 단독 벤치마크
+ * 스펙의 중첩 깊이, 단계별 필드 수, 배열 요소 수에 따른 파싱 비용 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TcpMessageParserBenchmark {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    /** 중첩 오브젝트 깊이 */
+    @Param({"0", "4"})
+    public int depth;
+
+    /** 오브젝트 단계별 필드 수 */
+    @Param({"8", "32"})
+    public int width;
+
+    /** 배열 요소 수 */
+    @Param({"0", "100", "1000"})
+    public int rows;
+
+    private SyntheticSpec spec;
+    private Map<String, List<ApiFieldObject>> objectFields;
+    private ParsePlan plan;
+    private TcpMessageParser parser;
+    private TcpMessageParser generatedParser;
+    private JsonFactory jsonFactory;
+    private byte[] message;
+
+    @Setup
+    public void setUp() {
+        spec = new SyntheticSpec(depth, width, rows);
+        objectFields = Collections.unmodifiableMap(spec.getObjects().stream()
+                .collect(Collectors.groupingBy(ApiFieldObject::getParentFieldName)));
+        plan = ParsePlanCompiler.compile(SyntheticSpec.API_CODE, spec.getSpecs(), objectFields);
+        parser = new TcpMessageParser(new FieldParserHelper(MS949));
+        // 첫 파싱에서 전용 파서를 생성 (병렬 디코딩은 양쪽 모두 사용하지 않음)
+        generatedParser = new TcpMessageParser(new FieldParserHelper(MS949), 0, 1, 1);
+        jsonFactory = new JsonFactory();
+        message = spec.message(MS949);
+    }
+
+    /** 스펙 컴파일 (레지스트리 로드 시 API 코드당 1회) */
+    @Benchmark
+    public ParsePlan compile() {
+        return ParsePlanCompiler.compile(SyntheticSpec.API_CODE, spec.getSpecs(), objectFields);
+    }
+
+    /** 결과 맵 생성 */
+    @Benchmark
+    public Map<String, Object> parseToMap() {
+        return parser.parse(plan, message);
+    }
+
+    /** 전용 파서 클래스로 결과 맵 생성 */
+    @Benchmark
+    public Map<String, Object> parseToMapGenerated() {
+        return generatedParser.parse(plan, message);
+    }
+
+    /** 결과 맵 없이 JSON 스트리밍 출력 */
+    @Benchmark
+    public void parseToJsonStream() throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(OutputStream.nullOutputStream())) {
+            parser.write(plan, message, generator);
+        }
+    }
+
+    /** 전용 파서 클래스로 JSON 스트리밍 출력 */
+    @Benchmark
+    public void parseToJsonStreamGenerated() throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(OutputStream.nullOutputStream())) {
+            generatedParser.write(plan, message, generator);
+        }
+    }
+}
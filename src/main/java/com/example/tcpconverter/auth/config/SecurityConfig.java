@@ -1,12 +1,18 @@
 package com.example.tcpconverter.auth.config;
 
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 
 import com.example.tcpconverter.auth.filter.JwtAuthenticationFilter;
+import com.example.tcpconverter.auth.service.TokenRevocationIndex;
 import com.example.tcpconverter.auth.util.JwtUtil;
 
 /**
@@ -16,7 +22,7 @@ import com.example.tcpconverter.auth.util.JwtUtil;
  * 
  * 주요 기능:
  * - CSRF 비활성화 (JWT 토큰 사용으로 불필요)
- * - 인증/인가 경로 설정
+ * - 인증/인가 경로 설정 (관리 API는 auth.admin.client-ids 에 등록된 클라이언트만 허용)
  * - JWT 필터 체인 설정
  * - 기본 폼로그인과 HTTP Basic 인증 비활성화
  * 
@@ -30,6 +36,14 @@ public class SecurityConfig {
     @Autowired
     private JwtUtil jwtUtil;
 
+    /** 폐기된 토큰 인덱스 */
+    @Autowired
+    private TokenRevocationIndex tokenRevocationIndex;
+
+    /** 관리 API(/api/admin/**)를 호출할 수 있는 클라이언트 ID 목록 (쉼표 구분, 비어 있으면 관리 API 사용 불가) */
+    @Value("${auth.admin.client-ids:}")
+    private String adminClientIds;
+
     /**
      * Spring Security 필터 체인 설정
      * 
@@ -54,6 +68,9 @@ public class SecurityConfig {
             // 엔드포인트별 인증/인가 경로 설정
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()    // 인증 관련 API는 모든 사용자에게 허용
+                .requestMatchers("/actuator/health").permitAll()   // 상태 확인
+                .requestMatchers("/actuator/prometheus", "/api/admin/**")
+                    .hasRole(JwtAuthenticationFilter.ADMIN_ROLE)   // 메트릭 수집, 스펙 리로드 등 관리 API
                 .anyRequest().authenticated()                   // 나머지 모든 요청은 인증 필요
             )
             
@@ -64,9 +81,16 @@ public class SecurityConfig {
             .httpBasic(basic -> basic.disable())
             
             // JWT 필터를 UsernamePasswordAuthenticationFilter 앞에 추가
-            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), 
+            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, tokenRevocationIndex, adminClientIds()), 
                 org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    private Set<String> adminClientIds() {
+        return Arrays.stream(adminClientIds.split(","))
+                .map(String::trim)
+                .filter(clientId -> !clientId.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
 }
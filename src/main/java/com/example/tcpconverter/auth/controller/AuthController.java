@@ -18,6 +18,8 @@ import com.example.tcpconverter.auth.service.ClientService;
 import com.example.tcpconverter.auth.service.TokenService;
 import com.example.tcpconverter.auth.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -69,16 +71,13 @@ public class AuthController {
     // 토큰 상태 조회 (블랙리스트 반영)
     @GetMapping("/token/status")
     public ResponseEntity<?> checkTokenStatus(@RequestParam String token) {
+        // 토큰 검증은 한 번만 수행하고 결과 클레임에서 모든 값을 조회
+        Optional<Claims> claims = jwtUtil.verify(token);
         Map<String, Object> result = new HashMap<>();
-        result.put("valid", jwtUtil.validateToken(token) && !tokenService.isBlacklisted(token));
-        result.put("expired", jwtUtil.isTokenExpired(token));
-        try {
-            result.put("client_id", jwtUtil.getClientId(token));
-            result.put("type", jwtUtil.getTokenType(token));
-        } catch (Exception e) {
-            result.put("client_id", null);
-            result.put("type", null);
-        }
+        result.put("valid", claims.isPresent() && !tokenService.isBlacklisted(token));
+        result.put("expired", claims.isEmpty());
+        result.put("client_id", claims.map(Claims::getSubject).orElse(null));
+        result.put("type", claims.map(c -> c.get("type", String.class)).orElse(null));
         return ResponseEntity.ok(result);
     }
 } 
@@ -1,24 +1,41 @@
 package com.example.tcpconverter.auth.filter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.tcpconverter.auth.service.TokenRevocationIndex;
 import com.example.tcpconverter.auth.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    // 관리 API 호출 권한 (auth.admin.client-ids 에 등록된 클라이언트에만 부여)
+    public static final String ADMIN_ROLE = "ADMIN";
+
+    private static final List<SimpleGrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_" + ADMIN_ROLE));
+
     private final JwtUtil jwtUtil;
+    private final TokenRevocationIndex tokenRevocationIndex;
+    private final Set<String> adminClientIds;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenRevocationIndex tokenRevocationIndex,
+                                   Set<String> adminClientIds) {
         this.jwtUtil = jwtUtil;
+        this.tokenRevocationIndex = tokenRevocationIndex;
+        this.adminClientIds = adminClientIds;
     }
 
     @Override
@@ -27,10 +44,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtUtil.validateToken(token) && !jwtUtil.isTokenExpired(token)) {
-                String clientId = jwtUtil.getClientId(token);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(clientId, null, null);
+            // 서명/만료 검증과 clientId 추출을 한 번의 검증으로 처리
+            // 토큰 SHA-256 값은 한 번만 계산하여 검증 캐시와 폐기 토큰 인덱스 조회에 함께 사용
+            byte[] digest = JwtUtil.sha256(token);
+            Optional<Claims> claims = jwtUtil.verify(token, digest);
+            // 폐기(로그아웃)된 토큰은 만료 전이라도 인증하지 않음
+            if (claims.isPresent() && !tokenRevocationIndex.isRevoked(digest)) {
+                String clientId = claims.get().getSubject();
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        clientId, null, adminClientIds.contains(clientId) ? ADMIN_AUTHORITIES : List.of());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -1,5 +1,7 @@
 package com.example.tcpconverter.auth.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,4 +10,7 @@ import com.example.tcpconverter.auth.entity.TokenBlacklist;
 
 public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, Long> {
     Optional<TokenBlacklist> findByToken(String token);
+
+    // 지정 시각 이후 등록된 폐기 토큰 (그 이전 토큰은 이미 만료되어 인증에 쓰일 수 없음)
+    List<TokenBlacklist> findByBlacklistedAtAfter(LocalDateTime blacklistedAt);
 } 
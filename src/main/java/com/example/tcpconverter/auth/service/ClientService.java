@@ -1,26 +1,71 @@
 package com.example.tcpconverter.auth.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.example.tcpconverter.auth.entity.Client;
 import com.example.tcpconverter.auth.repository.ClientRepository;
+import com.example.tcpconverter.auth.util.JwtUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 
+// 클라이언트 인증
+// 기동 시 클라이언트 테이블 전체를 메모리에 로드하고 auth.client.reload-interval-ms 마다 다시 로드하여 변경 반영
+// 토큰 발급 요청은 데이터베이스 조회 없이 메모리에서 인증하므로 등록되지 않은 clientId 대입 요청이 데이터베이스 부하로 이어지지 않음
+// Secret 원문 대신 SHA-256 값을 보관하고, 요청 Secret의 SHA-256 값과 고정 시간 비교 (길이와 내용에 따른 응답 시간 차이 없음)
+@Slf4j
 @Service
 public class ClientService {
-    @Autowired
-    private ClientRepository clientRepository;
+    private final ClientRepository clientRepository;
+
+    // clientId -> Secret SHA-256 (다시 로드할 때 통째로 교체)
+    private volatile Map<String, byte[]> secretDigests = Map.of();
+
+    public ClientService(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    @PostConstruct
+    public void load() {
+        Map<String, byte[]> loaded = new HashMap<>();
+        for (Client client : clientRepository.findAll()) {
+            loaded.put(client.getClientId(), JwtUtil.sha256(client.getClientSecret()));
+        }
+        int previous = secretDigests.size();
+        secretDigests = Map.copyOf(loaded);
+        if (loaded.size() != previous) {
+            log.info("클라이언트 정보 로드 완료: {}개", loaded.size());
+        }
+    }
+
+    // 주기적으로 클라이언트 정보를 다시 로드 (실패 시 현재 정보를 유지하고 다음 주기에 다시 시도)
+    @Scheduled(initialDelayString = "${auth.client.reload-interval-ms:60000}",
+               fixedDelayString = "${auth.client.reload-interval-ms:60000}")
+    public void reload() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("클라이언트 정보 다시 로드 실패, 현재 정보 유지", e);
+        }
+    }
 
     public boolean authenticate(String clientId, String clientSecret) {
-        System.out.println("[?증?도] clientId=" + clientId + ", clientSecret=" + clientSecret);
-        return clientRepository.findByClientId(clientId)
-                .map(client -> {
-                    boolean result = client.getClientSecret().equals(clientSecret);
-                    System.out.println("[DB조회] clientId 존재, secret ?치 ??: " + result);
-                    return result;
-                })
-                .orElseGet(() -> {
-                    System.out.println("[DB조회] clientId ?음");
-                    return false;
-                });
+        byte[] expected = clientId == null ? null : secretDigests.get(clientId);
+        if (expected == null || clientSecret == null) {
+            log.debug("클라이언트 인증 실패: clientId={}, 원인=미등록 클라이언트", clientId);
+            return false;
+        }
+        boolean result = MessageDigest.isEqual(expected, JwtUtil.sha256(clientSecret));
+        if (result) {
+            log.debug("클라이언트 인증 성공: clientId={}", clientId);
+        } else {
+            log.debug("클라이언트 인증 실패: clientId={}, 원인=Secret 불일치", clientId);
+        }
+        return result;
     }
-} 
+}
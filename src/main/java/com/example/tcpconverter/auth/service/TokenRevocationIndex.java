@@ -0,0 +1,141 @@
+package com.example.tcpconverter.auth.service;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.tcpconverter.auth.entity.TokenBlacklist;
+import com.example.tcpconverter.auth.repository.TokenBlacklistRepository;
+import com.example.tcpconverter.auth.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+// 폐기된 토큰 인메모리 인덱스
+// 블룸 필터로 대부분의 정상 토큰을 바로 통과시키고, 필터에 걸린 토큰만 폐기 토큰 집합에서 확인
+// 토큰 원문 대신 SHA-256 값을 토큰 만료 시각과 함께 보관하며, 만료된 토큰은 주기적으로 제거
+// (만료된 토큰은 서명 검증 단계에서 이미 거부되므로 인덱스에 남겨둘 필요가 없음)
+@Slf4j
+@Component
+public class TokenRevocationIndex {
+    private static final int FILTER_BITS = 1 << 20;              // 128KB, 폐기 토큰 10만 개 기준 오탐률 약 1%
+    private static final int FILTER_HASHES = 7;
+    private static final long PRUNE_INTERVAL_MS = 1000L * 60;    // 만료 토큰 정리 간격 (1분)
+
+    private final JwtUtil jwtUtil;
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+
+    // 폐기 토큰 SHA-256(hex) -> 토큰 만료 시각(ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter = new BloomFilter();
+
+    public TokenRevocationIndex(JwtUtil jwtUtil, TokenBlacklistRepository tokenBlacklistRepository) {
+        this.jwtUtil = jwtUtil;
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+    }
+
+    // 기동 시 블랙리스트 테이블에서 아직 만료되지 않은 토큰만 로드
+    // 가장 긴 토큰 수명(Refresh 토큰)보다 먼저 등록된 토큰은 이미 만료되었으므로 조회하지 않음
+    @PostConstruct
+    public void load() {
+        LocalDateTime since = LocalDateTime.now().minusNanos(jwtUtil.getRefreshExpirationMs() * 1_000_000);
+        for (TokenBlacklist entity : tokenBlacklistRepository.findByBlacklistedAtAfter(since)) {
+            revoke(entity.getToken());
+        }
+        log.info("폐기 토큰 인덱스 로드 완료: {}개", revoked.size());
+    }
+
+    // 토큰 폐기 등록 (유효하지 않거나 이미 만료된 토큰은 인증에 쓰일 수 없으므로 등록하지 않음)
+    public synchronized void revoke(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        byte[] digest = JwtUtil.sha256(token);
+        Date expiration = jwtUtil.verify(token, digest).map(Claims::getExpiration).orElse(null);
+        if (expiration != null) {
+            // 필터에 먼저 반영해야 조회 시 집합 확인을 건너뛰지 않음
+            filter.add(digest);
+            revoked.put(HexFormat.of().formatHex(digest), expiration.getTime());
+        }
+    }
+
+    // 폐기된 토큰인지 확인 (폐기 토큰이 없으면 해시 계산 없이 바로 반환)
+    public boolean isRevoked(String token) {
+        if (token == null || revoked.isEmpty()) {
+            return false;
+        }
+        return isRevoked(JwtUtil.sha256(token));
+    }
+
+    // 토큰 SHA-256 값으로 폐기 여부 확인 (JwtUtil.verify에 넘긴 값을 그대로 사용하여 요청당 해시 한 번)
+    public boolean isRevoked(byte[] digest) {
+        if (revoked.isEmpty()) {
+            return false;
+        }
+        return filter.mightContain(digest) && revoked.containsKey(HexFormat.of().formatHex(digest));
+    }
+
+    // 현재 인덱스에 있는 폐기 토큰 수
+    public int size() {
+        return revoked.size();
+    }
+
+    // 주기적으로 만료된 토큰 제거 (새 폐기 등록이 없어도 실행)
+    @Scheduled(initialDelay = PRUNE_INTERVAL_MS, fixedDelay = PRUNE_INTERVAL_MS)
+    public void prune() {
+        prune(System.currentTimeMillis());
+    }
+
+    // 만료된 토큰을 제거하고 남은 토큰으로 블룸 필터를 다시 생성
+    // (블룸 필터는 항목 삭제가 불가능하므로 새로 만든 뒤 교체)
+    synchronized void prune(long now) {
+        if (!revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            return;
+        }
+        BloomFilter rebuilt = new BloomFilter();
+        HexFormat hex = HexFormat.of();
+        for (String digest : revoked.keySet()) {
+            rebuilt.add(hex.parseHex(digest));
+        }
+        filter = rebuilt;
+    }
+
+    // SHA-256 값의 앞 16바이트를 두 해시로 사용하는 블룸 필터 (이중 해싱)
+    private static final class BloomFilter {
+        private final AtomicLongArray bits = new AtomicLongArray(FILTER_BITS / Long.SIZE);
+
+        void add(byte[] digest) {
+            long h1 = ByteBuffer.wrap(digest).getLong(0);
+            long h2 = ByteBuffer.wrap(digest).getLong(8);
+            for (int i = 0; i < FILTER_HASHES; i++) {
+                int bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                bits.getAndAccumulate(bit >>> 6, mask, (current, m) -> current | m);
+            }
+        }
+
+        boolean mightContain(byte[] digest) {
+            long h1 = ByteBuffer.wrap(digest).getLong(0);
+            long h2 = ByteBuffer.wrap(digest).getLong(8);
+            for (int i = 0; i < FILTER_HASHES; i++) {
+                int bit = index(h1 + i * h2);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int index(long hash) {
+            return (int) (hash & (FILTER_BITS - 1));
+        }
+    }
+}
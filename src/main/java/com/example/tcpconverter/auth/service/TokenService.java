@@ -11,9 +11,10 @@ import org.springframework.stereotype.Service;
 import com.example.tcpconverter.auth.entity.RefreshToken;
 import com.example.tcpconverter.auth.entity.TokenBlacklist;
 import com.example.tcpconverter.auth.repository.RefreshTokenRepository;
-import com.example.tcpconverter.auth.repository.TokenBlacklistRepository;
 import com.example.tcpconverter.auth.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+
 @Service
 public class TokenService {
     @Autowired
@@ -21,7 +22,9 @@ public class TokenService {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
     @Autowired
-    private TokenBlacklistRepository tokenBlacklistRepository;
+    private TokenWriteBehindQueue tokenWriteBehindQueue;
+    @Autowired
+    private TokenRevocationIndex tokenRevocationIndex;
 
     // Access/Refresh 토큰 동시 발급
     public Map<String, String> generateTokens(String clientId) {
@@ -29,12 +32,12 @@ public class TokenService {
         //refreshTokenRepository.deleteByClientId(clientId);
         String accessToken = jwtUtil.generateAccessToken(clientId);
         String refreshToken = jwtUtil.generateRefreshToken(clientId);
-        // refresh 토큰 저장
+        // refresh 토큰 저장 (지연 저장 사용 시 저널에만 기록하고 데이터베이스 저장은 일괄 처리)
         RefreshToken entity = new RefreshToken();
         entity.setClientId(clientId);
         entity.setRefreshToken(refreshToken);
         entity.setExpiryDate(LocalDateTime.now().plusSeconds(jwtUtil.getRefreshExpirationMs() / 1000));
-        refreshTokenRepository.save(entity);
+        tokenWriteBehindQueue.saveRefreshToken(entity);
         Map<String, String> result = new HashMap<>();
         result.put("access_token", accessToken);
         result.put("refresh_token", refreshToken);
@@ -43,11 +46,13 @@ public class TokenService {
 
     // refresh 토큰으로 access 토큰 재발급
     public Optional<String> refreshAccessToken(String refreshToken) {
-        if (!jwtUtil.validateToken(refreshToken) || jwtUtil.isTokenExpired(refreshToken)) return Optional.empty();
-        if (!"refresh".equals(jwtUtil.getTokenType(refreshToken))) return Optional.empty();
-        Optional<RefreshToken> tokenOpt = refreshTokenRepository.findByRefreshToken(refreshToken);
-        if (tokenOpt.isEmpty()) return Optional.empty();
-        String clientId = jwtUtil.getClientId(refreshToken);
+        Optional<Claims> claims = jwtUtil.verify(refreshToken);
+        if (claims.isEmpty()) return Optional.empty();
+        if (!"refresh".equals(claims.get().get("type", String.class))) return Optional.empty();
+        // 아직 일괄 저장되지 않은 토큰은 데이터베이스 대신 저장 대기 목록에서 확인
+        if (!tokenWriteBehindQueue.isUnsavedRefreshToken(refreshToken)
+                && refreshTokenRepository.findByRefreshToken(refreshToken).isEmpty()) return Optional.empty();
+        String clientId = claims.get().getSubject();
         String newAccessToken = jwtUtil.generateAccessToken(clientId);
         return Optional.of(newAccessToken);
     }
@@ -57,11 +62,12 @@ public class TokenService {
         TokenBlacklist entity = new TokenBlacklist();
         entity.setToken(token);
         entity.setBlacklistedAt(LocalDateTime.now());
-        tokenBlacklistRepository.save(entity);
+        tokenWriteBehindQueue.saveBlacklist(entity);
+        tokenRevocationIndex.revoke(token);
     }
 
-    // 토큰이 블랙리스트에 있는지 확인
+    // 토큰이 블랙리스트에 있는지 확인 (데이터베이스 대신 인메모리 폐기 토큰 인덱스 조회)
     public boolean isBlacklisted(String token) {
-        return tokenBlacklistRepository.findByToken(token).isPresent();
+        return tokenRevocationIndex.isRevoked(token);
     }
 } 
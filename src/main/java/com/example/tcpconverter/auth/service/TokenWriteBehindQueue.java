@@ -0,0 +1,451 @@
+package com.example.tcpconverter.auth.service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.tcpconverter.auth.entity.RefreshToken;
+import com.example.tcpconverter.auth.entity.TokenBlacklist;
+import com.example.tcpconverter.auth.repository.RefreshTokenRepository;
+import com.example.tcpconverter.auth.repository.TokenBlacklistRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Refresh 토큰과 블랙리스트 등록의 지연 일괄 저장 (write-behind)
+// 토큰 발급/폐기 요청은 로컬 저널에 기록(fsync)한 뒤 바로 반환하고,
+// fsync는 그룹 커밋으로 처리하여 동시에 기록한 요청들이 fsync 한 번을 함께 기다림 (fsync 중에도 다음 요청은 저널에 기록 가능)
+// 백그라운드 스레드가 batch-size 건이 쌓이거나 flush-interval-ms 마다 JDBC 배치로 데이터베이스에 저장
+// 저장 전에 프로세스가 종료되어도 기동 시 저널을 다시 읽어 저장하므로 폐기 등록이 유실되지 않음
+//
+// 저널은 기록 중인 파일(journal-path)과 저장 중인 파일(journal-path.flushing) 두 개로 나누어,
+// 저장할 항목을 꺼낼 때 기록 중인 파일을 저장 중인 파일로 바꾸고 저장이 끝나면 삭제
+// 저장은 ON CONFLICT DO NOTHING 으로 멱등이므로 저장 도중 실패해도 같은 항목을 다시 저장하면 됨
+//
+// 비활성화(auth.token.write-behind.enabled=false) 시 요청마다 JPA 리포지토리로 바로 저장
+@Slf4j
+@Component
+public class TokenWriteBehindQueue {
+    static final String INSERT_REFRESH_TOKEN =
+            "INSERT INTO refresh_tokens (client_id, refresh_token, expiry_date) VALUES (?, ?, ?)"
+            + " ON CONFLICT (refresh_token) DO NOTHING";
+    static final String INSERT_BLACKLIST =
+            "INSERT INTO token_blacklist (token, blacklisted_at) VALUES (?, ?)"
+            + " ON CONFLICT (token) DO NOTHING";
+
+    private static final byte REFRESH_TOKEN = 'R';
+    private static final byte BLACKLIST = 'B';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenRevocationIndex tokenRevocationIndex;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Path journalPath;
+    private final Path flushingPath;
+
+    // 저널 기록과 대기 목록 추가, 저널 교체를 직렬화하는 잠금
+    private final Object lock = new Object();
+    private FileChannel journal;
+    private List<Object> pending = new ArrayList<>();
+    // 저널에 기록한 레코드 수 (lock으로 보호)
+    private long written;
+
+    // 그룹 커밋 상태 (syncLock으로 보호, lock을 잡은 채로 syncLock을 잡을 수 있지만 반대 순서는 없음)
+    private final Object syncLock = new Object();
+    // fsync까지 끝난 레코드 수
+    private long synced;
+    // fsync를 실행 중인 요청이 있는지 여부
+    private boolean syncing;
+
+    // 저장 중이거나 저장에 실패해 다시 시도할 항목 (저장 스레드만 사용)
+    private volatile List<Object> flushing = List.of();
+
+    // 아직 저장되지 않은 refresh 토큰 (재발급 요청 시 데이터베이스 대신 조회)
+    private final Map<String, RefreshToken> unsavedRefreshTokens = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private ScheduledExecutorService flusher;
+
+    public TokenWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                 RefreshTokenRepository refreshTokenRepository,
+                                 TokenBlacklistRepository tokenBlacklistRepository,
+                                 TokenRevocationIndex tokenRevocationIndex,
+                                 @Value("${auth.token.write-behind.enabled:false}") boolean enabled,
+                                 @Value("${auth.token.write-behind.batch-size:500}") int batchSize,
+                                 @Value("${auth.token.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+                                 @Value("${auth.token.write-behind.journal-path:data/token-write-behind.journal}")
+                                 String journalPath) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.tokenRevocationIndex = tokenRevocationIndex;
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.flushIntervalMs = Math.max(flushIntervalMs, 1);
+        this.journalPath = Paths.get(journalPath);
+        this.flushingPath = Paths.get(journalPath + ".flushing");
+    }
+
+    // 기동 시 이전 프로세스가 저장하지 못한 저널 항목을 복구하고 저장 스레드 시작
+    // 블랙리스트 항목은 폐기 토큰 인덱스에도 다시 등록 (인덱스는 데이터베이스 내용만 로드하므로)
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(journalPath.toAbsolutePath().getParent());
+        List<Object> recovered = new ArrayList<>(readJournal(flushingPath));
+        recovered.addAll(readJournal(journalPath));
+        for (Object entry : recovered) {
+            if (entry instanceof RefreshToken refreshToken) {
+                unsavedRefreshTokens.put(refreshToken.getRefreshToken(), refreshToken);
+            } else {
+                tokenRevocationIndex.revoke(((TokenBlacklist) entry).getToken());
+            }
+        }
+
+        // 복구한 항목을 새 저널 하나로 다시 기록한 뒤 이전 파일 정리
+        Path temp = Files.createTempFile(journalPath.toAbsolutePath().getParent(),
+                journalPath.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            for (Object entry : recovered) {
+                channel.write(ByteBuffer.wrap(record(entry)));
+            }
+            channel.force(false);
+        }
+        Files.move(temp, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(flushingPath);
+
+        synchronized (lock) {
+            pending = recovered;
+            journal = openJournal();
+        }
+        if (!recovered.isEmpty()) {
+            log.info("토큰 저널 복구: {}건", recovered.size());
+        }
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, this.flushIntervalMs, this.flushIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    // 종료 시 남은 항목 저장 (실패한 항목은 저널에 남아 다음 기동 시 저장)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        synchronized (lock) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log.warn("토큰 저널 닫기 실패", e);
+            }
+        }
+    }
+
+    // refresh 토큰 저장 요청
+    public void saveRefreshToken(RefreshToken entity) {
+        if (!enabled) {
+            refreshTokenRepository.save(entity);
+            return;
+        }
+        append(entity);
+    }
+
+    // 블랙리스트 등록 저장 요청
+    public void saveBlacklist(TokenBlacklist entity) {
+        if (!enabled) {
+            tokenBlacklistRepository.save(entity);
+            return;
+        }
+        append(entity);
+    }
+
+    // 아직 데이터베이스에 저장되지 않은 refresh 토큰인지 확인
+    public boolean isUnsavedRefreshToken(String refreshToken) {
+        return refreshToken != null && unsavedRefreshTokens.containsKey(refreshToken);
+    }
+
+    // 저장 대기 중인 항목 수 (저장 중인 항목 포함)
+    public int backlog() {
+        synchronized (lock) {
+            return pending.size() + flushing.size();
+        }
+    }
+
+    // 대기 항목을 JDBC 배치로 저장
+    // 저장에 실패하면 저장 중인 저널 파일과 항목을 유지하고 다음 주기에 다시 시도 (그 사이 새 항목은 기록 중인 저널에 쌓임)
+    synchronized boolean flush() {
+        flushRequested.set(false);
+        if (flushing.isEmpty()) {
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    return true;
+                }
+                try {
+                    // 아직 fsync를 기다리는 레코드도 교체 전에 기록되도록 fsync한 뒤 닫음
+                    journal.force(false);
+                    markSynced(written);
+                    journal.close();
+                    Files.move(journalPath, flushingPath, StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                    journal = openJournal();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("토큰 저널을 교체할 수 없습니다: " + journalPath, e);
+                }
+                flushing = pending;
+                pending = new ArrayList<>();
+            }
+        }
+
+        List<RefreshToken> refreshTokens = new ArrayList<>();
+        List<TokenBlacklist> blacklist = new ArrayList<>();
+        for (Object entry : flushing) {
+            if (entry instanceof RefreshToken refreshToken) {
+                refreshTokens.add(refreshToken);
+            } else {
+                blacklist.add((TokenBlacklist) entry);
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_REFRESH_TOKEN, refreshTokens, batchSize, (ps, entity) -> {
+                ps.setString(1, entity.getClientId());
+                ps.setString(2, entity.getRefreshToken());
+                ps.setTimestamp(3, Timestamp.valueOf(entity.getExpiryDate()));
+            });
+            jdbcTemplate.batchUpdate(INSERT_BLACKLIST, blacklist, batchSize, (ps, entity) -> {
+                ps.setString(1, entity.getToken());
+                ps.setTimestamp(2, Timestamp.valueOf(entity.getBlacklistedAt()));
+            });
+        } catch (DataAccessException e) {
+            log.warn("토큰 일괄 저장 실패, 다음 주기에 다시 시도: {}건, 원인={}", flushing.size(), e.toString());
+            return false;
+        }
+
+        try {
+            Files.deleteIfExists(flushingPath);
+        } catch (IOException e) {
+            // 남은 파일은 다음 기동 시 다시 저장되지만 멱등이므로 문제없음
+            log.warn("저장 완료한 토큰 저널 삭제 실패: {}", flushingPath, e);
+        }
+        refreshTokens.forEach(entity -> unsavedRefreshTokens.remove(entity.getRefreshToken()));
+        log.debug("토큰 일괄 저장: refresh={}건, blacklist={}건", refreshTokens.size(), blacklist.size());
+        flushing = List.of();
+        return true;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("토큰 일괄 저장 중 오류", e);
+        }
+    }
+
+    // 저널에 기록하고 대기 목록에 추가한 뒤 fsync를 기다림, 배치 크기만큼 쌓이면 주기를 기다리지 않고 저장 요청
+    private void append(Object entry) {
+        byte[] record = record(entry);
+        int size;
+        long sequence;
+        synchronized (lock) {
+            try {
+                journal.write(ByteBuffer.wrap(record));
+            } catch (IOException e) {
+                throw new UncheckedIOException("토큰 저널 기록에 실패했습니다: " + journalPath, e);
+            }
+            pending.add(entry);
+            if (entry instanceof RefreshToken refreshToken) {
+                unsavedRefreshTokens.put(refreshToken.getRefreshToken(), refreshToken);
+            }
+            size = pending.size();
+            sequence = ++written;
+        }
+        awaitSynced(sequence);
+        if (size >= batchSize && flusher != null && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    // 그룹 커밋: sequence 번째 레코드까지 fsync될 때까지 대기
+    // fsync 중인 요청이 없으면 직접 fsync하고 그때까지 기록된 레코드 전체를 완료 처리,
+    // 있으면 그 fsync가 끝날 때까지 기다렸다가 다시 확인 (fsync 중에 기록된 레코드는 다음 fsync 한 번으로 함께 처리)
+    private void awaitSynced(long sequence) {
+        while (true) {
+            synchronized (syncLock) {
+                while (syncing && synced < sequence) {
+                    try {
+                        syncLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("토큰 저널 fsync 대기 중 인터럽트되었습니다.", e);
+                    }
+                }
+                if (synced >= sequence) {
+                    return;
+                }
+                syncing = true;
+            }
+
+            long target;
+            FileChannel channel;
+            synchronized (lock) {
+                target = written;
+                channel = journal;
+            }
+            boolean done = false;
+            try {
+                channel.force(false);
+                done = true;
+            } catch (ClosedChannelException e) {
+                // 저널 교체로 닫힌 파일은 교체 전에 fsync되어 이미 완료 처리됨
+            } catch (IOException e) {
+                throw new UncheckedIOException("토큰 저널 기록에 실패했습니다: " + journalPath, e);
+            } finally {
+                synchronized (syncLock) {
+                    syncing = false;
+                    if (done && target > synced) {
+                        synced = target;
+                    }
+                    syncLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    // 저널 교체 시 fsync한 레코드까지 완료 처리
+    private void markSynced(long sequence) {
+        synchronized (syncLock) {
+            if (sequence > synced) {
+                synced = sequence;
+                syncLock.notifyAll();
+            }
+        }
+    }
+
+    private FileChannel openJournal() throws IOException {
+        return FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    // 저널 레코드: 본문 길이, 본문(유형, 필드), 본문 CRC32
+    private static byte[] record(Object entry) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            if (entry instanceof RefreshToken refreshToken) {
+                out.writeByte(REFRESH_TOKEN);
+                out.writeUTF(refreshToken.getClientId());
+                out.writeUTF(refreshToken.getRefreshToken());
+                out.writeUTF(refreshToken.getExpiryDate().toString());
+            } else {
+                TokenBlacklist blacklist = (TokenBlacklist) entry;
+                out.writeByte(BLACKLIST);
+                out.writeUTF(blacklist.getToken());
+                out.writeUTF(blacklist.getBlacklistedAt().toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] payload = body.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(payload.length + Integer.BYTES * 2)
+                .putInt(payload.length).put(payload).putInt((int) crc.getValue()).array();
+    }
+
+    // 저널 파일 읽기 (기록 도중 종료되어 잘리거나 체크섬이 맞지 않는 마지막 레코드부터는 무시)
+    static List<Object> readJournal(Path path) throws IOException {
+        List<Object> entries = new ArrayList<>();
+        if (!Files.isRegularFile(path)) {
+            return entries;
+        }
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            while (true) {
+                byte[] payload;
+                try {
+                    int length = in.readInt();
+                    if (length <= 0 || length > 1 << 20) {
+                        break;
+                    }
+                    payload = in.readNBytes(length);
+                    if (payload.length < length) {
+                        break;
+                    }
+                    CRC32 crc = new CRC32();
+                    crc.update(payload);
+                    if (in.readInt() != (int) crc.getValue()) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                entries.add(parse(payload));
+            }
+        }
+        if (!entries.isEmpty() || Files.size(path) > 0) {
+            log.info("토큰 저널 읽기: path={}, {}건", path, entries.size());
+        }
+        return entries;
+    }
+
+    private static Object parse(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        if (type == REFRESH_TOKEN) {
+            RefreshToken entity = new RefreshToken();
+            entity.setClientId(in.readUTF());
+            entity.setRefreshToken(in.readUTF());
+            entity.setExpiryDate(LocalDateTime.parse(in.readUTF()));
+            return entity;
+        }
+        if (type == BLACKLIST) {
+            TokenBlacklist entity = new TokenBlacklist();
+            entity.setToken(in.readUTF());
+            entity.setBlacklistedAt(LocalDateTime.parse(in.readUTF()));
+            return entity;
+        }
+        throw new IOException("알 수 없는 토큰 저널 레코드 유형: " + type);
+    }
+}
@@ -1,11 +1,23 @@
 package com.example.tcpconverter.auth.util;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -15,8 +27,35 @@ public class JwtUtil {
     private final String SECRET = "mysecretkeymysecretkeymysecretkeymysecretkey"; // 32바이트 이상
     private final long ACCESS_EXPIRATION = 1000 * 60 * 15; // 15분
     private final long REFRESH_EXPIRATION = 1000L * 60 * 60 * 24 * 7; // 7일
+    private final long VERIFIED_CACHE_SIZE = 10_000; // 검증 결과를 보관할 최대 토큰 수
     private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
 
+    // 파서는 불변이므로 한 번만 생성하여 공유
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    // 검증된 클레임 캐시 (키: 토큰 SHA-256, 토큰 만료 시각까지만 보관)
+    // 같은 Access 토큰으로 반복 호출하면 서명 검증 없이 바로 클레임 반환
+    private final Cache<String, Claims> verifiedClaims = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_SIZE)
+            .expireAfter(new Expiry<String, Claims>() {
+                @Override
+                public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                    long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                }
+
+                @Override
+                public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                    return expireAfterCreate(digest, claims, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
     // Access Token 생성
     public String generateAccessToken(String clientId) {
         return Jwts.builder()
@@ -39,44 +78,72 @@ public class JwtUtil {
                 .compact();
     }
 
+    // 토큰 검증 후 클레임 반환 (서명/형식 오류 또는 만료 시 empty)
+    // 서명 검증은 토큰당 한 번만 수행하고, 이후에는 만료 시각까지 캐시된 클레임 사용
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        return verify(token, sha256(token));
+    }
+
+    // 토큰 검증 후 클레임 반환 (호출자가 계산한 토큰 SHA-256 값을 캐시 키로 사용)
+    // 같은 요청에서 폐기 토큰 인덱스 조회에도 SHA-256 값이 필요하면 한 번만 계산하여 함께 사용
+    public Optional<Claims> verify(String token, byte[] tokenDigest) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String digest = HexFormat.of().formatHex(tokenDigest);
+        Claims claims = verifiedClaims.getIfPresent(digest);
+        if (claims == null) {
+            try {
+                claims = parser.parseClaimsJws(token).getBody();
+            } catch (JwtException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            // 만료 시각이 없는 토큰은 캐시하지 않음
+            if (claims.getExpiration() != null) {
+                verifiedClaims.put(digest, claims);
+            }
+        }
+        return Optional.of(claims);
+    }
+
     // 토큰에서 clientId 추출
     public String getClientId(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verifyOrThrow(token).getSubject();
     }
 
     // 토큰 타입 추출 (access/refresh)
     public String getTokenType(String token) {
-        return (String) Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody().get("type");
+        return verifyOrThrow(token).get("type", String.class);
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
-    // 토큰 만료 확인
+    // 토큰 만료 확인 (검증에 실패한 토큰도 만료로 간주)
     public boolean isTokenExpired(String token) {
-        try {
-            Date expiration = Jwts.parserBuilder().setSigningKey(key).build()
-                    .parseClaimsJws(token)
-                    .getBody().getExpiration();
-            return expiration.before(new Date());
-        } catch (JwtException | IllegalArgumentException e) {
-            return true;
-        }
+        return verify(token).isEmpty();
     }
 
     public long getRefreshExpirationMs() {
         return REFRESH_EXPIRATION;
     }
+
+    private Claims verifyOrThrow(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
+    }
+
+    // UTF-8 문자열의 SHA-256 (토큰/클라이언트 Secret 원문을 메모리에 보관하지 않기 위한 식별 값)
+    // JWT는 ASCII 문자만 사용하므로 토큰의 해시 값은 US-ASCII 인코딩과 같음
+    public static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 } 
@@ -0,0 +1,21 @@
+package com.example.tcpconverter.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ *
+ * 애플리케이션 전체의 @Scheduled 작업을 한 곳에서 활성화
+ *
+ * 주요 작업:
+ * - ClientService: 클라이언트 정보 주기적 다시 로드 (auth.client.reload-interval-ms)
+ * - ApiSpecReloadScheduler: API 스펙 주기적 리로드 (converter.spec.reload.enabled=true 인 경우)
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,34 +1,169 @@
 package com.example.tcpconverter.converter.controller;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+import com.example.tcpconverter.converter.service.ConvertMetrics;
+import com.example.tcpconverter.converter.service.TcpBatchParseService;
+import com.example.tcpconverter.converter.service.TcpMessageEncodeService;
 import com.example.tcpconverter.converter.service.TcpMessageParseService;
+import com.example.tcpconverter.converter.service.UpstreamForwardService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /**
  * TCP 메시지 변환 API 컨트롤러
- * TCP 메시지를 JSON 형태로 파싱하는 REST API를 제공
+ * TCP 메시지를 JSON 형태로 파싱하거나 JSON을 TCP 메시지로 인코딩하는 REST API를 제공
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/convert")
 public class ApiConvertController {
     private final TcpMessageParseService tcpMessageParseService;
+    private final TcpBatchParseService tcpBatchParseService;
+    private final TcpMessageEncodeService tcpMessageEncodeService;
+    private final FieldParserHelper fieldParserHelper;
+    private final ConvertMetrics convertMetrics;
+    private final ObjectMapper objectMapper;
+    private final UpstreamForwardService upstreamForwardService;
 
     /**
      * TCP 메시지를 파싱하여 JSON 형태로 변환
+     * 요청 본문을 문자열로 디코딩하지 않고 원본 바이트 그대로 파싱 (필드 길이는 바이트 기준)
      * 
-     * @param tcpMsg 파싱할 TCP 메시지 (Raw String)
-     * @return 파싱된 결과를 담은 Map 객체 (JSON 형태)
+     * 응답 크기 집계를 위해 결과를 직접 JSON으로 직렬화하여 응답
+     * fields를 지정하면 해당 필드만 파싱하여 응답 (예: fields=Customer.CstmNm,LoanList[].LoanAmt)
+     * 전체 필드 응답은 결과 캐시를 사용하므로 재시도/중복 전문은 파싱하지 않고 캐시된 JSON으로 응답
+     * 
+     * @param tcpMsg 파싱할 TCP 메시지 (Raw bytes)
+     * @param fields 응답에 포함할 필드 경로 목록 (생략 시 전체 필드)
+     * @return 파싱된 결과 JSON
+     * @throws IOException 결과 직렬화 중 오류가 발생한 경우
      */
     @PostMapping("/parse")
-    public Map<String, Object> parseTcpMessage(@RequestBody String tcpMsg) {
-        return tcpMessageParseService.parse(tcpMsg);
+    public ResponseEntity<byte[]> parseTcpMessage(@RequestBody byte[] tcpMsg,
+                                                  @RequestParam(required = false) List<String> fields)
+            throws IOException {
+        byte[] json = fields == null || fields.isEmpty()
+                ? tcpMessageParseService.toJson(tcpMsg, objectMapper.getFactory())
+                : objectMapper.writeValueAsBytes(tcpMessageParseService.parse(tcpMsg, fields));
+        convertMetrics.recordResponseSize(ConvertMetrics.CHANNEL_HTTP, json.length);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    /**
+     * TCP 메시지를 파싱하면서 JSON을 응답 스트림으로 바로 출력
+     * 결과 맵을 만들지 않으므로 큰 배열이 포함된 메시지에 적합
+     * 
+     * @param tcpMsg 파싱할 TCP 메시지 (Raw bytes)
+     * @param fields 응답에 포함할 필드 경로 목록 (생략 시 전체 필드)
+     * @param response JSON을 출력할 HTTP 응답
+     * @throws IOException 응답 출력 중 오류가 발생한 경우
+     */
+    @PostMapping("/parse/stream")
+    public void parseTcpMessageStream(@RequestBody byte[] tcpMsg,
+                                      @RequestParam(required = false) List<String> fields,
+                                      HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        CountingOutputStream out = new CountingOutputStream(response.getOutputStream());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            tcpMessageParseService.writeJson(tcpMsg, generator, fields);
+        }
+        convertMetrics.recordResponseSize(ConvertMetrics.CHANNEL_HTTP_STREAM, out.count);
+    }
+
+    /**
+     * 여러 TCP 메시지를 한 번에 변환
+     * 메시지는 병렬로 변환되며 결과는 요청 순서대로 JSON 배열로 응답
+     * 실패한 메시지는 해당 항목에만 오류를 담아 응답
+     * 
+     * @param body 메시지들이 담긴 요청 본문 (Raw bytes)
+     * @param framing 메시지 구분 방식 (LENGTH: MsgLen 기준 연속 배치, NEWLINE: 개행 구분)
+     * @param response JSON 배열을 출력할 HTTP 응답
+     * @throws IOException 응답 출력 중 오류가 발생한 경우
+     */
+    @PostMapping("/parse-batch")
+    public void parseTcpMessageBatch(@RequestBody byte[] body,
+                                     @RequestParam(defaultValue = "LENGTH") TcpBatchParseService.Framing framing,
+                                     HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        tcpBatchParseService.parseBatch(body, framing, response.getOutputStream());
+    }
+
+    /**
+     * JSON을 고정 길이 TCP 메시지로 인코딩
+     * 최상위 ApiSvcCd로 스펙을 조회하며, MsgLen과 배열 카운트 필드는 자동으로 계산
+     * 
+     * @param message 인코딩할 값 (파싱 결과와 같은 구조)
+     * @return 인코딩된 TCP 메시지 (설정된 문자셋 기준 바이트)
+     */
+    @PostMapping("/encode")
+    public ResponseEntity<byte[]> encodeTcpMessage(@RequestBody Map<String, Object> message) {
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, fieldParserHelper.getCharset()))
+                .body(tcpMessageEncodeService.encode(message));
+    }
+
+    /**
+     * TCP 메시지를 레거시 호스트로 전달하고 응답 전문을 JSON 형태로 변환
+     * 요청은 지속 연결 풀로 전송되며 응답은 거래 고유번호(IsTuno)로 매칭
+     * 
+     * @param tcpMsg 전달할 TCP 메시지 (Raw bytes)
+     * @return 파싱된 응답 전문
+     */
+    @PostMapping("/forward")
+    public ResponseEntity<Map<String, Object>> forwardTcpMessage(@RequestBody byte[] tcpMsg) {
+        return ResponseEntity.ok(upstreamForwardService.forward(tcpMsg));
+    }
+
+    /**
+     * JSON을 TCP 메시지로 인코딩하여 레거시 호스트로 전달하고 응답 전문을 JSON 형태로 변환
+     * 
+     * @param message 전달할 값 (파싱 결과와 같은 구조)
+     * @return 파싱된 응답 전문
+     */
+    @PostMapping("/forward/json")
+    public ResponseEntity<Map<String, Object>> forwardJsonMessage(@RequestBody Map<String, Object> message) {
+        return ResponseEntity.ok(upstreamForwardService.forward(message));
+    }
+
+    /**
+     * 출력한 바이트 수를 세는 스트림 (스트리밍 응답 크기 집계용)
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.example.tcpconverter.converter.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tcpconverter.converter.service.ApiSpecRegistry;
+import com.example.tcpconverter.converter.service.ApiSpecSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * API 스펙 관리 컨트롤러
+ * 재시작 없이 데이터베이스의 스펙 변경을 반영하는 관리용 API를 제공
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/specs")
+public class ApiSpecAdminController {
+    private final ApiSpecRegistry apiSpecRegistry;
+
+    /**
+     * 현재 적용 중인 스펙 버전과 API 코드 목록 조회
+     * 
+     * @return 스펙 버전과 API 코드 목록
+     */
+    @GetMapping
+    public Map<String, Object> getSpecStatus() {
+        ApiSpecSnapshot snapshot = apiSpecRegistry.getSnapshot();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("version", snapshot.getVersion());
+        result.put("apiCodes", new TreeSet<>(apiSpecRegistry.getApiCodes()));
+        return result;
+    }
+
+    /**
+     * 데이터베이스에서 스펙을 다시 로드
+     * 변경된 API 코드만 다시 컴파일하며, 처리 중인 요청은 이전 버전으로 완료됨
+     * 
+     * @return 리로드 결과 (버전, 추가/변경/삭제/실패 API 코드)
+     */
+    @PostMapping("/reload")
+    public ApiSpecRegistry.ReloadResult reloadSpecs() {
+        return apiSpecRegistry.reload();
+    }
+}
@@ -64,10 +64,14 @@ public class ApiFieldObject {
     @Column(nullable = false)
     private int fieldLength;
 
-    /** 필드 타입: 'O', 'A', 'N', 'C' */
+    /** 필드 타입: 'O', 'A', 'N', 'C', 'L', 'D', 'P', 'Y', 'T' */
     @Column(nullable = false)
     private String fieldType;
 
+    /** 소수 자릿수 (DECIMAL, PACKED 타입, 없으면 0) */
+    @Column
+    private Integer fieldScale;
+
     /** 리스트 여부 */
     @Column(nullable = false)
     private Boolean isList;
@@ -28,6 +28,11 @@ import lombok.Setter;
  * - 'A': Array (배열/리스트)
  * - 'N': Number (숫자)
  * - 'C': Character (문자)
+ * - 'L': Long (부호 있는 64비트 정수, 선행/후행 부호)
+ * - 'D': Decimal (소수점 생략 고정 소수, 소수 자릿수는 fieldScale)
+ * - 'P': Packed decimal (COMP-3, 소수 자릿수는 fieldScale)
+ * - 'Y': Date (yyyyMMdd)
+ * - 'T': Time (HHmmss)
  * 
  * @author converter Team
  * @since 1.0
@@ -60,6 +65,9 @@ public class ApiFieldSpec {
     @Column(nullable = false)
     private String fieldType;
 
+    @Column
+    private Integer fieldScale;
+
     @Column
     private String groupName;
 
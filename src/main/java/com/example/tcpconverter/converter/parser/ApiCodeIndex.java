@@ -0,0 +1,82 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 바이트 기준 API 코드 조회 테이블
+ *
+ * API 코드를 메시지 문자셋으로 미리 인코딩해 두고, 전문의 API 서비스 코드 영역을
+ * 문자열로 디코딩하지 않고 바이트 그대로 비교하여 파싱 플랜을 찾음 (오픈 어드레싱 해시 테이블)
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회 가능
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public final class ApiCodeIndex {
+
+    private final byte[][] keys;
+    private final ParsePlan[] plans;
+    private final int mask;
+
+    /**
+     * @param plans API 코드별 파싱 플랜
+     * @param charset 메시지 문자셋
+     */
+    public ApiCodeIndex(Map<String, ParsePlan> plans, Charset charset) {
+        int capacity = Integer.highestOneBit(Math.max(plans.size(), 1) * 2 - 1) << 1;
+        this.keys = new byte[capacity][];
+        this.plans = new ParsePlan[capacity];
+        this.mask = capacity - 1;
+
+        for (Map.Entry<String, ParsePlan> entry : plans.entrySet()) {
+            byte[] key = entry.getKey().trim().getBytes(charset);
+            int slot = hash(key, 0, key.length) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            this.plans[slot] = entry.getValue();
+        }
+    }
+
+    /**
+     * 메시지의 API 코드 영역으로 파싱 플랜 조회 (앞뒤 공백 무시)
+     *
+     * @param msg TCP 메시지
+     * @param offset API 코드 영역 시작 위치
+     * @param length API 코드 영역 길이
+     * @return 파싱 플랜, 등록되지 않은 코드이거나 영역이 비어 있으면 null
+     */
+    public ParsePlan find(byte[] msg, int offset, int length) {
+        int start = Math.min(offset, msg.length);
+        int end = Math.min(offset + length, msg.length);
+        while (start < end && FieldParserHelper.isBlank(msg[start])) {
+            start++;
+        }
+        while (end > start && FieldParserHelper.isBlank(msg[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        int slot = hash(msg, start, end) & mask;
+        for (byte[] key = keys[slot]; key != null; key = keys[slot]) {
+            if (Arrays.equals(key, 0, key.length, msg, start, end)) {
+                return plans[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int hash(byte[] bytes, int start, int end) {
+        int hash = 0x811C9DC5;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 배열 시작 시 요소 수를 통지하고 나머지는 그대로 위임하는 출력 대상
+ * 배열 크기 지표 집계에 사용
+ */
+final class ArraySizeNotifyingSink implements ParseResultSink {
+
+    private ParseResultSink delegate;
+    private IntConsumer arraySizes;
+
+    ArraySizeNotifyingSink(ParseResultSink delegate, IntConsumer arraySizes) {
+        bind(delegate, arraySizes);
+    }
+
+    /**
+     * 위임 대상 교체 (ParseContext에서 래퍼를 재사용할 때 사용)
+     */
+    void bind(ParseResultSink delegate, IntConsumer arraySizes) {
+        this.delegate = delegate;
+        this.arraySizes = arraySizes;
+    }
+
+    @Override
+    public void beginObject(ParsePlan plan, int node) {
+        delegate.beginObject(plan, node);
+    }
+
+    @Override
+    public void endObject() {
+        delegate.endObject();
+    }
+
+    @Override
+    public void beginArray(ParsePlan plan, int node, int size) {
+        arraySizes.accept(size);
+        delegate.beginArray(plan, node, size);
+    }
+
+    @Override
+    public void endArray() {
+        delegate.endArray();
+    }
+
+    @Override
+    public boolean acceptsElementChunks() {
+        return delegate.acceptsElementChunks();
+    }
+
+    /**
+     * 고정 길이 요소에는 배열이 없으므로 구간 출력 대상은 통지 없이 위임 대상의 것을 그대로 사용
+     */
+    @Override
+    public ParseResultSink newElementChunk(int size) {
+        return delegate.newElementChunk(size);
+    }
+
+    @Override
+    public void elementChunks(ParsePlan plan, int node, int size, List<ParseResultSink> chunks) {
+        arraySizes.accept(size);
+        delegate.elementChunks(plan, node, size, chunks);
+    }
+
+    @Override
+    public void fieldName(ParsePlan plan, int node) {
+        delegate.fieldName(plan, node);
+    }
+
+    @Override
+    public void stringValue(String value) {
+        delegate.stringValue(value);
+    }
+
+    @Override
+    public void intValue(int value) {
+        delegate.intValue(value);
+    }
+
+    @Override
+    public void longValue(long value) {
+        delegate.longValue(value);
+    }
+
+    @Override
+    public void decimalValue(BigDecimal value) {
+        delegate.decimalValue(value);
+    }
+
+    @Override
+    public void nullValue() {
+        delegate.nullValue();
+    }
+}
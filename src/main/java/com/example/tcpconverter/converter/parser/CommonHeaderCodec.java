@@ -0,0 +1,82 @@
+package com.example.tcpconverter.converter.parser;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TCP 메시지 공통부 코덱
+ *
+ * 모든 전문 앞에 오는 공통부(553바이트)는 API 코드와 관계없이 위치와 길이가 고정되어 있으므로,
+ * 스펙 조회 없이 고정 오프셋에서 필요한 필드만 바로 읽음
+ * 전문 길이 검증, API 서비스 코드 라우팅, 거래 고유번호(결과 캐시 키, 업스트림 응답 매칭)에 사용하며,
+ * 필드는 각각 한 번만 읽음 (나머지 공통부 필드는 API 스펙에 따라 본문과 함께 파싱)
+ *
+ * 위치는 모두 0-based 바이트 기준 (레거시 호스트 규격)
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class CommonHeaderCodec {
+
+    /** 전문 전체 길이 (N 6) */
+    public static final int MSG_LEN_OFFSET = 0;
+    public static final int MSG_LEN_LENGTH = 6;
+
+    /** 전문 전체 길이 필드로 표현할 수 있는 최대 전문 길이 */
+    public static final int MAX_MSG_LEN = 999_999;
+
+    /** API 서비스 코드 (C 20) */
+    public static final int API_SVC_CD_OFFSET = 135;
+    public static final int API_SVC_CD_LENGTH = 20;
+
+    /** 거래 고유번호 (C 20) */
+    public static final int IS_TUNO_OFFSET = 209;
+    public static final int IS_TUNO_LENGTH = 20;
+
+    private final FieldParserHelper fieldParserHelper;
+
+    /**
+     * 전문 전체 길이 필드 읽기 (공백, 부호 불허)
+     *
+     * @param msg TCP 메시지
+     * @return 전문 길이, 숫자가 아니거나 메시지가 짧으면 -1
+     */
+    public int readMsgLen(byte[] msg) {
+        return readMsgLen(msg, 0);
+    }
+
+    /**
+     * 버퍼의 지정 위치에서 시작하는 전문의 전체 길이 필드 읽기
+     * 스트림/일괄 요청처럼 여러 전문이 이어진 버퍼에서 전문 경계를 찾을 때 사용
+     *
+     * @param buf 전문이 담긴 버퍼
+     * @param offset 전문 시작 위치
+     * @return 전문 길이, 숫자가 아니거나 버퍼가 짧으면 -1
+     */
+    public int readMsgLen(byte[] buf, int offset) {
+        return fieldParserHelper.parseUnsignedNumber(buf, offset + MSG_LEN_OFFSET, MSG_LEN_LENGTH);
+    }
+
+    /**
+     * API 서비스 코드 읽기
+     *
+     * @param msg TCP 메시지
+     * @return API 서비스 코드 (trim 처리됨, 메시지 범위를 벗어난 부분은 제외)
+     */
+    public String readApiSvcCd(byte[] msg) {
+        return fieldParserHelper.decode(msg, API_SVC_CD_OFFSET, API_SVC_CD_LENGTH);
+    }
+
+    /**
+     * 거래 고유번호 읽기
+     *
+     * @param msg TCP 메시지
+     * @return 거래 고유번호 (trim 처리됨)
+     */
+    public String readIsTuno(byte[] msg) {
+        return fieldParserHelper.decode(msg, IS_TUNO_OFFSET, IS_TUNO_LENGTH);
+    }
+}
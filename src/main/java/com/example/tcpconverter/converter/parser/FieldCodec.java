@@ -0,0 +1,39 @@
+package com.example.tcpconverter.converter.parser;
+
+/**
+ * 원시 필드 타입별 코덱
+ *
+ * 메시지 버퍼의 필드 영역에서 값을 바로 읽어 ParseResultSink로 전달하고,
+ * 인코딩 시에는 값을 필드 영역에 바로 기록함
+ *
+ * 디코딩은 예외를 사용하지 않음: 비어 있거나 형식이 맞지 않는 값은 nullValue로 전달
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public interface FieldCodec {
+
+    /**
+     * 필드 영역을 디코딩하여 값을 전달
+     *
+     * @param msg 원본 메시지
+     * @param offset 필드 시작 위치 (바이트)
+     * @param length 필드 길이 (바이트)
+     * @param scale 소수 자릿수 (해당 없는 타입은 무시)
+     * @param sink 값을 전달받을 출력 대상
+     */
+    void decode(byte[] msg, int offset, int length, int scale, ParseResultSink sink);
+
+    /**
+     * 값을 필드 영역에 인코딩하여 기록 (null이면 빈 값)
+     *
+     * @param value 기록할 값
+     * @param buffer 출력 버퍼
+     * @param offset 필드 시작 위치 (바이트)
+     * @param length 필드 길이 (바이트)
+     * @param scale 소수 자릿수 (해당 없는 타입은 무시)
+     * @param fieldName 오류 메시지용 필드명
+     * @throws IllegalArgumentException 값이 필드 형식이나 길이에 맞지 않는 경우
+     */
+    void encode(Object value, byte[] buffer, int offset, int length, int scale, String fieldName);
+}
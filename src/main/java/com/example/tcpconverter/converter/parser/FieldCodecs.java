@@ -0,0 +1,412 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.temporal.ChronoField;
+
+/**
+ * 기본 제공 필드 코덱
+ *
+ * - LONG: 부호 있는 정수 (최대 18자리, 선행/후행 부호 허용, 인코딩은 선행 '-' 후 0 채움)
+ * - DECIMAL: 소수점이 생략된 고정 소수 (예: scale 2, "0012345" -> 123.45)
+ * - PACKED: COMP-3 팩 10진수 (한 바이트에 두 자리, 마지막 니블이 부호 C/F:양수, D/B:음수)
+ * - DATE / TIME: yyyyMMdd / HHmmss (일자는 0 또는 공백만, 시각은 공백만 있으면 null)
+ *
+ * 숫자와 일자는 ASCII 숫자 바이트를 직접 해석하며, 문자셋 디코딩이나 예외를 사용하지 않음
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+final class FieldCodecs {
+
+    static final FieldCodec LONG = new ZonedCodec(false);
+    static final FieldCodec DECIMAL = new ZonedCodec(true);
+    static final FieldCodec PACKED = new PackedCodec();
+    static final FieldCodec DATE = new DateCodec();
+    static final FieldCodec TIME = new TimeCodec();
+
+    /** long으로 누적해도 넘치지 않는 최대 자릿수 */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private FieldCodecs() {
+    }
+
+    /**
+     * 숫자를 오른쪽 정렬하고 남은 자리를 0으로 채워 기록 (음수는 첫 자리에 '-')
+     *
+     * @throws IllegalArgumentException 자릿수가 필드 길이를 넘는 경우
+     */
+    static void writeZoned(byte[] buffer, int offset, int length, long value, String fieldName) {
+        boolean negative = value < 0;
+        int start = negative ? offset + 1 : offset;
+        int position = offset + length - 1;
+        long remaining = value;
+
+        do {
+            if (position < start) {
+                throw new IllegalArgumentException(
+                    String.format("필드 '%s' 값 %d 이(가) 필드 길이 %d 를 초과합니다.", fieldName, value, length));
+            }
+            buffer[position--] = (byte) ('0' + Math.abs(remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+
+        while (position >= start) {
+            buffer[position--] = '0';
+        }
+        if (negative) {
+            buffer[offset] = '-';
+        }
+    }
+
+    private static BigDecimal toDecimal(Object value, String fieldName) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        try {
+            if (value instanceof Number) {
+                return new BigDecimal(value.toString());
+            }
+            if (value instanceof CharSequence) {
+                String text = value.toString().trim();
+                return text.isEmpty() ? BigDecimal.ZERO : new BigDecimal(text);
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 타입 오류로 처리
+        }
+        throw new IllegalArgumentException(
+            String.format("숫자 필드 '%s'에 숫자가 아닌 값이 있습니다: %s", fieldName, value));
+    }
+
+    /** 소수 자릿수에 맞춘 정수 값 (자릿수가 더 많으면 오류) */
+    private static BigInteger toUnscaled(Object value, int scale, String fieldName) {
+        try {
+            return toDecimal(value, fieldName).setScale(scale, RoundingMode.UNNECESSARY).unscaledValue();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                String.format("필드 '%s' 값 %s 의 소수 자릿수가 %d 를 초과합니다.", fieldName, value, scale));
+        }
+    }
+
+    private static void fill(byte[] buffer, int offset, int length, byte value) {
+        for (int i = offset; i < offset + length; i++) {
+            buffer[i] = value;
+        }
+    }
+
+    private static int digit(byte b) {
+        return b >= '0' && b <= '9' ? b - '0' : -1;
+    }
+
+    /** 2자리 숫자 (숫자가 아니면 -1) */
+    private static int twoDigits(byte[] msg, int offset) {
+        int high = digit(msg[offset]);
+        int low = digit(msg[offset + 1]);
+        return high < 0 || low < 0 ? -1 : high * 10 + low;
+    }
+
+    /** 필드 영역이 모두 공백 또는 '0'인지 여부 (일자의 빈 값) */
+    private static boolean isEmptyValue(byte[] msg, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (msg[i] != '0' && !FieldParserHelper.isBlank(msg[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 일자/시각 문자열에서 구분자를 제외한 숫자만 고정 길이로 기록 */
+    private static void writeDigitsOnly(String text, int digits, byte[] buffer, int offset, int length,
+                                        String fieldName) {
+        if (length != digits) {
+            throw new IllegalArgumentException(
+                String.format("필드 '%s'의 길이는 %d 이어야 합니다.", fieldName, digits));
+        }
+        int position = offset;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9' && position < offset + length) {
+                buffer[position++] = (byte) c;
+            } else if (c != '-' && c != ':') {
+                position = Integer.MAX_VALUE;
+                break;
+            }
+        }
+        if (position != offset + length) {
+            throw new IllegalArgumentException(
+                String.format("필드 '%s' 값 형식이 올바르지 않습니다: %s", fieldName, text));
+        }
+    }
+
+    /** 존(Zoned) 10진수: LONG, DECIMAL */
+    private static final class ZonedCodec implements FieldCodec {
+
+        private final boolean decimal;
+
+        private ZonedCodec(boolean decimal) {
+            this.decimal = decimal;
+        }
+
+        @Override
+        public void decode(byte[] msg, int offset, int length, int scale, ParseResultSink sink) {
+            int start = Math.min(offset, msg.length);
+            int end = Math.min(offset + length, msg.length);
+            while (start < end && FieldParserHelper.isBlank(msg[start])) {
+                start++;
+            }
+            while (end > start && FieldParserHelper.isBlank(msg[end - 1])) {
+                end--;
+            }
+            if (start == end) {
+                sink.nullValue();
+                return;
+            }
+
+            // 선행 또는 후행 부호
+            boolean negative = false;
+            if (msg[start] == '-' || msg[start] == '+') {
+                negative = msg[start++] == '-';
+            } else if (msg[end - 1] == '-' || msg[end - 1] == '+') {
+                negative = msg[--end] == '-';
+            }
+            if (start == end) {
+                sink.nullValue();
+                return;
+            }
+
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = digit(msg[i]);
+                if (digit < 0) {
+                    sink.nullValue();
+                    return;
+                }
+                value = value * 10 + digit; // 18자리를 넘으면 아래에서 다시 계산
+            }
+
+            if (end - start > MAX_LONG_DIGITS) {
+                // long 범위를 넘을 수 있는 자릿수는 DECIMAL만 허용
+                if (!decimal) {
+                    sink.nullValue();
+                    return;
+                }
+                BigInteger unscaled = new BigInteger(new String(msg, start, end - start, StandardCharsets.US_ASCII));
+                sink.decimalValue(new BigDecimal(negative ? unscaled.negate() : unscaled, scale));
+                return;
+            }
+
+            value = negative ? -value : value;
+            if (decimal) {
+                sink.decimalValue(BigDecimal.valueOf(value, scale));
+            } else {
+                sink.longValue(value);
+            }
+        }
+
+        @Override
+        public void encode(Object value, byte[] buffer, int offset, int length, int scale, String fieldName) {
+            BigInteger unscaled = toUnscaled(value == null ? 0 : value, decimal ? scale : 0, fieldName);
+            if (unscaled.bitLength() >= Long.SIZE) {
+                throw new IllegalArgumentException(
+                    String.format("필드 '%s' 값 %s 이(가) 필드 길이 %d 를 초과합니다.", fieldName, value, length));
+            }
+            writeZoned(buffer, offset, length, unscaled.longValue(), fieldName);
+        }
+    }
+
+    /** COMP-3 팩 10진수 */
+    private static final class PackedCodec implements FieldCodec {
+
+        @Override
+        public void decode(byte[] msg, int offset, int length, int scale, ParseResultSink sink) {
+            if (length <= 0 || offset + length > msg.length) {
+                sink.nullValue();
+                return;
+            }
+
+            int sign = msg[offset + length - 1] & 0x0F;
+            if (sign < 0x0A) {
+                sink.nullValue();
+                return;
+            }
+            boolean negative = sign == 0x0B || sign == 0x0D;
+
+            int digits = length * 2 - 1;
+            long value = 0;
+            char[] chars = digits > MAX_LONG_DIGITS ? new char[digits] : null;
+            for (int i = 0; i < digits; i++) {
+                int b = msg[offset + (i >> 1)];
+                int digit = (i & 1) == 0 ? (b >> 4) & 0x0F : b & 0x0F;
+                if (digit > 9) {
+                    sink.nullValue();
+                    return;
+                }
+                value = value * 10 + digit;
+                if (chars != null) {
+                    chars[i] = (char) ('0' + digit);
+                }
+            }
+
+            if (chars != null) {
+                BigInteger unscaled = new BigInteger(new String(chars));
+                sink.decimalValue(new BigDecimal(negative ? unscaled.negate() : unscaled, scale));
+            } else if (scale == 0) {
+                sink.longValue(negative ? -value : value);
+            } else {
+                sink.decimalValue(BigDecimal.valueOf(negative ? -value : value, scale));
+            }
+        }
+
+        @Override
+        public void encode(Object value, byte[] buffer, int offset, int length, int scale, String fieldName) {
+            BigInteger unscaled = toUnscaled(value == null ? 0 : value, scale, fieldName);
+            String digits = unscaled.abs().toString();
+            int capacity = length * 2 - 1;
+            if (digits.length() > capacity) {
+                throw new IllegalArgumentException(
+                    String.format("필드 '%s' 값 %s 이(가) 팩 필드 자릿수 %d 를 초과합니다.", fieldName, value, capacity));
+            }
+
+            fill(buffer, offset, length, (byte) 0);
+            buffer[offset + length - 1] = (byte) (unscaled.signum() < 0 ? 0x0D : 0x0C);
+            // 오른쪽부터 채움 (마지막 바이트의 상위 니블이 일의 자리)
+            int nibble = capacity - 1;
+            for (int i = digits.length() - 1; i >= 0; i--, nibble--) {
+                int digit = digits.charAt(i) - '0';
+                int index = offset + (nibble >> 1);
+                buffer[index] |= (byte) ((nibble & 1) == 0 ? digit << 4 : digit);
+            }
+        }
+    }
+
+    /** 일자 (yyyyMMdd) */
+    private static final class DateCodec implements FieldCodec {
+
+        @Override
+        public void decode(byte[] msg, int offset, int length, int scale, ParseResultSink sink) {
+            if (length != 8 || offset + length > msg.length || isEmptyValue(msg, offset, length)) {
+                sink.nullValue();
+                return;
+            }
+            int century = twoDigits(msg, offset);
+            int yy = twoDigits(msg, offset + 2);
+            int month = twoDigits(msg, offset + 4);
+            int day = twoDigits(msg, offset + 6);
+            if (century < 0 || yy < 0 || month < 1 || month > 12 || day < 1
+                    || day > daysInMonth(century * 100 + yy, month)) {
+                sink.nullValue();
+                return;
+            }
+
+            char[] chars = new char[10];
+            for (int i = 0, j = 0; i < 8; i++, j++) {
+                if (i == 4 || i == 6) {
+                    chars[j++] = '-';
+                }
+                chars[j] = (char) msg[offset + i];
+            }
+            sink.stringValue(new String(chars));
+        }
+
+        @Override
+        public void encode(Object value, byte[] buffer, int offset, int length, int scale, String fieldName) {
+            if (value == null) {
+                fill(buffer, offset, length, (byte) ' ');
+                return;
+            }
+            if (value instanceof LocalDate) {
+                LocalDate date = (LocalDate) value;
+                writeDigitsOnly(String.format("%04d%02d%02d", date.getYear(), date.getMonthValue(),
+                        date.getDayOfMonth()), 8, buffer, offset, length, fieldName);
+                return;
+            }
+            writeDigitsOnly(value.toString().trim(), 8, buffer, offset, length, fieldName);
+            int month = twoDigits(buffer, offset + 4);
+            int day = twoDigits(buffer, offset + 6);
+            int year = twoDigits(buffer, offset) * 100 + twoDigits(buffer, offset + 2);
+            if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+                throw new IllegalArgumentException(
+                    String.format("필드 '%s' 값이 올바른 일자가 아닙니다: %s", fieldName, value));
+            }
+        }
+
+        private static int daysInMonth(int year, int month) {
+            switch (month) {
+                case 2:
+                    return Year.isLeap(year) ? 29 : 28;
+                case 4:
+                case 6:
+                case 9:
+                case 11:
+                    return 30;
+                default:
+                    return 31;
+            }
+        }
+    }
+
+    /** 시각 (HHmmss) */
+    private static final class TimeCodec implements FieldCodec {
+
+        @Override
+        public void decode(byte[] msg, int offset, int length, int scale, ParseResultSink sink) {
+            if (length != 6 || offset + length > msg.length || isBlankField(msg, offset, length)) {
+                sink.nullValue();
+                return;
+            }
+            int hour = twoDigits(msg, offset);
+            int minute = twoDigits(msg, offset + 2);
+            int second = twoDigits(msg, offset + 4);
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+                sink.nullValue();
+                return;
+            }
+
+            char[] chars = {(char) msg[offset], (char) msg[offset + 1], ':',
+                    (char) msg[offset + 2], (char) msg[offset + 3], ':',
+                    (char) msg[offset + 4], (char) msg[offset + 5]};
+            sink.stringValue(new String(chars));
+        }
+
+        @Override
+        public void encode(Object value, byte[] buffer, int offset, int length, int scale, String fieldName) {
+            if (value == null) {
+                fill(buffer, offset, length, (byte) ' ');
+                return;
+            }
+            if (value instanceof LocalTime) {
+                LocalTime time = (LocalTime) value;
+                writeDigitsOnly(String.format("%02d%02d%02d", time.getHour(), time.getMinute(),
+                        time.get(ChronoField.SECOND_OF_MINUTE)), 6, buffer, offset, length, fieldName);
+                return;
+            }
+            writeDigitsOnly(value.toString().trim(), 6, buffer, offset, length, fieldName);
+            if (twoDigits(buffer, offset) > 23 || twoDigits(buffer, offset + 2) > 59
+                    || twoDigits(buffer, offset + 4) > 59) {
+                throw new IllegalArgumentException(
+                    String.format("필드 '%s' 값이 올바른 시각이 아닙니다: %s", fieldName, value));
+            }
+        }
+
+        /** 시각은 000000이 유효한 값이므로 공백만 빈 값으로 취급 */
+        private static boolean isBlankField(byte[] msg, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (!FieldParserHelper.isBlank(msg[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,213 +1,234 @@
 package com.example.tcpconverter.converter.parser;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.function.Function;
-
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.example.tcpconverter.converter.entity.ApiFieldObject;
-import com.example.tcpconverter.converter.entity.ApiFieldSpec;
-import com.example.tcpconverter.converter.service.ApiSpecRegistry;
-
 /**
  * TCP 메시지 파싱을 위한 헬퍼 클래스
- * 필드 값 추출, 타입 변환, 배열 카운트 처리 등의 공통 기능을 제공
+ * 필드 값 추출, 타입 변환 등의 공통 기능을 제공
+ *
+ * 레거시 호스트의 필드 길이는 바이트 단위이므로 모든 오프셋과 길이는 바이트 기준이며,
+ * 문자열 필드만 설정된 문자셋(converter.charset, 기본 MS949)으로 디코딩함
+ * 숫자 필드는 문자열을 만들지 않고 바이트에서 직접 변환
+ *
+ * 문자열 필드는 ASCII로만 구성되면 바이트를 그대로 문자열로 만들고, 그 외에는 스레드별 디코더와
+ * 문자 버퍼를 재사용하여 디코딩 (String(byte[], Charset)이 호출마다 만드는 디코더와 임시 배열을 생략)
+ *
+ * 필드 정렬, 타입 코드 해석, 배열 카운트 필드 탐색은 ParsePlanCompiler가 스펙 로딩 시점에 처리
  */
 @Component
 public class FieldParserHelper {
 
-    /** 배열 카운트 필드의 접미사 */
-    private static final String COUNT_FIELD_SUFFIX = "CNT";
+    /** 메시지 인코딩 문자셋 */
+    private final Charset charset;
+
+    /** 0x00~0x7F 바이트를 ASCII와 같은 문자로 디코딩하는 문자셋인지 (MS949, EUC-KR, UTF-8 등) */
+    private final boolean asciiCompatible;
+
+    /** 스레드별 디코더 */
+    private final ThreadLocal<Decoder> decoders;
+
+    /**
+     * 생성자 - 메시지 문자셋 설정
+     *
+     * @param charset 메시지 인코딩 문자셋 (예: MS949, EUC-KR)
+     */
+    public FieldParserHelper(@Value("${converter.charset:MS949}") Charset charset) {
+        this.charset = charset;
+        this.asciiCompatible = isAsciiCompatible(charset);
+        this.decoders = ThreadLocal.withInitial(() -> new Decoder(charset));
+    }
 
     /**
-     * 메시지에서 지정된 길이만큼 필드 값을 추출
-     * 
+     * 메시지 인코딩 문자셋 조회
+     *
+     * @return 메시지 인코딩 문자셋
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * 메시지에서 지정된 바이트 길이만큼 필드 값을 추출
+     *
      * @param msg 원본 메시지
      * @param position 현재 파싱 위치 (참조로 전달되어 업데이트됨)
-     * @param fieldLength 추출할 필드 길이
+     * @param fieldLength 추출할 필드 길이 (바이트)
      * @return 추출된 필드 값 (trim 처리됨)
      */
-    public String extractFieldValue(String msg, int[] position, int fieldLength) {
-        int end = Math.min(position[0] + fieldLength, msg.length());
-        String value = msg.substring(position[0], end).trim();
+    public String extractFieldValue(byte[] msg, int[] position, int fieldLength) {
+        String value = decode(msg, position[0], fieldLength);
         position[0] += fieldLength; // 파싱 위치 업데이트
         return value;
     }
 
     /**
      * 필드 값을 타입에 맞게 파싱
-     * 
-     * @param value 파싱할 값
-     * @param fieldType 필드 타입 코드
+     *
+     * @param msg 원본 메시지
+     * @param offset 필드 시작 위치 (바이트)
+     * @param length 필드 길이 (바이트)
+     * @param fieldType 필드 타입
      * @return 파싱된 값 (숫자 타입인 경우 Integer, 그 외에는 String)
      */
-    public Object parseFieldValue(String value, String fieldType) {
-        FieldType type = FieldType.fromCode(fieldType);
-        if (type == FieldType.NUMBER) {
-            Integer intValue = parseInteger(value);
-            return intValue != null ? intValue : value;
+    public Object parseFieldValue(byte[] msg, int offset, int length, FieldType fieldType) {
+        if (fieldType == FieldType.NUMBER) {
+            return parseInteger(msg, offset, length);
         }
-        return value;
+        return decode(msg, offset, length);
     }
 
     /**
-     * 문자열을 정수로 변환
-     * 변환 실패 시 0을 반환
-     * 
-     * @param value 변환할 문자열
-     * @return 변환된 정수 값 (실패 시 0)
+     * 필드 영역의 앞뒤 공백을 제거하고 문자열로 디코딩
+     * 메시지 범위를 벗어난 부분은 제외
+     *
+     * @param msg 원본 메시지
+     * @param offset 필드 시작 위치 (바이트)
+     * @param length 필드 길이 (바이트)
+     * @return 디코딩된 문자열 (trim 처리됨)
      */
-    public Integer parseInteger(String value) {
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
-            return 0;
+    public String decode(byte[] msg, int offset, int length) {
+        int start = Math.min(offset, msg.length);
+        int end = Math.min(offset + length, msg.length);
+        while (start < end && isBlank(msg[start])) {
+            start++;
+        }
+        while (end > start && isBlank(msg[end - 1])) {
+            end--;
         }
+        if (start == end) {
+            return "";
+        }
+        if (asciiCompatible && isAscii(msg, start, end)) {
+            return new String(msg, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        return decoders.get().decode(msg, start, end - start);
     }
 
     /**
-     * API 필드 스펙 리스트를 필드 순서별로 정렬
-     * 
-     * @param specList 정렬할 스펙 리스트
-     * @return 필드 순서별로 정렬된 리스트
+     * 필드 영역을 정수로 변환 (앞뒤 공백 허용, 부호 허용)
+     * 변환 실패 시 0을 반환
+     *
+     * @param msg 원본 메시지
+     * @param offset 필드 시작 위치 (바이트)
+     * @param length 필드 길이 (바이트)
+     * @return 변환된 정수 값 (실패 시 0)
      */
-    public List<ApiFieldSpec> getOrderedSpecs(List<ApiFieldSpec> specList) {
-        return specList.stream()
-                .sorted(Comparator.comparingInt(ApiFieldSpec::getFieldOrder))
-                .toList();
-    }
+    public int parseInteger(byte[] msg, int offset, int length) {
+        int start = Math.min(offset, msg.length);
+        int end = Math.min(offset + length, msg.length);
+        while (start < end && isBlank(msg[start])) {
+            start++;
+        }
+        while (end > start && isBlank(msg[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return 0;
+        }
 
-    /**
-     * API 필드 오브젝트 리스트를 필드 순서별로 정렬
-     * 
-     * @param children 정렬할 오브젝트 리스트
-     * @return 필드 순서별로 정렬된 리스트
-     */
-    public List<ApiFieldObject> getOrderedObjectFields(List<ApiFieldObject> children) {
-        return children.stream()
-                .sorted(Comparator.comparingInt(ApiFieldObject::getFieldOrder))
-                .toList();
-    }
+        boolean negative = msg[start] == '-';
+        if (negative || msg[start] == '+') {
+            start++;
+            if (start == end) {
+                return 0;
+            }
+        }
 
-    /**
-     * API 스펙 기반 배열 카운트 조회
-     * 캐시된 값이 있으면 반환하고, 없으면 메시지에서 파싱
-     * 
-     * @param fieldName 배열 필드명
-     * @param result 파싱 결과 맵 (캐시 용도)
-     * @param apiCode API 코드
-     * @param msg 원본 메시지
-     * @param position 현재 파싱 위치
-     * @param apiSpecRegistry API 스펙 레지스트리
-     * @return 배열 카운트 값
-     */
-    public int getArrayCount(String fieldName, Map<String, Object> result, String apiCode,
-                             String msg, int[] position, ApiSpecRegistry apiSpecRegistry) {
-        return getCount(fieldName, result, msg, position, (countFieldName) -> {
-            // ApiFieldSpec에서 카운트 필드 찾기
-            List<ApiFieldSpec> specList = apiSpecRegistry.getSpec(apiCode);
-            if (specList != null) {
-                Optional<ApiFieldSpec> countSpec = specList.stream()
-                        .filter(s -> countFieldName.equals(s.getFieldName()))
-                        .findFirst();
-
-                if (countSpec.isPresent()) {
-                    return parseAndStoreCount(countFieldName, msg, position, countSpec.get().getFieldLength(), result);
-                }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = msg[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return 0;
             }
-            return 0;
-        });
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return 0;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? 0 : (int) value;
     }
 
     /**
-     * API 오브젝트 기반 배열 카운트 조회
-     * 캐시된 값이 있으면 반환하고, 없으면 메시지에서 파싱
-     * 
-     * @param fieldName 배열 필드명
-     * @param result 파싱 결과 맵 (캐시 용도)
-     * @param child 자식 오브젝트 정보
+     * 숫자로만 구성된 고정 길이 필드를 0 이상의 정수로 변환 (공백, 부호 불허)
+     *
      * @param msg 원본 메시지
-     * @param position 현재 파싱 위치
-     * @param apiSpecRegistry API 스펙 레지스트리
-     * @return 배열 카운트 값
+     * @param offset 필드 시작 위치 (바이트)
+     * @param length 필드 길이 (바이트)
+     * @return 변환된 값, 숫자가 아닌 문자가 있거나 범위를 벗어나면 -1
      */
-    public int getObjectArrayCount(String fieldName, Map<String, Object> result, ApiFieldObject child,
-                                   String msg, int[] position, ApiSpecRegistry apiSpecRegistry) {
-        return getCount(fieldName, result, msg, position, (countFieldName) -> {
-            // ApiFieldObject에서 카운트 필드 찾기
-            List<ApiFieldObject> siblings = apiSpecRegistry.getObjectFields(child.getApiCode(), child.getFieldName());
-            Optional<ApiFieldObject> countField = siblings.stream()
-                    .filter(s -> countFieldName.equals(s.getFieldName()))
-                    .findFirst();
-
-            if (countField.isPresent()) {
-                return parseAndStoreCount(countFieldName, msg, position, countField.get().getFieldLength(), result);
+    public int parseUnsignedNumber(byte[] msg, int offset, int length) {
+        if (length <= 0 || offset + length > msg.length) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = msg[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
             }
-            return 0;
-        });
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) value;
     }
 
-    /**
-     * 배열 카운트 조회 공통 로직
-     * 1. 캐시된 카운트 값 확인
-     * 2. 없으면 파서를 통해 새로 파싱
-     * 
-     * @param fieldName 배열 필드명
-     * @param result 파싱 결과 맵
-     * @param msg 원본 메시지
-     * @param position 현재 파싱 위치
-     * @param countParser 카운트 파싱 함수
-     * @return 배열 카운트 값
-     */
-    private int getCount(String fieldName, Map<String, Object> result, String msg, int[] position,
-                        java.util.function.Function<String, Integer> countParser) {
-        String countFieldName = fieldName + COUNT_FIELD_SUFFIX;
-
-        // 이전 파싱된 카운트 필드가 있는지 확인 (캐시 활용)
-        Integer count = extractCountFromResult(result, countFieldName);
-        if (count != null) {
-            return count;
+    private static boolean isAscii(byte[] msg, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (msg[i] < 0) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        // 카운트 필드를 찾아서 파싱
-        return countParser.apply(countFieldName);
+    private static boolean isAsciiCompatible(Charset charset) {
+        byte[] ascii = new byte[128];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (byte) i;
+        }
+        return new String(ascii, charset).equals(new String(ascii, StandardCharsets.US_ASCII));
     }
 
     /**
-     * 카운트 값을 메시지에서 파싱하고 결과 맵에 저장
-     * 
-     * @param countFieldName 카운트 필드명
-     * @param msg 원본 메시지
-     * @param position 현재 파싱 위치
-     * @param fieldLength 필드 길이
-     * @param result 파싱 결과 맵
-     * @return 파싱된 카운트 값
+     * 재사용 디코더 (한 스레드 전용)
+     * 잘못된 바이트는 String(byte[], Charset)과 같이 대체 문자로 디코딩
      */
-    private int parseAndStoreCount(String countFieldName, String msg, int[] position, int fieldLength, Map<String, Object> result) {
-        String countValue = extractFieldValue(msg, position, fieldLength);
-        int count = parseInteger(countValue);
-        result.put(countFieldName, count); // 캐시를 위해 결과 맵에 저장
-        return count;
+    private static final class Decoder {
+        private final CharsetDecoder decoder;
+        private CharBuffer chars = CharBuffer.allocate(64);
+
+        private Decoder(Charset charset) {
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        private String decode(byte[] msg, int offset, int length) {
+            int capacity = (int) Math.ceil(length * (double) decoder.maxCharsPerByte());
+            if (chars.capacity() < capacity) {
+                chars = CharBuffer.allocate(capacity);
+            }
+            chars.clear();
+            decoder.reset();
+            decoder.decode(ByteBuffer.wrap(msg, offset, length), chars, true);
+            decoder.flush(chars);
+            return new String(chars.array(), 0, chars.position());
+        }
     }
 
-    /**
-     * 파싱 결과 맵에서 카운트 값 추출
-     * Integer 또는 String 타입을 지원
-     * 
-     * @param result 파싱 결과 맵
-     * @param countFieldName 카운트 필드명
-     * @return 추출된 카운트 값 (없으면 null)
-     */
-    private Integer extractCountFromResult(Map<String, Object> result, String countFieldName) {
-        Object countObj = result.get(countFieldName);
-        if (countObj instanceof Integer) {
-            return (Integer) countObj;
-        } else if (countObj instanceof String) {
-            return parseInteger((String) countObj);
-        }
-        return null;
+    /** String.trim()과 동일하게 0x20 이하의 바이트를 공백으로 취급 */
+    static boolean isBlank(byte b) {
+        return (b & 0xFF) <= ' ';
     }
 }
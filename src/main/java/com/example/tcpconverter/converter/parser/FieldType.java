@@ -1,21 +1,53 @@
 package com.example.tcpconverter.converter.parser;
 
+/**
+ * 스펙의 필드 타입 코드
+ *
+ * O/A/N/C 외의 타입은 FieldCodec으로 메시지 버퍼에서 바로 값을 읽고 쓰며,
+ * 새 타입은 코드와 코덱을 함께 추가하여 확장
+ */
 public enum FieldType {
-    OBJECT("O"),
-    ARRAY("A"),
-    NUMBER("N"),
-    STRING("C");
+    OBJECT("O", null),
+    ARRAY("A", null),
+    NUMBER("N", null),
+    STRING("C", null),
+
+    /** 부호 있는 64비트 정수 (선행/후행 부호) */
+    LONG("L", FieldCodecs.LONG),
+
+    /** 소수점이 생략된 고정 소수 (선행/후행 부호, 소수 자릿수는 fieldScale) */
+    DECIMAL("D", FieldCodecs.DECIMAL),
+
+    /** COMP-3 팩 10진수 (마지막 니블이 부호, 소수 자릿수는 fieldScale) */
+    PACKED("P", FieldCodecs.PACKED),
+
+    /** 일자 (yyyyMMdd, 출력은 yyyy-MM-dd) */
+    DATE("Y", FieldCodecs.DATE),
+
+    /** 시각 (HHmmss, 출력은 HH:mm:ss) */
+    TIME("T", FieldCodecs.TIME);
 
     private final String code;
+    private final FieldCodec codec;
 
-    FieldType(String code) {
+    FieldType(String code, FieldCodec codec) {
         this.code = code;
+        this.codec = codec;
     }
 
     public String getCode() {
         return code;
     }
 
+    /**
+     * 타입 전용 코덱
+     *
+     * @return 코덱, 오브젝트/배열/문자/숫자(N) 타입은 null
+     */
+    public FieldCodec getCodec() {
+        return codec;
+    }
+
     public static FieldType fromCode(String code) {
         for (FieldType type : values()) {
             if (type.code.equals(code)) {
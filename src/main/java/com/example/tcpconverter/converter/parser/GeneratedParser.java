@@ -0,0 +1,18 @@
+package com.example.tcpconverter.converter.parser;
+
+/**
+ * 파싱 플랜 하나 전용으로 생성된 파서
+ * GeneratedParserCompiler가 플랜 구조를 펼친 바이트코드로 구현하며, 출력 대상 호출 순서는 TcpMessageParser의 해석 방식과 동일
+ */
+interface GeneratedParser {
+
+    /**
+     * TCP 메시지 파싱
+     *
+     * @param plan 이 파서를 생성한 파싱 플랜 (생성된 클래스는 플랜을 참조하지 않음)
+     * @param msg 파싱할 TCP 메시지 (원본 바이트)
+     * @param counts 0으로 초기화한 배열 카운트 슬롯 (플랜의 슬롯 수 이상)
+     * @param sink 파싱 결과 출력 대상
+     */
+    void parse(ParsePlan plan, byte[] msg, int[] counts, ParseResultSink sink);
+}
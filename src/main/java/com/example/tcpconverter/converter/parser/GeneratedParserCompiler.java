@@ -0,0 +1,386 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * 파싱 플랜 전용 파서 클래스 생성기
+ *
+ * 플랜 순회를 바이트코드로 펼쳐 노드 배열 조회와 타입 분기 없이 파싱하는 클래스를 만들고
+ * 히든 클래스로 정의 (플랜이 수거되면 클래스도 함께 언로드됨)
+ *
+ * 생성되는 코드:
+ * - 루트/오브젝트/배열 요소마다 메서드 하나, 하위 필드를 순서대로 펼친 직선 코드
+ * - 가변 길이 필드 전까지는 (시작 위치 + 상수 오프셋)으로 필드 위치를 계산
+ * - 노드 번호, 길이, 소수 자릿수는 상수로 포함하고 타입별 디코딩과 ParseResultSink 호출을 직접 생성
+ * - 병렬 디코딩 대상 배열은 TcpMessageParser의 병렬 디코딩을 그대로 호출
+ *
+ * 결과는 ParseResultSink로 전달하므로 결과 맵 생성과 JSON 스트리밍 출력에 같은 클래스를 사용하며,
+ * 출력 대상 호출 순서(배열 크기 통지 포함)는 TcpMessageParser의 해석 방식 파싱과 동일
+ */
+final class GeneratedParserCompiler implements Opcodes {
+
+    /** 히든 클래스를 정의할 패키지 (생성된 클래스는 이 패키지의 package-private 멤버에 접근) */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String PACKAGE = GeneratedParserCompiler.class.getPackageName().replace('.', '/');
+    private static final String OBJECT_CLASS = Type.getInternalName(Object.class);
+    private static final String SINK = Type.getInternalName(ParseResultSink.class);
+    private static final String PARSER = Type.getInternalName(TcpMessageParser.class);
+    private static final String HELPER = Type.getInternalName(FieldParserHelper.class);
+    private static final String FIELD_TYPE = Type.getInternalName(FieldType.class);
+    private static final String FIELD_CODEC = Type.getInternalName(FieldCodec.class);
+
+    private static final String PLAN_DESC = Type.getDescriptor(ParsePlan.class);
+    private static final String SINK_DESC = Type.getDescriptor(ParseResultSink.class);
+    private static final String PARSER_DESC = Type.getDescriptor(TcpMessageParser.class);
+    private static final String HELPER_DESC = Type.getDescriptor(FieldParserHelper.class);
+    private static final String NODE_DESC = "(" + PLAN_DESC + "[BI[I" + SINK_DESC + ")I";
+
+    // 노드 메서드의 지역 변수 슬롯
+    private static final int PLAN = 1;
+    private static final int MSG = 2;
+    private static final int POS = 3;
+    private static final int COUNTS = 4;
+    private static final int OUT = 5;
+    private static final int COUNT = 6;
+    private static final int INDEX = 7;
+    private static final int END = 8;
+
+    private final ParsePlan plan;
+    private final int parallelThreshold;
+    private final String className;
+
+    private GeneratedParserCompiler(ParsePlan plan, int parallelThreshold) {
+        this.plan = plan;
+        this.parallelThreshold = parallelThreshold;
+        this.className = PACKAGE + "/GeneratedParser$" + plan.getApiCode().replaceAll("[^A-Za-z0-9_]", "_");
+    }
+
+    /**
+     * 플랜 전용 파서 생성
+     *
+     * @param parser 병렬 디코딩을 위임할 파서
+     * @param fieldParserHelper 필드 디코딩 헬퍼
+     * @param plan 파싱 플랜
+     * @param parallelThreshold 병렬 디코딩을 시작하는 배열 요소 수 (0이면 병렬 디코딩 코드를 생성하지 않음)
+     * @return 생성된 파서 (플랜 참조를 갖지 않음)
+     * @throws IndexOutOfBoundsException 필드가 너무 많아 메서드 크기 제한(64KB)을 넘는 경우
+     * @throws IllegalStateException 클래스 정의나 생성에 실패한 경우
+     */
+    static GeneratedParser compile(TcpMessageParser parser, FieldParserHelper fieldParserHelper, ParsePlan plan,
+                                   int parallelThreshold) {
+        byte[] bytecode = new GeneratedParserCompiler(plan, parallelThreshold).generate();
+        try {
+            MethodHandles.Lookup lookup = LOOKUP.defineHiddenClass(bytecode, true);
+            MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(),
+                    MethodType.methodType(void.class, TcpMessageParser.class, FieldParserHelper.class));
+            return (GeneratedParser) constructor.invoke(parser, fieldParserHelper);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("전용 파서 생성에 실패했습니다: " + plan.getApiCode(), e);
+        }
+    }
+
+    private byte[] generate() {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // 지역 변수 병합에 쓰이는 타입은 모두 Object로 다뤄도 충분 (클래스 로딩 방지)
+                return OBJECT_CLASS;
+            }
+        };
+        writer.visit(V17, ACC_FINAL | ACC_SUPER, className, null, OBJECT_CLASS,
+                new String[] {Type.getInternalName(GeneratedParser.class)});
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "parser", PARSER_DESC, null, null).visitEnd();
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "helper", HELPER_DESC, null, null).visitEnd();
+
+        generateConstructor(writer);
+        generateParse(writer);
+        for (int node = 0; node < plan.getNodeCount(); node++) {
+            if (node == ParsePlan.ROOT || plan.getType(node) == FieldType.OBJECT
+                    || plan.getType(node) == FieldType.ARRAY) {
+                generateNode(writer, node);
+            }
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private void generateConstructor(ClassWriter writer) {
+        MethodVisitor mv = writer.visitMethod(0, "<init>", "(" + PARSER_DESC + HELPER_DESC + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, OBJECT_CLASS, "<init>", "()V", false);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(PUTFIELD, className, "parser", PARSER_DESC);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitFieldInsn(PUTFIELD, className, "helper", HELPER_DESC);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * parse(plan, msg, counts, sink): 위치 0에서 루트 노드 메서드 호출
+     */
+    private void generateParse(ClassWriter writer) {
+        MethodVisitor mv = writer.visitMethod(ACC_PUBLIC, "parse", "(" + PLAN_DESC + "[B[I" + SINK_DESC + ")V",
+                null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitVarInsn(ALOAD, 4);
+        mv.visitMethodInsn(INVOKEVIRTUAL, className, nodeMethod(ParsePlan.ROOT), NODE_DESC, false);
+        mv.visitInsn(POP);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * 오브젝트(또는 배열 요소) 노드 메서드: beginObject, 하위 필드, endObject를 출력하고 다음 파싱 위치 반환
+     * 고정 길이 구간은 위치 변수를 갱신하지 않고 상수 오프셋(delta)을 누적
+     */
+    private void generateNode(ClassWriter writer, int node) {
+        MethodVisitor mv = writer.visitMethod(ACC_PRIVATE, nodeMethod(node), NODE_DESC, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, OUT);
+        mv.visitVarInsn(ALOAD, PLAN);
+        push(mv, node);
+        mv.visitMethodInsn(INVOKEINTERFACE, SINK, "beginObject", "(" + PLAN_DESC + "I)V", true);
+
+        int delta = 0;
+        int first = plan.getFirstChild(node);
+        for (int child = first; child < first + plan.getChildCount(node); child++) {
+            switch (plan.getType(child)) {
+                case OBJECT:
+                    delta = generateObjectField(mv, child, delta);
+                    break;
+                case ARRAY:
+                    advance(mv, delta);
+                    generateArrayField(mv, child);
+                    delta = 0;
+                    break;
+                default:
+                    generatePrimitiveField(mv, child, delta);
+                    delta += plan.getLength(child);
+            }
+        }
+
+        mv.visitVarInsn(ALOAD, OUT);
+        mv.visitMethodInsn(INVOKEINTERFACE, SINK, "endObject", "()V", true);
+        loadPosition(mv, delta);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private int generateObjectField(MethodVisitor mv, int node, int delta) {
+        fieldName(mv, node);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, PLAN);
+        mv.visitVarInsn(ALOAD, MSG);
+        loadPosition(mv, delta);
+        mv.visitVarInsn(ALOAD, COUNTS);
+        mv.visitVarInsn(ALOAD, OUT);
+        mv.visitMethodInsn(INVOKEVIRTUAL, className, nodeMethod(node), NODE_DESC, false);
+
+        // 고정 길이 오브젝트는 다음 필드 위치도 상수 오프셋으로 계속 계산
+        if (plan.getFixedSize(node) != ParsePlan.NONE) {
+            mv.visitInsn(POP);
+            return delta + plan.getFixedSize(node);
+        }
+        mv.visitVarInsn(ISTORE, POS);
+        return 0;
+    }
+
+    private void generateArrayField(MethodVisitor mv, int node) {
+        int countNode = plan.getCountNode(node);
+        if (countNode == ParsePlan.NONE) {
+            mv.visitInsn(ICONST_0);
+        } else if (plan.isInlineCount(node)) {
+            readInteger(mv, 0, plan.getLength(countNode));
+            mv.visitVarInsn(ISTORE, COUNT);
+            fieldName(mv, countNode);
+            mv.visitVarInsn(ALOAD, OUT);
+            mv.visitVarInsn(ILOAD, COUNT);
+            mv.visitMethodInsn(INVOKEINTERFACE, SINK, "intValue", "(I)V", true);
+            advance(mv, plan.getLength(countNode));
+            mv.visitVarInsn(ILOAD, COUNT);
+        } else {
+            mv.visitVarInsn(ALOAD, COUNTS);
+            push(mv, plan.getCountSlot(countNode));
+            mv.visitInsn(IALOAD);
+        }
+        mv.visitInsn(ICONST_0);
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/Math", "max", "(II)I", false);
+        mv.visitVarInsn(ISTORE, COUNT);
+        fieldName(mv, node);
+
+        Label done = new Label();
+        if (parallelThreshold > 0 && plan.getElementSize(node) != ParsePlan.NONE) {
+            generateParallelElements(mv, node, done);
+        }
+
+        mv.visitVarInsn(ALOAD, OUT);
+        mv.visitVarInsn(ALOAD, PLAN);
+        push(mv, node);
+        mv.visitVarInsn(ILOAD, COUNT);
+        mv.visitMethodInsn(INVOKEINTERFACE, SINK, "beginArray", "(" + PLAN_DESC + "II)V", true);
+
+        Label loop = new Label();
+        Label end = new Label();
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ISTORE, INDEX);
+        mv.visitLabel(loop);
+        mv.visitVarInsn(ILOAD, INDEX);
+        mv.visitVarInsn(ILOAD, COUNT);
+        mv.visitJumpInsn(IF_ICMPGE, end);
+
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, PLAN);
+        mv.visitVarInsn(ALOAD, MSG);
+        mv.visitVarInsn(ILOAD, POS);
+        mv.visitVarInsn(ALOAD, COUNTS);
+        mv.visitVarInsn(ALOAD, OUT);
+        mv.visitMethodInsn(INVOKEVIRTUAL, className, nodeMethod(node), NODE_DESC, false);
+        mv.visitVarInsn(ISTORE, POS);
+        mv.visitIincInsn(INDEX, 1);
+        mv.visitJumpInsn(GOTO, loop);
+        mv.visitLabel(end);
+
+        mv.visitVarInsn(ALOAD, OUT);
+        mv.visitMethodInsn(INVOKEINTERFACE, SINK, "endArray", "()V", true);
+        mv.visitLabel(done);
+    }
+
+    /**
+     * TcpMessageParser의 병렬 디코딩을 호출하고, 병렬로 출력했으면 배열 끝으로 이동
+     * (요소 수 기준, 메시지 길이, 출력 대상 지원 여부는 TcpMessageParser에서 확인)
+     */
+    private void generateParallelElements(MethodVisitor mv, int node, Label done) {
+        Label sequential = new Label();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, className, "parser", PARSER_DESC);
+        mv.visitVarInsn(ALOAD, PLAN);
+        push(mv, node);
+        mv.visitVarInsn(ALOAD, MSG);
+        mv.visitVarInsn(ILOAD, POS);
+        mv.visitVarInsn(ILOAD, COUNT);
+        mv.visitInsn(ACONST_NULL);
+        mv.visitVarInsn(ALOAD, OUT);
+        mv.visitMethodInsn(INVOKEVIRTUAL, PARSER, "parseElementsInParallel",
+                "(" + PLAN_DESC + "I[BII" + Type.getDescriptor(Projection.class) + SINK_DESC + ")I", false);
+        mv.visitVarInsn(ISTORE, END);
+        mv.visitVarInsn(ILOAD, END);
+        mv.visitJumpInsn(IFLT, sequential);
+        mv.visitVarInsn(ILOAD, END);
+        mv.visitVarInsn(ISTORE, POS);
+        mv.visitJumpInsn(GOTO, done);
+        mv.visitLabel(sequential);
+    }
+
+    private void generatePrimitiveField(MethodVisitor mv, int node, int delta) {
+        int length = plan.getLength(node);
+        if (plan.getCountSlot(node) != ParsePlan.NONE) {
+            mv.visitVarInsn(ALOAD, COUNTS);
+            push(mv, plan.getCountSlot(node));
+            readInteger(mv, delta, length);
+            mv.visitInsn(IASTORE);
+        }
+
+        fieldName(mv, node);
+        FieldType type = plan.getType(node);
+        if (type == FieldType.NUMBER) {
+            mv.visitVarInsn(ALOAD, OUT);
+            readInteger(mv, delta, length);
+            mv.visitMethodInsn(INVOKEINTERFACE, SINK, "intValue", "(I)V", true);
+        } else if (type.getCodec() != null) {
+            mv.visitFieldInsn(GETSTATIC, FIELD_TYPE, type.name(), "L" + FIELD_TYPE + ";");
+            mv.visitMethodInsn(INVOKEVIRTUAL, FIELD_TYPE, "getCodec", "()L" + FIELD_CODEC + ";", false);
+            mv.visitVarInsn(ALOAD, MSG);
+            loadPosition(mv, delta);
+            push(mv, length);
+            push(mv, plan.getScale(node));
+            mv.visitVarInsn(ALOAD, OUT);
+            mv.visitMethodInsn(INVOKEINTERFACE, FIELD_CODEC, "decode", "([BIII" + SINK_DESC + ")V", true);
+        } else {
+            mv.visitVarInsn(ALOAD, OUT);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, className, "helper", HELPER_DESC);
+            mv.visitVarInsn(ALOAD, MSG);
+            loadPosition(mv, delta);
+            push(mv, length);
+            mv.visitMethodInsn(INVOKEVIRTUAL, HELPER, "decode", "([BII)Ljava/lang/String;", false);
+            mv.visitMethodInsn(INVOKEINTERFACE, SINK, "stringValue", "(Ljava/lang/String;)V", true);
+        }
+    }
+
+    /** sink.fieldName(plan, node) */
+    private static void fieldName(MethodVisitor mv, int node) {
+        mv.visitVarInsn(ALOAD, OUT);
+        mv.visitVarInsn(ALOAD, PLAN);
+        push(mv, node);
+        mv.visitMethodInsn(INVOKEINTERFACE, SINK, "fieldName", "(" + PLAN_DESC + "I)V", true);
+    }
+
+    /** helper.parseInteger(msg, pos + delta, length) */
+    private void readInteger(MethodVisitor mv, int delta, int length) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, className, "helper", HELPER_DESC);
+        mv.visitVarInsn(ALOAD, MSG);
+        loadPosition(mv, delta);
+        push(mv, length);
+        mv.visitMethodInsn(INVOKEVIRTUAL, HELPER, "parseInteger", "([BII)I", false);
+    }
+
+    private void loadPosition(MethodVisitor mv, int delta) {
+        mv.visitVarInsn(ILOAD, POS);
+        if (delta != 0) {
+            push(mv, delta);
+            mv.visitInsn(IADD);
+        }
+    }
+
+    private void advance(MethodVisitor mv, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (delta <= Short.MAX_VALUE) {
+            mv.visitIincInsn(POS, delta);
+        } else {
+            loadPosition(mv, delta);
+            mv.visitVarInsn(ISTORE, POS);
+        }
+    }
+
+    private static void push(MethodVisitor mv, int value) {
+        if (value >= -1 && value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+
+    private static String nodeMethod(int node) {
+        return "node" + node;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자주 파싱되는 플랜의 전용 파서 관리
+ *
+ * 플랜별 파싱 횟수가 기준에 도달하면 GeneratedParserCompiler로 전용 파서를 생성하여 이후 파싱에 사용
+ * 생성에 실패한 플랜(필드가 너무 많아 메서드 크기 제한을 넘는 경우 등)은 계속 해석 방식으로 파싱
+ *
+ * 스펙 재적재로 교체된 플랜은 더 이상 조회되지 않으므로 일정 시간 후 항목에서 제거되어 전용 파서 클래스와 함께 수거됨
+ * (약한 참조 키는 조회마다 참조 객체를 할당하므로 사용하지 않음)
+ */
+@Slf4j
+final class GeneratedParsers {
+
+    private final TcpMessageParser parser;
+    private final FieldParserHelper fieldParserHelper;
+
+    /** 전용 파서를 생성하는 플랜별 파싱 횟수 (0이면 생성하지 않음) */
+    private final int threshold;
+
+    /** 병렬 디코딩을 시작하는 배열 요소 수 */
+    private final int parallelThreshold;
+
+    /** 마지막 조회 후 항목을 제거하는 시간 */
+    private static final Duration IDLE_EXPIRY = Duration.ofHours(1);
+
+    private final Cache<ParsePlan, Entry> entries = Caffeine.newBuilder().expireAfterAccess(IDLE_EXPIRY).build();
+
+    GeneratedParsers(TcpMessageParser parser, FieldParserHelper fieldParserHelper, int threshold,
+                     int parallelThreshold) {
+        this.parser = parser;
+        this.fieldParserHelper = fieldParserHelper;
+        this.threshold = threshold;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * 플랜의 전용 파서 조회 (파싱 횟수를 세고 기준에 도달하면 생성)
+     *
+     * @param plan 파싱 플랜
+     * @return 전용 파서, 아직 기준에 도달하지 않았거나 생성에 실패한 경우 null
+     */
+    GeneratedParser find(ParsePlan plan) {
+        if (threshold <= 0) {
+            return null;
+        }
+        Entry entry = entries.get(plan, key -> new Entry());
+        GeneratedParser generated = entry.parser;
+        if (generated != null || entry.failed || entry.calls.incrementAndGet() < threshold) {
+            return generated;
+        }
+        return compile(plan, entry);
+    }
+
+    /**
+     * 전용 파서 생성 (같은 플랜은 한 번만 생성)
+     */
+    private GeneratedParser compile(ParsePlan plan, Entry entry) {
+        synchronized (entry) {
+            if (entry.parser == null && !entry.failed) {
+                try {
+                    entry.parser = GeneratedParserCompiler.compile(parser, fieldParserHelper, plan, parallelThreshold);
+                    log.info("전용 파서 생성: apiCode={}, nodes={}", plan.getApiCode(), plan.getNodeCount());
+                } catch (RuntimeException | LinkageError e) {
+                    entry.failed = true;
+                    log.warn("전용 파서 생성 실패, 해석 방식으로 파싱: apiCode={}, 원인={}",
+                            plan.getApiCode(), e.toString());
+                }
+            }
+            return entry.parser;
+        }
+    }
+
+    /** 플랜별 파싱 횟수와 생성 결과 */
+    private static final class Entry {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile GeneratedParser parser;
+        private volatile boolean failed;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * 파싱 결과를 JsonGenerator로 바로 출력하는 출력 대상
+ * 필드명은 플랜에 미리 인코딩된 값을 사용하고, 숫자는 박싱 없이 출력
+ *
+ * 병렬 디코딩하는 배열은 구간마다 같은 기능 설정의 JsonGenerator로 요소를 문자열 버퍼에 출력한 뒤,
+ * 원래 JsonGenerator에 구간 순서대로 이어 붙임 (들여쓰기 출력 중에는 순차 출력)
+ *
+ * 쓰기 오류는 UncheckedIOException으로 감싸며, TcpMessageParser.write에서 IOException으로 다시 던짐
+ */
+final class JsonGeneratorResultSink implements ParseResultSink {
+
+    /** 코덱이 없는 JsonGenerator의 구간 출력에 사용할 팩토리 */
+    private static final JsonFactory DEFAULT_FACTORY = new JsonFactory();
+
+    /** 구간 출력 버퍼에서 요소 사이 구분자 (최상위 값으로 출력) */
+    private static final SerializedString ELEMENT_SEPARATOR = new SerializedString(",");
+
+    /** 구간 문자열 버퍼의 요소당 예상 길이 */
+    private static final int ESTIMATED_ELEMENT_LENGTH = 64;
+
+    private final JsonGenerator generator;
+
+    /** 배열 요소 구간용 출력 대상이면 출력 버퍼 */
+    private final StringWriter buffer;
+
+    JsonGeneratorResultSink(JsonGenerator generator) {
+        this(generator, null);
+    }
+
+    private JsonGeneratorResultSink(JsonGenerator generator, StringWriter buffer) {
+        this.generator = generator;
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void beginObject(ParsePlan plan, int node) {
+        try {
+            generator.writeStartObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void endObject() {
+        try {
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void beginArray(ParsePlan plan, int node, int size) {
+        try {
+            generator.writeStartArray(null, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void endArray() {
+        try {
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void fieldName(ParsePlan plan, int node) {
+        try {
+            generator.writeFieldName(plan.getJsonName(node));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void stringValue(String value) {
+        try {
+            generator.writeString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void intValue(int value) {
+        try {
+            generator.writeNumber(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void longValue(long value) {
+        try {
+            generator.writeNumber(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void decimalValue(BigDecimal value) {
+        try {
+            generator.writeNumber(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void nullValue() {
+        try {
+            generator.writeNull();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean acceptsElementChunks() {
+        return generator.getPrettyPrinter() == null;
+    }
+
+    @Override
+    public ParseResultSink newElementChunk(int size) {
+        JsonFactory factory = generator.getCodec() != null ? generator.getCodec().getFactory() : DEFAULT_FACTORY;
+        StringWriter chunkBuffer = new StringWriter(size * ESTIMATED_ELEMENT_LENGTH);
+        try {
+            JsonGenerator chunkGenerator = factory.createGenerator(chunkBuffer);
+            chunkGenerator.overrideStdFeatures(generator.getFeatureMask(), -1);
+            chunkGenerator.overrideFormatFeatures(generator.getFormatFeatures(), -1);
+            chunkGenerator.setRootValueSeparator(ELEMENT_SEPARATOR);
+            return new JsonGeneratorResultSink(chunkGenerator, chunkBuffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void elementChunks(ParsePlan plan, int node, int size, List<ParseResultSink> chunks) {
+        try {
+            generator.writeStartArray(null, size);
+            for (ParseResultSink chunk : chunks) {
+                generator.writeRawValue(((JsonGeneratorResultSink) chunk).chunkText());
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 구간에 출력한 요소 (쉼표로 구분한 JSON 값)
+     */
+    private String chunkText() throws IOException {
+        generator.close();
+        return buffer.toString();
+    }
+}
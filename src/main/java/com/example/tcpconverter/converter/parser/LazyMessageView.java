@@ -0,0 +1,401 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 원본 메시지 바이트를 그대로 참조하는 읽기 전용 지연 디코딩 뷰
+ *
+ * 결과 맵을 미리 만들지 않고, 필드를 처음 조회할 때 해당 위치만 디코딩하여 보관
+ * 하위 오브젝트와 배열도 같은 방식의 뷰이며, 필드 위치는 조회한 필드까지만 계산
+ * (고정 길이 필드는 길이만 더하고, 가변 길이 서브트리는 배열 카운트 필드만 읽어 크기를 계산)
+ *
+ * 키 순서와 값은 TcpMessageParser.parse 결과 맵과 동일
+ * 원본 바이트 배열을 복사하지 않으므로 뷰를 사용하는 동안 배열을 수정하면 안 되며,
+ * 디코딩 결과 보관에 동기화를 하지 않으므로 한 스레드에서만 사용
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+final class LazyMessageView {
+
+    /** 아직 디코딩하지 않은 값 */
+    private static final Object UNRESOLVED = new Object();
+
+    private final TcpMessageParser parser;
+    private final ParsePlan plan;
+    private final byte[] msg;
+
+    /** 오브젝트 노드별 키 구성 (처음 조회할 때 생성하여 배열 요소끼리 공유) */
+    private final Keys[] keys;
+
+    /** 가변 길이 서브트리 크기 계산 중 읽은 배열 카운트 값 슬롯 */
+    private final int[] counts;
+
+    /** 원시 값 하나를 받는 출력 대상 */
+    private final ValueSink valueSink = new ValueSink();
+
+    private LazyMessageView(TcpMessageParser parser, ParsePlan plan, byte[] msg) {
+        this.parser = parser;
+        this.plan = plan;
+        this.msg = msg;
+        this.keys = new Keys[plan.getNodeCount()];
+        this.counts = new int[plan.getCountSlotCount()];
+    }
+
+    /**
+     * 메시지 전체에 대한 루트 오브젝트 뷰 생성
+     *
+     * @param parser 원시 값 디코딩에 사용할 파서
+     * @param plan 파싱 플랜
+     * @param msg TCP 메시지 (원본 바이트)
+     * @return 루트 오브젝트 뷰
+     */
+    static Map<String, Object> of(TcpMessageParser parser, ParsePlan plan, byte[] msg) {
+        return new LazyMessageView(parser, plan, msg).new ObjectView(ParsePlan.ROOT, 0);
+    }
+
+    private Keys keys(int node) {
+        Keys result = keys[node];
+        if (result == null) {
+            result = Keys.build(plan, node);
+            keys[node] = result;
+        }
+        return result;
+    }
+
+    private Object decode(int node, int offset) {
+        parser.decodeValue(plan, node, msg, offset, valueSink);
+        return valueSink.getValue();
+    }
+
+    private int readCount(int countNode, int offset) {
+        return Math.max(parser.readInteger(plan, countNode, msg, offset), 0);
+    }
+
+    /**
+     * 배열 전체 길이 (배열 위치에서 읽는 카운트 필드 포함)
+     */
+    private int arraySize(int node, int offset, int count) {
+        int header = plan.isInlineCount(node) ? plan.getLength(plan.getCountNode(node)) : 0;
+        int elementSize = plan.getElementSize(node);
+        if (elementSize != ParsePlan.NONE) {
+            return header + count * elementSize;
+        }
+        int position = offset + header;
+        for (int i = 0; i < count; i++) {
+            position += childrenSize(node, position);
+        }
+        return position - offset;
+    }
+
+    /**
+     * 하위 필드 전체 길이
+     * 파서와 같은 순서로 하위 필드를 지나며 카운트 필드 값만 슬롯에 기록
+     */
+    private int childrenSize(int node, int offset) {
+        int position = offset;
+        int first = plan.getFirstChild(node);
+        for (int child = first; child < first + plan.getChildCount(node); child++) {
+            switch (plan.getType(child)) {
+                case OBJECT:
+                    position += plan.getFixedSize(child) != ParsePlan.NONE
+                            ? plan.getFixedSize(child) : childrenSize(child, position);
+                    break;
+                case ARRAY:
+                    position += arraySize(child, position, slotCount(child, position));
+                    break;
+                default:
+                    if (plan.getCountSlot(child) != ParsePlan.NONE) {
+                        counts[plan.getCountSlot(child)] = parser.readInteger(plan, child, msg, position);
+                    }
+                    position += plan.getLength(child);
+            }
+        }
+        return position - offset;
+    }
+
+    private int slotCount(int node, int offset) {
+        int countNode = plan.getCountNode(node);
+        if (countNode == ParsePlan.NONE) {
+            return 0;
+        }
+        if (plan.isInlineCount(node)) {
+            return readCount(countNode, offset);
+        }
+        return Math.max(counts[plan.getCountSlot(countNode)], 0);
+    }
+
+    /**
+     * 오브젝트(루트, 오브젝트 필드, 배열 요소) 뷰
+     * 하위 필드 위치는 조회한 필드까지만 앞에서부터 계산하여 보관
+     */
+    private final class ObjectView extends AbstractMap<String, Object> {
+        private final int node;
+        private final int first;
+
+        /** 하위 필드 시작 위치 (앞에서부터 resolved개까지 계산됨) */
+        private final int[] offsets;
+        private int resolved = 1;
+
+        /** 키별 디코딩 값 (처음 조회할 때 생성) */
+        private Object[] values;
+        private Set<Map.Entry<String, Object>> entrySet;
+
+        private ObjectView(int node, int start) {
+            this.node = node;
+            this.first = plan.getFirstChild(node);
+            this.offsets = new int[Math.max(plan.getChildCount(node), 1)];
+            this.offsets[0] = start;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int index = keys(node).indexOf(key);
+            return index < 0 ? null : value(index);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return keys(node).indexOf(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return keys(node).size();
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            if (entrySet == null) {
+                entrySet = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Map.Entry<String, Object>> iterator() {
+                        return new Iterator<>() {
+                            private int next;
+
+                            @Override
+                            public boolean hasNext() {
+                                return next < size();
+                            }
+
+                            @Override
+                            public Map.Entry<String, Object> next() {
+                                if (!hasNext()) {
+                                    throw new NoSuchElementException();
+                                }
+                                int index = next++;
+                                return new SimpleImmutableEntry<>(keys(node).names[index], value(index));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return ObjectView.this.size();
+                    }
+                };
+            }
+            return entrySet;
+        }
+
+        private Object value(int index) {
+            if (values == null) {
+                values = new Object[size()];
+                Arrays.fill(values, UNRESOLVED);
+            }
+            Object value = values[index];
+            if (value == UNRESOLVED) {
+                value = resolve(keys(node), index);
+                values[index] = value;
+            }
+            return value;
+        }
+
+        private Object resolve(Keys keys, int index) {
+            int field = keys.nodes[index];
+            int child = keys.children[index];
+            int offset = offsetOf(child);
+            if (keys.inlineCounts[index]) {
+                // 배열 위치에서 읽는 카운트 필드
+                return parser.readInteger(plan, field, msg, offset);
+            }
+            switch (plan.getType(field)) {
+                case OBJECT:
+                    return new ObjectView(field, offset);
+                case ARRAY:
+                    return new ArrayView(field, offset, countOf(field, offset));
+                default:
+                    return decode(field, offset);
+            }
+        }
+
+        /**
+         * 하위 필드 시작 위치
+         * 앞선 필드 중 가변 길이 필드는 카운트 필드를 읽어 길이를 계산
+         */
+        private int offsetOf(int child) {
+            while (resolved <= child) {
+                int previous = first + resolved - 1;
+                int offset = offsets[resolved - 1];
+                offsets[resolved] = offset + fieldSize(previous, offset);
+                resolved++;
+            }
+            return offsets[child];
+        }
+
+        private int fieldSize(int field, int offset) {
+            if (plan.getFixedSize(field) != ParsePlan.NONE) {
+                return plan.getFixedSize(field);
+            }
+            return plan.getType(field) == FieldType.ARRAY
+                    ? arraySize(field, offset, countOf(field, offset)) : childrenSize(field, offset);
+        }
+
+        /**
+         * 배열 요소 수 (앞선 형제 카운트 필드 또는 배열 위치의 카운트 필드)
+         */
+        private int countOf(int array, int offset) {
+            int countNode = plan.getCountNode(array);
+            if (countNode == ParsePlan.NONE) {
+                return 0;
+            }
+            return readCount(countNode, plan.isInlineCount(array) ? offset : offsetOf(countNode - first));
+        }
+    }
+
+    /**
+     * 배열 필드 뷰
+     * 요소가 고정 길이이면 위치를 바로 계산하고, 가변 길이이면 조회한 요소까지 앞에서부터 계산
+     */
+    private final class ArrayView extends AbstractList<Object> {
+        private final int node;
+        private final int count;
+        private final int base;
+        private final int elementSize;
+
+        /** 가변 길이 요소의 시작 위치 (처음 조회할 때 생성) */
+        private int[] offsets;
+        private int resolved;
+
+        private Object[] elements;
+
+        private ArrayView(int node, int start, int count) {
+            this.node = node;
+            this.count = count;
+            this.base = start + (plan.isInlineCount(node) ? plan.getLength(plan.getCountNode(node)) : 0);
+            this.elementSize = plan.getElementSize(node);
+        }
+
+        @Override
+        public Object get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+            }
+            if (elements == null) {
+                elements = new Object[count];
+            }
+            Object element = elements[index];
+            if (element == null) {
+                element = new ObjectView(node, offsetOf(index));
+                elements[index] = element;
+            }
+            return element;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        private int offsetOf(int index) {
+            if (elementSize != ParsePlan.NONE) {
+                return base + index * elementSize;
+            }
+            if (offsets == null) {
+                offsets = new int[count];
+                offsets[0] = base;
+                resolved = 1;
+            }
+            while (resolved <= index) {
+                offsets[resolved] = offsets[resolved - 1] + childrenSize(node, offsets[resolved - 1]);
+                resolved++;
+            }
+            return offsets[index];
+        }
+    }
+
+    /**
+     * 오브젝트 노드의 키 구성
+     *
+     * 파서 결과 맵과 같도록 하위 배열이 배열 위치에서 읽는 카운트 필드를 배열 앞에 추가하고,
+     * 같은 이름이 반복되면 처음 위치에 마지막 값을 사용 (LinkedHashMap.put과 동일)
+     */
+    private static final class Keys {
+        private final String[] names;
+        private final int[] nodes;
+
+        /** 값을 읽을 하위 필드 순번 */
+        private final int[] children;
+
+        /** 배열 위치에서 읽는 카운트 필드 여부 */
+        private final boolean[] inlineCounts;
+
+        private Keys(String[] names, int[] nodes, int[] children, boolean[] inlineCounts) {
+            this.names = names;
+            this.nodes = nodes;
+            this.children = children;
+            this.inlineCounts = inlineCounts;
+        }
+
+        static Keys build(ParsePlan plan, int node) {
+            int first = plan.getFirstChild(node);
+            int childCount = plan.getChildCount(node);
+            String[] names = new String[childCount * 2];
+            int[] nodes = new int[childCount * 2];
+            int[] children = new int[childCount * 2];
+            boolean[] inlineCounts = new boolean[childCount * 2];
+            int size = 0;
+
+            for (int i = 0; i < childCount; i++) {
+                int child = first + i;
+                boolean inlineCount = plan.getType(child) == FieldType.ARRAY && plan.isInlineCount(child);
+                for (int pass = inlineCount ? 0 : 1; pass < 2; pass++) {
+                    int field = pass == 0 ? plan.getCountNode(child) : child;
+                    String name = plan.getName(field);
+                    int index = 0;
+                    while (index < size && !names[index].equals(name)) {
+                        index++;
+                    }
+                    if (index == size) {
+                        names[size++] = name;
+                    }
+                    nodes[index] = field;
+                    children[index] = i;
+                    inlineCounts[index] = pass == 0;
+                }
+            }
+            return new Keys(Arrays.copyOf(names, size), Arrays.copyOf(nodes, size),
+                    Arrays.copyOf(children, size), Arrays.copyOf(inlineCounts, size));
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        int indexOf(Object name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
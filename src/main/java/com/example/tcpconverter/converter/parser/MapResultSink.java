@@ -0,0 +1,146 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파싱 결과를 LinkedHashMap/ArrayList 트리로 만드는 출력 대상
+ * 컨테이너는 플랜의 자식 수와 배열 크기로 미리 크기를 잡아 재할당을 피함
+ */
+final class MapResultSink implements ParseResultSink {
+
+    /** 현재 채우고 있는 컨테이너 스택 */
+    private final Deque<Object> stack = new ArrayDeque<>();
+
+    private Map<String, Object> root;
+    private String pendingName;
+
+    /** 배열 요소 구간용 출력 대상이면 요소를 모으는 목록 */
+    private final List<Object> elements;
+
+    MapResultSink() {
+        this.elements = null;
+    }
+
+    private MapResultSink(int size) {
+        this.elements = new ArrayList<>(size);
+        stack.push(elements);
+    }
+
+    /**
+     * 완성된 결과 맵
+     *
+     * @return 루트 오브젝트
+     */
+    Map<String, Object> getResult() {
+        return root;
+    }
+
+    /**
+     * 다음 파싱에 재사용할 수 있도록 초기화
+     */
+    void reset() {
+        stack.clear();
+        root = null;
+        pendingName = null;
+    }
+
+    @Override
+    public void beginObject(ParsePlan plan, int node) {
+        Map<String, Object> object = new LinkedHashMap<>(capacityFor(plan.getChildCount(node)));
+        if (stack.isEmpty()) {
+            root = object;
+        } else {
+            add(object);
+        }
+        stack.push(object);
+    }
+
+    @Override
+    public void endObject() {
+        stack.pop();
+    }
+
+    @Override
+    public void beginArray(ParsePlan plan, int node, int size) {
+        List<Object> array = new ArrayList<>(size);
+        add(array);
+        stack.push(array);
+    }
+
+    @Override
+    public void endArray() {
+        stack.pop();
+    }
+
+    @Override
+    public void fieldName(ParsePlan plan, int node) {
+        pendingName = plan.getName(node);
+    }
+
+    @Override
+    public void stringValue(String value) {
+        add(value);
+    }
+
+    @Override
+    public void intValue(int value) {
+        add(value);
+    }
+
+    @Override
+    public void longValue(long value) {
+        add(value);
+    }
+
+    @Override
+    public void decimalValue(BigDecimal value) {
+        add(value);
+    }
+
+    @Override
+    public void nullValue() {
+        add(null);
+    }
+
+    @Override
+    public boolean acceptsElementChunks() {
+        return true;
+    }
+
+    @Override
+    public ParseResultSink newElementChunk(int size) {
+        return new MapResultSink(size);
+    }
+
+    @Override
+    public void elementChunks(ParsePlan plan, int node, int size, List<ParseResultSink> chunks) {
+        List<Object> array = new ArrayList<>(size);
+        for (ParseResultSink chunk : chunks) {
+            array.addAll(((MapResultSink) chunk).elements);
+        }
+        add(array);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object value) {
+        Object container = stack.peek();
+        if (container instanceof Map) {
+            ((Map<String, Object>) container).put(pendingName, value);
+        } else {
+            ((List<Object>) container).add(value);
+        }
+    }
+
+    /**
+     * 예상 필드 수에 맞춰 재할당 없이 사용할 수 있는 LinkedHashMap 초기 용량 계산
+     */
+    private static int capacityFor(int fieldCount) {
+        return (int) (fieldCount / 0.75f) + 1;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 스레드별로 재사용하는 파싱 작업 공간
+ *
+ * 파싱 위치, 배열 카운트 슬롯, 결과 맵 출력 대상, 배열 크기 통지 래퍼를 요청마다 새로 만들지 않고
+ * 파싱을 시작할 때 현재 스레드의 작업 공간을 빌려 쓰고 끝나면 초기화하여 반납
+ * 정상 상태에서 파싱이 할당하는 객체는 결과 맵/리스트와 값뿐임
+ *
+ * 같은 스레드에서 파싱 도중 다시 파싱하는 경우(출력 대상 안에서의 호출 등)에는 새 작업 공간을 사용
+ */
+final class ParseContext {
+
+    private static final ThreadLocal<ParseContext> CURRENT = ThreadLocal.withInitial(ParseContext::new);
+
+    /** 현재 파싱 위치 */
+    private final int[] position = new int[1];
+
+    /** 배열 카운트 값 슬롯 (플랜의 슬롯 수만큼 늘려 재사용) */
+    private int[] counts = new int[0];
+
+    private final MapResultSink mapSink = new MapResultSink();
+    private final ArraySizeNotifyingSink arraySizeSink = new ArraySizeNotifyingSink(null, null);
+
+    private boolean inUse;
+
+    private ParseContext() {
+    }
+
+    /**
+     * 현재 스레드의 작업 공간 빌리기 (사용 후 release 필수)
+     *
+     * @return 파싱 위치가 0인 작업 공간
+     */
+    static ParseContext acquire() {
+        ParseContext context = CURRENT.get();
+        if (context.inUse) {
+            context = new ParseContext();
+        }
+        context.inUse = true;
+        context.position[0] = 0;
+        return context;
+    }
+
+    /**
+     * 작업 공간 반납 (결과 출력 대상을 비워 결과 맵을 붙잡지 않도록 함)
+     */
+    void release() {
+        mapSink.reset();
+        arraySizeSink.bind(null, null);
+        inUse = false;
+    }
+
+    int[] position() {
+        return position;
+    }
+
+    /**
+     * 0으로 초기화한 배열 카운트 슬롯
+     *
+     * @param slotCount 플랜의 카운트 슬롯 수
+     * @return 길이가 slotCount 이상인 슬롯 배열
+     */
+    int[] counts(int slotCount) {
+        if (counts.length < slotCount) {
+            counts = new int[slotCount];
+        } else {
+            Arrays.fill(counts, 0, slotCount, 0);
+        }
+        return counts;
+    }
+
+    MapResultSink mapSink() {
+        return mapSink;
+    }
+
+    /**
+     * 배열 크기 통지가 필요하면 재사용 래퍼로 감싼 출력 대상
+     *
+     * @param sink 결과 출력 대상
+     * @param arraySizes 배열 크기를 전달받을 대상 (null이면 sink 그대로)
+     */
+    ParseResultSink withArraySizes(ParseResultSink sink, IntConsumer arraySizes) {
+        if (arraySizes == null) {
+            return sink;
+        }
+        arraySizeSink.bind(sink, arraySizes);
+        return arraySizeSink;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * API 코드별로 컴파일된 불변 파싱 플랜
+ *
+ * ApiFieldSpec/ApiFieldObject 스펙을 애플리케이션 로딩 시점에 한 번만 해석하여
+ * 파서가 메시지마다 정렬, 타입 코드 변환, 이름 기반 조회를 반복하지 않도록 함
+ *
+ * 구조:
+ * - 모든 노드는 0부터 시작하는 인덱스로 식별되며, 0번은 최상위 필드를 자식으로 가지는 루트 노드
+ * - 한 노드의 자식들은 [firstChild, firstChild + childCount) 구간에 연속으로 배치됨
+ * - 배열 노드는 카운트 필드 노드를 직접 참조하며, 앞선 형제 카운트 값은 슬롯 번호로 전달됨
+ * - 고정 길이 서브트리의 크기와 부모 기준 정적 오프셋을 미리 계산해 둠 (가변인 경우 -1)
+ * - 서브트리의 최소 길이(배열 요소 0개 기준)와 배열 요소 하나의 고정 길이를 미리 계산해 둠
+ *   (전문 길이 사전 검증과 고정 길이 배열을 한 번에 건너뛰는 데 사용)
+ * - JSON 스트리밍 출력용 필드명은 노드별로 미리 인코딩해 둠
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public final class ParsePlan {
+
+    /** 루트 노드 인덱스 */
+    public static final int ROOT = 0;
+
+    /** 값이 정해지지 않은 경우 (카운트 필드 없음, 가변 길이 등) */
+    public static final int NONE = -1;
+
+    /**
+     * 필드명별 JSON 인코딩 캐시
+     * 같은 필드명을 쓰는 모든 플랜이 하나의 인스턴스와 그 인코딩 결과를 공유
+     */
+    private static final ConcurrentMap<String, SerializedString> JSON_NAME_CACHE = new ConcurrentHashMap<>();
+
+    private final String apiCode;
+    private final String[] names;
+    private final SerializedString[] jsonNames;
+    private final FieldType[] types;
+    private final int[] lengths;
+    private final int[] scales;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] countNode;
+    private final boolean[] inlineCount;
+    private final int[] countSlot;
+    private final int[] countedArray;
+    private final int countSlotCount;
+    private final int[] fixedSize;
+    private final int[] staticOffset;
+    private final int[] minSize;
+    private final int[] elementSize;
+
+    ParsePlan(String apiCode, String[] names, FieldType[] types, int[] lengths, int[] scales,
+              int[] firstChild, int[] childCount, int[] countNode, boolean[] inlineCount,
+              int[] countSlot, int[] countedArray, int countSlotCount, int[] fixedSize, int[] staticOffset,
+              int[] minSize, int[] elementSize) {
+        this.apiCode = apiCode;
+        this.names = names;
+        this.jsonNames = new SerializedString[names.length];
+        for (int node = 0; node < names.length; node++) {
+            jsonNames[node] = JSON_NAME_CACHE.computeIfAbsent(names[node], SerializedString::new);
+        }
+        this.types = types;
+        this.lengths = lengths;
+        this.scales = scales;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.countNode = countNode;
+        this.inlineCount = inlineCount;
+        this.countSlot = countSlot;
+        this.countedArray = countedArray;
+        this.countSlotCount = countSlotCount;
+        this.fixedSize = fixedSize;
+        this.staticOffset = staticOffset;
+        this.minSize = minSize;
+        this.elementSize = elementSize;
+    }
+
+    /** 플랜의 API 코드 */
+    public String getApiCode() {
+        return apiCode;
+    }
+
+    /** 루트를 포함한 전체 노드 수 */
+    public int getNodeCount() {
+        return names.length;
+    }
+
+    /** 필드명 (루트는 빈 문자열) */
+    public String getName(int node) {
+        return names[node];
+    }
+
+    /** JSON 출력용으로 미리 인코딩된 필드명 */
+    public SerializableString getJsonName(int node) {
+        return jsonNames[node];
+    }
+
+    /** 필드 타입 */
+    public FieldType getType(int node) {
+        return types[node];
+    }
+
+    /** 원시 필드의 길이 (오브젝트/배열은 0) */
+    public int getLength(int node) {
+        return lengths[node];
+    }
+
+    /** 원시 필드의 소수 자릿수 (DECIMAL, PACKED 타입, 그 외 0) */
+    public int getScale(int node) {
+        return scales[node];
+    }
+
+    /** 첫 번째 자식 노드 인덱스 */
+    public int getFirstChild(int node) {
+        return firstChild[node];
+    }
+
+    /** 자식 노드 수 */
+    public int getChildCount(int node) {
+        return childCount[node];
+    }
+
+    /** 배열 노드의 카운트 필드 노드 인덱스 (없으면 NONE) */
+    public int getCountNode(int node) {
+        return countNode[node];
+    }
+
+    /**
+     * 배열 노드의 카운트 값을 배열 위치에서 직접 읽어야 하는지 여부
+     * 앞선 형제 필드로 카운트가 존재하지 않는 경우 true
+     */
+    public boolean isInlineCount(int node) {
+        return inlineCount[node];
+    }
+
+    /** 카운트 필드로 참조되는 노드의 슬롯 번호 (해당 없으면 NONE) */
+    public int getCountSlot(int node) {
+        return countSlot[node];
+    }
+
+    /** 카운트 필드 노드가 요소 수를 나타내는 배열 노드 (카운트 필드가 아니면 NONE) */
+    public int getCountedArray(int node) {
+        return countedArray[node];
+    }
+
+    /** 파싱 중 카운트 값을 보관할 슬롯 수 */
+    public int getCountSlotCount() {
+        return countSlotCount;
+    }
+
+    /** 서브트리의 고정 길이 (배열을 포함하여 가변인 경우 NONE) */
+    public int getFixedSize(int node) {
+        return fixedSize[node];
+    }
+
+    /** 부모 시작 위치 기준 정적 오프셋 (앞선 형제 중 가변 길이가 있으면 NONE) */
+    public int getStaticOffset(int node) {
+        return staticOffset[node];
+    }
+
+    /** 서브트리의 최소 길이 (모든 배열의 요소가 0개인 경우) */
+    public int getMinSize(int node) {
+        return minSize[node];
+    }
+
+    /** 배열 요소 하나의 고정 길이 (배열이 아니거나 요소가 가변 길이이면 NONE) */
+    public int getElementSize(int node) {
+        return elementSize[node];
+    }
+}
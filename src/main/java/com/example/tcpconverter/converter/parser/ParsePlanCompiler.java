@@ -0,0 +1,273 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.example.tcpconverter.converter.entity.ApiFieldObject;
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+
+/**
+ * API 스펙을 ParsePlan으로 컴파일하는 컴파일러
+ *
+ * 처리 과정:
+ * 1. 최상위 스펙과 하위 오브젝트 필드를 필드 순서대로 정렬하여 노드 트리 구성 (너비 우선)
+ * 2. 필드 타입 코드를 FieldType으로 변환
+ * 3. 배열 필드별 카운트 필드(필드명 + "CNT") 탐색 및 슬롯 할당
+ * 4. 고정 길이 서브트리 크기와 정적 오프셋 계산
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public final class ParsePlanCompiler {
+
+    /** 배열 카운트 필드의 접미사 */
+    private static final String COUNT_FIELD_SUFFIX = "CNT";
+
+    private ParsePlanCompiler() {
+    }
+
+    /**
+     * API 코드 하나의 스펙을 ParsePlan으로 컴파일
+     *
+     * @param apiCode API 코드 (예: "SDL_101")
+     * @param specs 해당 API의 최상위 필드 스펙 목록
+     * @param objectFields 부모 필드명별 하위 필드 목록
+     * @return 컴파일된 파싱 플랜
+     * @throws IllegalArgumentException 알 수 없는 필드 타입이 있는 경우
+     * @throws IllegalStateException 오브젝트 필드가 자기 자신을 하위로 참조하는 경우
+     */
+    public static ParsePlan compile(String apiCode, List<ApiFieldSpec> specs,
+                                    Map<String, List<ApiFieldObject>> objectFields) {
+        List<Node> nodes = new ArrayList<>();
+        nodes.add(new Node("", FieldType.OBJECT, 0, 0, ParsePlan.NONE));
+
+        // 1. 너비 우선으로 노드를 추가하여 형제 노드가 연속으로 배치되도록 함
+        for (int index = 0; index < nodes.size(); index++) {
+            Node node = nodes.get(index);
+            if (node.type != FieldType.OBJECT && node.type != FieldType.ARRAY) {
+                continue;
+            }
+            node.firstChild = nodes.size();
+            if (index == ParsePlan.ROOT) {
+                List<ApiFieldSpec> ordered = new ArrayList<>(specs);
+                ordered.sort(Comparator.comparingInt(ApiFieldSpec::getFieldOrder));
+                for (ApiFieldSpec spec : ordered) {
+                    nodes.add(new Node(spec.getFieldName(), FieldType.fromCode(spec.getFieldType()),
+                            spec.getFieldLength() != null ? spec.getFieldLength() : 0,
+                            spec.getFieldScale() != null ? spec.getFieldScale() : 0, index));
+                }
+            } else {
+                checkCycle(apiCode, nodes, index);
+                List<ApiFieldObject> ordered = new ArrayList<>(
+                        objectFields.getOrDefault(node.name, Collections.emptyList()));
+                ordered.sort(Comparator.comparingInt(ApiFieldObject::getFieldOrder));
+                for (ApiFieldObject child : ordered) {
+                    nodes.add(new Node(child.getFieldName(), FieldType.fromCode(child.getFieldType()),
+                            child.getFieldLength(), child.getFieldScale() != null ? child.getFieldScale() : 0, index));
+                }
+            }
+            node.childCount = nodes.size() - node.firstChild;
+        }
+
+        // 2. 배열 카운트 필드 연결 및 슬롯 할당
+        int slotCount = 0;
+        for (int index = 0; index < nodes.size(); index++) {
+            Node node = nodes.get(index);
+            if (node.type == FieldType.ARRAY) {
+                resolveCountNode(nodes, index);
+                if (node.countNode != ParsePlan.NONE && nodes.get(node.countNode).countedArray == ParsePlan.NONE) {
+                    nodes.get(node.countNode).countedArray = index;
+                }
+                if (node.countNode != ParsePlan.NONE && !node.inlineCount) {
+                    Node countNode = nodes.get(node.countNode);
+                    if (countNode.countSlot == ParsePlan.NONE) {
+                        countNode.countSlot = slotCount++;
+                    }
+                }
+            }
+        }
+
+        // 3. 자식이 부모보다 뒤에 위치하므로 역순으로 고정 길이, 최소 길이, 배열 요소 길이 계산
+        for (int index = nodes.size() - 1; index >= 0; index--) {
+            Node node = nodes.get(index);
+            node.fixedSize = computeFixedSize(nodes, node);
+            node.minSize = computeMinSize(nodes, node);
+            node.elementSize = node.type == FieldType.ARRAY ? childrenFixedSize(nodes, node) : ParsePlan.NONE;
+        }
+
+        // 4. 형제 노드 기준 정적 오프셋 계산
+        for (Node node : nodes) {
+            int offset = 0;
+            for (int child = node.firstChild; child < node.firstChild + node.childCount; child++) {
+                Node childNode = nodes.get(child);
+                childNode.staticOffset = offset;
+                offset = (offset == ParsePlan.NONE || childNode.fixedSize == ParsePlan.NONE)
+                        ? ParsePlan.NONE : offset + childNode.fixedSize;
+            }
+        }
+
+        return toPlan(apiCode, nodes, slotCount);
+    }
+
+    /**
+     * 오브젝트 필드가 상위 필드명과 같은 이름으로 다시 등장하는지 검사
+     * 하위 필드는 부모 필드명으로만 조회되므로 같은 이름이 반복되면 무한히 확장됨
+     */
+    private static void checkCycle(String apiCode, List<Node> nodes, int index) {
+        String name = nodes.get(index).name;
+        for (int parent = nodes.get(index).parent; parent > ParsePlan.ROOT; parent = nodes.get(parent).parent) {
+            if (name.equals(nodes.get(parent).name)) {
+                throw new IllegalStateException(
+                        String.format("API '%s' 스펙에 순환 참조가 있습니다: %s", apiCode, name));
+            }
+        }
+    }
+
+    /**
+     * 배열 카운트 필드 탐색
+     * 1. 배열보다 앞선 형제 필드 중 카운트 필드가 있으면 파싱된 값을 슬롯으로 전달
+     * 2. 없으면 최상위 배열은 최상위 필드에서, 하위 배열은 배열의 하위 필드에서 찾아
+     *    배열 위치에서 직접 읽음
+     */
+    private static void resolveCountNode(List<Node> nodes, int index) {
+        Node node = nodes.get(index);
+        Node parent = nodes.get(node.parent);
+        String countFieldName = node.name + COUNT_FIELD_SUFFIX;
+
+        for (int sibling = index - 1; sibling >= parent.firstChild; sibling--) {
+            if (isCountField(nodes.get(sibling), countFieldName)) {
+                node.countNode = sibling;
+                return;
+            }
+        }
+
+        Node scope = node.parent == ParsePlan.ROOT ? parent : node;
+        for (int child = scope.firstChild; child < scope.firstChild + scope.childCount; child++) {
+            if (isCountField(nodes.get(child), countFieldName)) {
+                node.countNode = child;
+                node.inlineCount = true;
+                return;
+            }
+        }
+    }
+
+    private static boolean isCountField(Node node, String countFieldName) {
+        return countFieldName.equals(node.name)
+                && node.type != FieldType.OBJECT && node.type != FieldType.ARRAY;
+    }
+
+    private static int computeFixedSize(List<Node> nodes, Node node) {
+        switch (node.type) {
+            case ARRAY:
+                return ParsePlan.NONE;
+            case OBJECT:
+                return childrenFixedSize(nodes, node);
+            default:
+                return node.length;
+        }
+    }
+
+    /**
+     * 자식 노드 고정 길이의 합 (가변 길이 자식이 있으면 NONE)
+     */
+    private static int childrenFixedSize(List<Node> nodes, Node node) {
+        int size = 0;
+        for (int child = node.firstChild; child < node.firstChild + node.childCount; child++) {
+            int childSize = nodes.get(child).fixedSize;
+            if (childSize == ParsePlan.NONE) {
+                return ParsePlan.NONE;
+            }
+            size += childSize;
+        }
+        return size;
+    }
+
+    /**
+     * 서브트리 최소 길이 (배열 요소 0개 기준, 배열 위치에서 읽는 카운트 필드는 포함)
+     */
+    private static int computeMinSize(List<Node> nodes, Node node) {
+        switch (node.type) {
+            case ARRAY:
+                return node.inlineCount ? nodes.get(node.countNode).length : 0;
+            case OBJECT:
+                int size = 0;
+                for (int child = node.firstChild; child < node.firstChild + node.childCount; child++) {
+                    size += nodes.get(child).minSize;
+                }
+                return size;
+            default:
+                return node.length;
+        }
+    }
+
+    private static ParsePlan toPlan(String apiCode, List<Node> nodes, int slotCount) {
+        int size = nodes.size();
+        String[] names = new String[size];
+        FieldType[] types = new FieldType[size];
+        int[] lengths = new int[size];
+        int[] scales = new int[size];
+        int[] firstChild = new int[size];
+        int[] childCount = new int[size];
+        int[] countNode = new int[size];
+        boolean[] inlineCount = new boolean[size];
+        int[] countSlot = new int[size];
+        int[] countedArray = new int[size];
+        int[] fixedSize = new int[size];
+        int[] staticOffset = new int[size];
+        int[] minSize = new int[size];
+        int[] elementSize = new int[size];
+
+        for (int index = 0; index < size; index++) {
+            Node node = nodes.get(index);
+            // 여러 API 코드에 반복되는 필드명(MsgLen, ApiSvcCd 등)은 하나의 인스턴스를 공유
+            names[index] = node.name.intern();
+            types[index] = node.type;
+            lengths[index] = node.type == FieldType.OBJECT || node.type == FieldType.ARRAY ? 0 : node.length;
+            scales[index] = node.scale;
+            firstChild[index] = node.firstChild;
+            childCount[index] = node.childCount;
+            countNode[index] = node.countNode;
+            inlineCount[index] = node.inlineCount;
+            countSlot[index] = node.countSlot;
+            countedArray[index] = node.countedArray;
+            fixedSize[index] = node.fixedSize;
+            staticOffset[index] = node.staticOffset;
+            minSize[index] = node.minSize;
+            elementSize[index] = node.elementSize;
+        }
+
+        return new ParsePlan(apiCode, names, types, lengths, scales, firstChild, childCount,
+                countNode, inlineCount, countSlot, countedArray, slotCount, fixedSize, staticOffset,
+                minSize, elementSize);
+    }
+
+    /** 컴파일 중에만 사용하는 가변 노드 */
+    private static final class Node {
+        private final String name;
+        private final FieldType type;
+        private final int length;
+        private final int scale;
+        private final int parent;
+        private int firstChild;
+        private int childCount;
+        private int countNode = ParsePlan.NONE;
+        private boolean inlineCount;
+        private int countSlot = ParsePlan.NONE;
+        private int countedArray = ParsePlan.NONE;
+        private int fixedSize;
+        private int staticOffset;
+        private int minSize;
+        private int elementSize;
+
+        private Node(String name, FieldType type, int length, int scale, int parent) {
+            this.name = name;
+            this.type = type;
+            this.length = length;
+            this.scale = scale;
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ParsePlan 바이너리 직렬화
+ *
+ * 컴파일된 플랜의 노드 테이블을 그대로 기록하여, 다시 읽을 때 스펙 조회와 컴파일 없이
+ * 바로 ParsePlan을 복원할 수 있도록 함 (로컬 스펙 스냅샷 파일에서 사용)
+ *
+ * 형식 (빅엔디안):
+ * - apiCode, 노드 수, 카운트 슬롯 수
+ * - 노드별: 필드명, 타입 코드, 길이, 소수 자릿수, 첫 자식, 자식 수, 카운트 노드, 인라인 여부,
+ *   카운트 슬롯, 카운트 대상 배열, 고정 크기, 정적 오프셋,
+ *   최소 크기, 배열 요소 크기
+ * - 문자열은 2바이트 길이 + UTF-8 바이트
+ *
+ * 형식이 바뀌면 스냅샷 파일의 형식 버전을 올려 이전 파일을 무시하도록 해야 함
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public final class ParsePlanSerializer {
+
+    private ParsePlanSerializer() {
+    }
+
+    /**
+     * 플랜을 바이너리로 기록
+     *
+     * @param plan 기록할 플랜
+     * @param out 출력 대상
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    public static void write(ParsePlan plan, DataOutput out) throws IOException {
+        int nodeCount = plan.getNodeCount();
+        writeString(plan.getApiCode(), out);
+        out.writeInt(nodeCount);
+        out.writeInt(plan.getCountSlotCount());
+        for (int node = 0; node < nodeCount; node++) {
+            writeString(plan.getName(node), out);
+            out.writeByte(plan.getType(node).getCode().charAt(0));
+            out.writeInt(plan.getLength(node));
+            out.writeInt(plan.getScale(node));
+            out.writeInt(plan.getFirstChild(node));
+            out.writeInt(plan.getChildCount(node));
+            out.writeInt(plan.getCountNode(node));
+            out.writeBoolean(plan.isInlineCount(node));
+            out.writeInt(plan.getCountSlot(node));
+            out.writeInt(plan.getCountedArray(node));
+            out.writeInt(plan.getFixedSize(node));
+            out.writeInt(plan.getStaticOffset(node));
+            out.writeInt(plan.getMinSize(node));
+            out.writeInt(plan.getElementSize(node));
+        }
+    }
+
+    /**
+     * 바이너리에서 플랜 복원
+     * 버퍼의 현재 위치부터 플랜 하나를 읽고 위치를 그 다음으로 이동
+     *
+     * @param in 입력 버퍼
+     * @return 복원된 플랜
+     * @throws IllegalArgumentException 데이터가 손상된 경우
+     * @throws java.nio.BufferUnderflowException 데이터가 중간에 끝난 경우
+     */
+    public static ParsePlan read(ByteBuffer in) {
+        String apiCode = readString(in);
+        int nodeCount = in.getInt();
+        int countSlotCount = in.getInt();
+        if (nodeCount <= 0 || nodeCount > in.remaining()) {
+            throw new IllegalArgumentException("잘못된 노드 수: " + nodeCount);
+        }
+
+        String[] names = new String[nodeCount];
+        FieldType[] types = new FieldType[nodeCount];
+        int[] lengths = new int[nodeCount];
+        int[] scales = new int[nodeCount];
+        int[] firstChild = new int[nodeCount];
+        int[] childCount = new int[nodeCount];
+        int[] countNode = new int[nodeCount];
+        boolean[] inlineCount = new boolean[nodeCount];
+        int[] countSlot = new int[nodeCount];
+        int[] countedArray = new int[nodeCount];
+        int[] fixedSize = new int[nodeCount];
+        int[] staticOffset = new int[nodeCount];
+        int[] minSize = new int[nodeCount];
+        int[] elementSize = new int[nodeCount];
+
+        for (int node = 0; node < nodeCount; node++) {
+            names[node] = readString(in).intern();
+            types[node] = FieldType.fromCode(String.valueOf((char) in.get()));
+            lengths[node] = in.getInt();
+            scales[node] = in.getInt();
+            firstChild[node] = in.getInt();
+            childCount[node] = in.getInt();
+            countNode[node] = in.getInt();
+            inlineCount[node] = in.get() != 0;
+            countSlot[node] = in.getInt();
+            countedArray[node] = in.getInt();
+            fixedSize[node] = in.getInt();
+            staticOffset[node] = in.getInt();
+            minSize[node] = in.getInt();
+            elementSize[node] = in.getInt();
+
+            if (childCount[node] < 0 || (childCount[node] > 0
+                    && (firstChild[node] <= node || firstChild[node] + childCount[node] > nodeCount))) {
+                throw new IllegalArgumentException(
+                    String.format("잘못된 자식 노드 범위: apiCode=%s, node=%d", apiCode, node));
+            }
+        }
+
+        return new ParsePlan(apiCode, names, types, lengths, scales, firstChild, childCount,
+                countNode, inlineCount, countSlot, countedArray, countSlotCount, fixedSize, staticOffset,
+                minSize, elementSize);
+    }
+
+    /**
+     * 문자열 기록 (2바이트 길이 + UTF-8 바이트)
+     *
+     * @param value 기록할 문자열
+     * @param out 출력 대상
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    public static void writeString(String value, DataOutput out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("문자열이 너무 깁니다: " + value.substring(0, 32));
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * writeString으로 기록한 문자열 읽기
+     *
+     * @param in 입력 버퍼
+     * @return 읽은 문자열
+     */
+    public static String readString(ByteBuffer in) {
+        int length = in.getShort() & 0xFFFF;
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("잘못된 문자열 길이: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 파싱 결과를 받는 출력 대상
+ *
+ * TcpMessageParser는 ParsePlan을 순회하며 디코딩한 값을 이 인터페이스로 순서대로 전달
+ * 구현체에 따라 결과 맵을 만들거나(MapResultSink) JSON을 바로 출력(JsonGeneratorResultSink)
+ *
+ * 호출 순서는 JSON 토큰 순서와 동일:
+ * - 오브젝트 안의 값은 항상 fieldName 호출 뒤에 전달됨
+ * - 배열 요소는 fieldName 없이 beginObject/endObject로 전달됨
+ * - 구간별 배열 요소를 받을 수 있는 구현체는 배열 전체가 fieldName 뒤에 elementChunks 한 번으로 전달될 수 있음
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public interface ParseResultSink {
+
+    /**
+     * 오브젝트 시작 (루트, 오브젝트 필드, 배열 요소)
+     *
+     * @param plan 파싱 플랜
+     * @param node 오브젝트 또는 배열 노드
+     */
+    void beginObject(ParsePlan plan, int node);
+
+    /** 오브젝트 종료 */
+    void endObject();
+
+    /**
+     * 배열 시작
+     *
+     * @param plan 파싱 플랜
+     * @param node 배열 노드
+     * @param size 배열 요소 수
+     */
+    void beginArray(ParsePlan plan, int node, int size);
+
+    /** 배열 종료 */
+    void endArray();
+
+    /**
+     * 다음 값의 필드명
+     *
+     * @param plan 파싱 플랜
+     * @param node 필드 노드
+     */
+    void fieldName(ParsePlan plan, int node);
+
+    /** 문자열 값 */
+    void stringValue(String value);
+
+    /** 정수 값 */
+    void intValue(int value);
+
+    /** 64비트 정수 값 (LONG, PACKED 타입) */
+    void longValue(long value);
+
+    /** 고정 소수 값 (DECIMAL, PACKED 타입) */
+    void decimalValue(BigDecimal value);
+
+    /** 비어 있거나 형식이 맞지 않는 값 */
+    void nullValue();
+
+    /**
+     * 구간별로 출력한 배열 요소를 받을 수 있는지 여부
+     * true이면 파서가 큰 고정 길이 배열을 구간별로 나누어 병렬로 디코딩하고 elementChunks로 한 번에 전달할 수 있음
+     *
+     * @return 구간별 배열 요소를 받을 수 있으면 true
+     */
+    default boolean acceptsElementChunks() {
+        return false;
+    }
+
+    /**
+     * 배열 요소 구간 하나를 출력할 출력 대상 생성
+     * 구간 출력 대상은 요소마다 beginObject ~ endObject만 전달받으며, 병렬 디코딩 작업 하나에서만 사용됨
+     *
+     * @param size 구간의 요소 수
+     * @return 구간 출력 대상
+     */
+    default ParseResultSink newElementChunk(int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * 구간별로 출력한 배열 전체 (beginArray ~ endArray 대신 호출)
+     *
+     * @param plan 파싱 플랜
+     * @param node 배열 노드
+     * @param size 배열 요소 수
+     * @param chunks newElementChunk로 만든 구간 출력 대상 (요소 순서대로)
+     */
+    default void elementChunks(ParsePlan plan, int node, int size, List<ParseResultSink> chunks) {
+        throw new UnsupportedOperationException();
+    }
+}
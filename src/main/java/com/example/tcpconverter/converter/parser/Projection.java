@@ -0,0 +1,99 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.util.Collection;
+
+/**
+ * 필드 프로젝션 (요청한 필드만 파싱)
+ *
+ * 필드 경로 목록을 플랜의 노드별 처리 방식으로 미리 변환해 두고,
+ * 파서는 선택되지 않은 필드를 디코딩하지 않고 길이만큼 건너뜀
+ *
+ * 경로 형식:
+ * - 최상위 필드: "Name"
+ * - 오브젝트 하위 필드: "Customer.CstmNm"
+ * - 배열 요소의 하위 필드: "LoanList[].LoanAmt" ("[]"는 생략 가능)
+ * - 오브젝트/배열 경로를 지정하면 하위 필드 전체를 포함
+ *
+ * 선택되지 않은 배열의 카운트 필드도 배열을 건너뛰기 위해 값은 읽지만 결과에는 포함하지 않음
+ * 플랜별로 한 번 만들어 여러 스레드에서 재사용 가능 (불변)
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public final class Projection {
+
+    /** 건너뛸 노드 */
+    static final byte SKIP = 0;
+
+    /** 하위 노드 중 일부만 선택된 오브젝트/배열 노드 */
+    static final byte PARTIAL = 1;
+
+    /** 서브트리 전체를 포함하는 노드 */
+    static final byte ALL = 2;
+
+    /** 경로 구분자 */
+    private static final String PATH_SEPARATOR = "\\.";
+
+    /** 배열 요소 표시 접미사 */
+    private static final String ARRAY_SUFFIX = "[]";
+
+    private final ParsePlan plan;
+    private final byte[] modes;
+
+    private Projection(ParsePlan plan, byte[] modes) {
+        this.plan = plan;
+        this.modes = modes;
+    }
+
+    /**
+     * 필드 경로 목록으로 프로젝션 생성
+     *
+     * @param plan 파싱 플랜
+     * @param paths 필드 경로 목록
+     * @return 프로젝션
+     * @throws IllegalArgumentException 스펙에 없는 경로가 있는 경우
+     */
+    public static Projection of(ParsePlan plan, Collection<String> paths) {
+        int nodeCount = plan.getNodeCount();
+        byte[] modes = new byte[nodeCount];
+        modes[ParsePlan.ROOT] = PARTIAL;
+
+        for (String path : paths) {
+            int node = ParsePlan.ROOT;
+            for (String segment : path.trim().split(PATH_SEPARATOR)) {
+                String name = segment.endsWith(ARRAY_SUFFIX)
+                        ? segment.substring(0, segment.length() - ARRAY_SUFFIX.length()) : segment;
+                node = findChild(plan, node, name);
+                if (node == ParsePlan.NONE) {
+                    throw new IllegalArgumentException(
+                        String.format("API '%s' 스펙에 없는 필드 경로입니다: %s", plan.getApiCode(), path));
+                }
+                if (modes[node] == SKIP) {
+                    modes[node] = PARTIAL;
+                }
+            }
+            modes[node] = ALL;
+        }
+        return new Projection(plan, modes);
+    }
+
+    /** 프로젝션을 만든 플랜 */
+    public ParsePlan getPlan() {
+        return plan;
+    }
+
+    /** 노드 처리 방식 (SKIP, PARTIAL, ALL) */
+    byte getMode(int node) {
+        return modes[node];
+    }
+
+    private static int findChild(ParsePlan plan, int node, String name) {
+        int first = plan.getFirstChild(node);
+        for (int child = first; child < first + plan.getChildCount(node); child++) {
+            if (plan.getName(child).equals(name)) {
+                return child;
+            }
+        }
+        return ParsePlan.NONE;
+    }
+}
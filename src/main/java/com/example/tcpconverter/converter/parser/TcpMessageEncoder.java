@@ -0,0 +1,262 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TCP 메시지 인코더
+ * 파서와 같은 ParsePlan을 사용하여 JSON(Map) 구조를 고정 길이 TCP 메시지로 변환
+ *
+ * 변환 규칙:
+ * - 문자 필드: 설정된 문자셋으로 인코딩 후 왼쪽 정렬, 남은 자리는 공백으로 채움
+ * - 숫자 필드: 오른쪽 정렬, 남은 자리는 0으로 채움 (음수는 첫 자리에 '-')
+ * - 그 외 타입(LONG, DECIMAL, PACKED, DATE, TIME): 타입별 FieldCodec으로 기록
+ * - 배열 카운트 필드(...CNT): 입력 값 대신 실제 배열 크기를 기록
+ * - MsgLen: 완성된 전문 전체 길이를 기록
+ * - 입력에 없는 필드는 빈 값(문자: 공백, 숫자: 0)으로 채움
+ *
+ * 전체 길이를 먼저 계산한 뒤 정확한 크기의 버퍼에 바로 기록하며, 중간 문자열을 만들지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class TcpMessageEncoder {
+
+    /** 전문 총길이 필드명 */
+    private static final String MSG_LEN_FIELD = "MsgLen";
+
+    private final FieldParserHelper fieldParserHelper;
+
+    /**
+     * JSON 구조를 TCP 메시지로 인코딩
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 인코딩할 값 (파싱 결과와 같은 구조)
+     * @return 인코딩된 TCP 메시지
+     * @throws IllegalArgumentException 값이 필드 길이를 넘거나 타입이 맞지 않는 경우
+     */
+    public byte[] encode(ParsePlan plan, Map<String, ?> message) {
+        int totalLength = measureObject(plan, ParsePlan.ROOT, message);
+        byte[] buffer = new byte[totalLength];
+        CharsetEncoder encoder = fieldParserHelper.getCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        int[] position = {0};
+        writeObject(plan, ParsePlan.ROOT, message, buffer, position, encoder);
+        return buffer;
+    }
+
+    /**
+     * 오브젝트 노드의 인코딩 길이 계산
+     * 고정 길이 서브트리는 미리 계산된 크기를 사용
+     */
+    private int measureObject(ParsePlan plan, int node, Map<String, ?> values) {
+        if (plan.getFixedSize(node) != ParsePlan.NONE) {
+            return plan.getFixedSize(node);
+        }
+
+        int size = 0;
+        int first = plan.getFirstChild(node);
+        for (int child = first; child < first + plan.getChildCount(node); child++) {
+            switch (plan.getType(child)) {
+                case OBJECT:
+                    size += measureObject(plan, child, asObject(plan, child, values.get(plan.getName(child))));
+                    break;
+                case ARRAY:
+                    List<?> elements = asArray(plan, child, values.get(plan.getName(child)));
+                    if (plan.isInlineCount(child)) {
+                        size += plan.getLength(plan.getCountNode(child));
+                    }
+                    for (Object element : elements) {
+                        size += measureObject(plan, child, asObject(plan, child, element));
+                    }
+                    break;
+                default:
+                    size += plan.getLength(child);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 오브젝트 노드의 하위 필드를 순서대로 기록
+     */
+    private void writeObject(ParsePlan plan, int node, Map<String, ?> values, byte[] buffer, int[] position,
+                             CharsetEncoder encoder) {
+        int first = plan.getFirstChild(node);
+        int end = first + plan.getChildCount(node);
+        for (int child = first; child < end; child++) {
+            switch (plan.getType(child)) {
+                case OBJECT:
+                    writeObject(plan, child, asObject(plan, child, values.get(plan.getName(child))),
+                            buffer, position, encoder);
+                    break;
+                case ARRAY:
+                    writeArray(plan, child, values, buffer, position, encoder);
+                    break;
+                default:
+                    int length = plan.getLength(child);
+                    if (node == ParsePlan.ROOT && MSG_LEN_FIELD.equals(plan.getName(child))) {
+                        writeNumber(plan, child, buffer, position[0], length, buffer.length);
+                    } else if (isSibling(plan, node, plan.getCountedArray(child))) {
+                        int count = asArray(plan, plan.getCountedArray(child),
+                                values.get(plan.getName(plan.getCountedArray(child)))).size();
+                        writeNumber(plan, child, buffer, position[0], length, count);
+                    } else {
+                        writeValue(plan, child, values.get(plan.getName(child)), buffer, position[0], length, encoder);
+                    }
+                    position[0] += length;
+            }
+        }
+    }
+
+    /**
+     * 배열 필드 기록
+     * 카운트 필드가 배열 위치에 있는 경우 요소 수를 먼저 기록
+     */
+    private void writeArray(ParsePlan plan, int node, Map<String, ?> values, byte[] buffer, int[] position,
+                            CharsetEncoder encoder) {
+        List<?> elements = asArray(plan, node, values.get(plan.getName(node)));
+        int countNode = plan.getCountNode(node);
+        if (countNode == ParsePlan.NONE && !elements.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format("배열 필드 '%s'에 카운트 필드가 없어 요소를 기록할 수 없습니다.", plan.getName(node)));
+        }
+        if (plan.isInlineCount(node)) {
+            writeNumber(plan, countNode, buffer, position[0], plan.getLength(countNode), elements.size());
+            position[0] += plan.getLength(countNode);
+        }
+        for (Object element : elements) {
+            writeObject(plan, node, asObject(plan, node, element), buffer, position, encoder);
+        }
+    }
+
+    /**
+     * 원시 필드 값 기록
+     */
+    private void writeValue(ParsePlan plan, int node, Object value, byte[] buffer, int offset, int length,
+                            CharsetEncoder encoder) {
+        FieldCodec codec = plan.getType(node).getCodec();
+        if (codec != null) {
+            codec.encode(value, buffer, offset, length, plan.getScale(node), plan.getName(node));
+        } else if (plan.getType(node) == FieldType.NUMBER) {
+            writeNumber(plan, node, buffer, offset, length, toInt(plan, node, value));
+        } else {
+            writeString(plan, node, value, buffer, offset, length, encoder);
+        }
+    }
+
+    /**
+     * 숫자를 오른쪽 정렬하고 남은 자리를 0으로 채워 기록
+     */
+    private static void writeNumber(ParsePlan plan, int node, byte[] buffer, int offset, int length, long value) {
+        FieldCodecs.writeZoned(buffer, offset, length, value, plan.getName(node));
+    }
+
+    /**
+     * 문자열을 버퍼에 직접 인코딩하여 왼쪽 정렬하고 남은 자리를 공백으로 채워 기록
+     */
+    private static void writeString(ParsePlan plan, int node, Object value, byte[] buffer, int offset, int length,
+                                    CharsetEncoder encoder) {
+        ByteBuffer out = ByteBuffer.wrap(buffer, offset, length);
+        if (value != null) {
+            encoder.reset();
+            CharBuffer in = CharBuffer.wrap(value instanceof CharSequence ? (CharSequence) value : value.toString());
+            CoderResult result = encoder.encode(in, out, true);
+            if (!result.isError() && !result.isOverflow()) {
+                result = encoder.flush(out);
+            }
+            if (result.isOverflow()) {
+                throw new IllegalArgumentException(
+                    String.format("필드 '%s' 값이 필드 길이 %d 바이트를 초과합니다.", plan.getName(node), length));
+            }
+            if (result.isError()) {
+                throw new IllegalArgumentException(
+                    String.format("필드 '%s' 값에 인코딩할 수 없는 문자가 있습니다.", plan.getName(node)));
+            }
+        }
+        for (int i = out.position(); i < offset + length; i++) {
+            buffer[i] = ' ';
+        }
+    }
+
+    /**
+     * 숫자(N) 필드 값 변환
+     * 파서가 N 필드를 int로 읽으므로 int 범위를 넘는 값은 다시 파싱할 수 없어 거부
+     */
+    private static int toInt(ParsePlan plan, int node, Object value) {
+        long number = toLong(plan, node, value);
+        if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("숫자 필드 '%s' 값이 int 범위를 벗어납니다 (큰 정수는 L 타입 사용): %s",
+                    plan.getName(node), value));
+        }
+        return (int) number;
+    }
+
+    private static long toLong(ParsePlan plan, int node, Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        try {
+            if (value instanceof BigInteger) {
+                return ((BigInteger) value).longValueExact();
+            }
+            if (value instanceof Number) {
+                return new BigDecimal(value.toString()).longValueExact();
+            }
+            if (value instanceof CharSequence) {
+                String text = value.toString().trim();
+                return text.isEmpty() ? 0 : Long.parseLong(text);
+            }
+        } catch (ArithmeticException | NumberFormatException e) {
+            // 아래에서 타입 오류로 처리
+        }
+        throw new IllegalArgumentException(
+            String.format("숫자 필드 '%s'에 정수가 아닌 값이 있습니다: %s", plan.getName(node), value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> asObject(ParsePlan plan, int node, Object value) {
+        if (value == null) {
+            return Collections.emptyMap();
+        }
+        if (value instanceof Map) {
+            return (Map<String, ?>) value;
+        }
+        throw new IllegalArgumentException(
+            String.format("필드 '%s'는 오브젝트여야 합니다.", plan.getName(node)));
+    }
+
+    private static List<?> asArray(ParsePlan plan, int node, Object value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (value instanceof List) {
+            return (List<?>) value;
+        }
+        throw new IllegalArgumentException(
+            String.format("필드 '%s'는 배열이어야 합니다.", plan.getName(node)));
+    }
+
+    /** 배열 노드가 같은 오브젝트의 하위 필드인지 여부 */
+    private static boolean isSibling(ParsePlan plan, int parent, int node) {
+        int first = plan.getFirstChild(parent);
+        return node != ParsePlan.NONE && node >= first && node < first + plan.getChildCount(parent);
+    }
+}
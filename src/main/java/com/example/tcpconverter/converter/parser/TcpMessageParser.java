@@ -1,232 +1,616 @@
 package com.example.tcpconverter.converter.parser;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.example.tcpconverter.converter.entity.ApiFieldObject;
-import com.example.tcpconverter.converter.entity.ApiFieldSpec;
-import com.example.tcpconverter.converter.service.ApiSpecRegistry;
-
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 /**
  * TCP 메시지 파서
- * API 스펙 기반으로 TCP 메시지 구조를 파싱
+ * 컴파일된 ParsePlan을 순회하며 TCP 메시지 구조를 파싱
  * 중첩 객체, 배열, 원시 타입을 모두 지원
+ *
+ * 디코딩한 값은 ParseResultSink로 전달되며, 결과 맵 생성(parse)과
+ * JSON 스트리밍 출력(write)이 같은 순회 로직을 사용
+ *
+ * Projection을 지정하면 선택한 필드만 디코딩하고 나머지는 길이만큼 건너뜀
+ * (고정 길이 서브트리와 배열은 오프셋 계산으로 한 번에 건너뛰며, 배열 카운트 필드만 읽음)
+ *
+ * 요소가 고정 길이인 큰 배열은 요소 위치를 (시작 위치 + 순번 * 요소 길이)로 바로 계산할 수 있으므로,
+ * 구간별로 나누어 ForkJoinPool 공용 풀에서 병렬로 디코딩 (결과 맵은 구간별 요소 목록을, JSON 출력은 구간별 문자열 버퍼를
+ * 요소 순서대로 이어 붙임, 배열 전체가 메시지 안에 있는 경우에만)
+ *
+ * 파싱 횟수가 기준에 도달한 플랜은 전용 파서 클래스를 생성하여 전체 필드 파싱(결과 맵, JSON 스트리밍 출력)에 사용하며,
+ * 프로젝션과 전용 파서를 만들 수 없는 플랜은 해석 방식으로 파싱 (GeneratedParsers 참고)
+ *
+ * 파싱 위치, 카운트 슬롯, 결과 출력 대상은 스레드별 ParseContext를 재사용하므로
+ * 정상 상태에서 파싱이 할당하는 객체는 결과 맵/리스트와 값뿐임
  */
 @Component
-@RequiredArgsConstructor
 public class TcpMessageParser {
 
-    private final ApiSpecRegistry apiSpecRegistry;
     private final FieldParserHelper fieldParserHelper;
 
+    /** 병렬 디코딩을 시작하는 배열 요소 수 (0이면 병렬 디코딩하지 않음) */
+    private final int parallelThreshold;
+
+    /** 병렬 디코딩 작업 하나가 맡는 요소 수 */
+    private final int parallelChunkSize;
+
+    /** 자주 파싱되는 플랜의 전용 파서 */
+    private final GeneratedParsers generatedParsers;
+
+    /**
+     * 병렬 디코딩과 전용 파서 생성 없이 해석 방식으로만 파싱하는 파서
+     *
+     * @param fieldParserHelper 필드 디코딩 헬퍼
+     */
+    public TcpMessageParser(FieldParserHelper fieldParserHelper) {
+        this(fieldParserHelper, 0, 1, 0);
+    }
+
+    /**
+     * @param fieldParserHelper 필드 디코딩 헬퍼
+     * @param parallelThreshold 병렬 디코딩을 시작하는 배열 요소 수 (0이면 병렬 디코딩하지 않음)
+     * @param parallelChunkSize 병렬 디코딩 작업 하나가 맡는 요소 수
+     * @param codegenThreshold 전용 파서를 생성하는 플랜별 파싱 횟수 (0이면 생성하지 않음)
+     */
+    @Autowired
+    public TcpMessageParser(FieldParserHelper fieldParserHelper,
+                            @Value("${converter.parse.parallel-threshold:1000}") int parallelThreshold,
+                            @Value("${converter.parse.parallel-chunk-size:256}") int parallelChunkSize,
+                            @Value("${converter.parse.codegen-threshold:1000}") int codegenThreshold) {
+        this.fieldParserHelper = fieldParserHelper;
+        this.parallelThreshold = parallelThreshold;
+        this.parallelChunkSize = Math.max(parallelChunkSize, 1);
+        this.generatedParsers = new GeneratedParsers(this, fieldParserHelper, codegenThreshold, parallelThreshold);
+    }
+
     /**
      * TCP 메시지 파싱 진입점
-     * 
-     * @param specList API 필드 스펙 리스트
-     * @param message 파싱할 TCP 메시지
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
      * @return 파싱 결과 맵
      */
-    public Map<String, Object> parse(List<ApiFieldSpec> specList, String message) {
-        int[] position = {0}; // 파싱 위치를 참조할 배열
-        return parseFields(specList, message, position);
+    public Map<String, Object> parse(ParsePlan plan, byte[] message) {
+        return parse(plan, message, (IntConsumer) null);
     }
 
     /**
-     * API 필드 스펙 리스트를 순서별로 파싱
-     * 
-     * @param specList 파싱할 스펙 리스트
+     * TCP 메시지 파싱 (배열 크기 통지)
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
+     * @param arraySizes 배열 필드마다 요소 수를 전달받을 대상 (null이면 통지하지 않음)
+     * @return 파싱 결과 맵
+     */
+    public Map<String, Object> parse(ParsePlan plan, byte[] message, IntConsumer arraySizes) {
+        return parse(plan, message, null, arraySizes);
+    }
+
+    /**
+     * 선택한 필드만 파싱
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
+     * @param projection 파싱할 필드 (null이면 전체)
+     * @return 파싱 결과 맵
+     */
+    public Map<String, Object> parse(ParsePlan plan, byte[] message, Projection projection) {
+        return parse(plan, message, projection, (IntConsumer) null);
+    }
+
+    /**
+     * 선택한 필드만 파싱 (배열 크기 통지)
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
+     * @param projection 파싱할 필드 (null이면 전체)
+     * @param arraySizes 배열 필드마다 요소 수를 전달받을 대상 (null이면 통지하지 않음)
+     * @return 파싱 결과 맵
+     */
+    public Map<String, Object> parse(ParsePlan plan, byte[] message, Projection projection, IntConsumer arraySizes) {
+        ParseContext context = ParseContext.acquire();
+        try {
+            MapResultSink sink = context.mapSink();
+            parse(plan, message, projection, context.withArraySizes(sink, arraySizes), context);
+            return sink.getResult();
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * 스펙 기준 메시지 전체 길이 계산 (디코딩 없이 배열 카운트 필드만 읽음)
+     * 고정 길이 서브트리와 고정 길이 요소 배열은 오프셋 계산으로 한 번에 건너뛰며,
+     * 전체가 고정 길이인 플랜은 메시지를 읽지 않음
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message TCP 메시지 (원본 바이트)
+     * @return 카운트 필드 값에 따른 전문 길이 (메시지 길이를 넘으면 그 이상의 임의 값일 수 있음)
+     */
+    public int measure(ParsePlan plan, byte[] message) {
+        if (plan.getFixedSize(ParsePlan.ROOT) != ParsePlan.NONE) {
+            return plan.getFixedSize(ParsePlan.ROOT);
+        }
+        ParseContext context = ParseContext.acquire();
+        try {
+            int[] position = context.position();
+            skipChildren(plan, ParsePlan.ROOT, message, position, context.counts(plan.getCountSlotCount()));
+            return position[0];
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * 메시지를 미리 디코딩하지 않는 읽기 전용 맵 뷰 생성
+     * 필드는 처음 조회할 때 디코딩되며, 키 순서와 값은 parse 결과와 동일
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message TCP 메시지 (원본 바이트, 뷰를 사용하는 동안 수정하면 안 됨)
+     * @return 지연 디코딩 맵 뷰 (한 스레드에서만 사용)
+     */
+    public Map<String, Object> view(ParsePlan plan, byte[] message) {
+        return LazyMessageView.of(this, plan, message);
+    }
+
+    /**
+     * TCP 메시지를 파싱하면서 결과를 JSON으로 바로 출력
+     * 중간 결과 맵을 만들지 않으므로 큰 배열이 포함된 메시지도 메모리 사용량이 일정함
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
+     * @param generator 결과를 출력할 JsonGenerator
+     * @throws IOException JSON 출력 중 오류가 발생한 경우
+     */
+    public void write(ParsePlan plan, byte[] message, JsonGenerator generator) throws IOException {
+        write(plan, message, generator, null);
+    }
+
+    /**
+     * TCP 메시지를 파싱하면서 결과를 JSON으로 바로 출력 (배열 크기 통지)
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
+     * @param generator 결과를 출력할 JsonGenerator
+     * @param arraySizes 배열 필드마다 요소 수를 전달받을 대상 (null이면 통지하지 않음)
+     * @throws IOException JSON 출력 중 오류가 발생한 경우
+     */
+    public void write(ParsePlan plan, byte[] message, JsonGenerator generator, IntConsumer arraySizes)
+            throws IOException {
+        write(plan, message, generator, null, arraySizes);
+    }
+
+    /**
+     * 선택한 필드만 파싱하면서 결과를 JSON으로 바로 출력 (배열 크기 통지)
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
+     * @param generator 결과를 출력할 JsonGenerator
+     * @param projection 파싱할 필드 (null이면 전체)
+     * @param arraySizes 배열 필드마다 요소 수를 전달받을 대상 (null이면 통지하지 않음)
+     * @throws IOException JSON 출력 중 오류가 발생한 경우
+     */
+    public void write(ParsePlan plan, byte[] message, JsonGenerator generator, Projection projection,
+                      IntConsumer arraySizes) throws IOException {
+        ParseContext context = ParseContext.acquire();
+        try {
+            parse(plan, message, projection,
+                    context.withArraySizes(new JsonGeneratorResultSink(generator), arraySizes), context);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * TCP 메시지를 파싱하여 결과를 출력 대상으로 전달
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
+     * @param sink 파싱 결과 출력 대상
+     */
+    public void parse(ParsePlan plan, byte[] message, ParseResultSink sink) {
+        parse(plan, message, null, sink);
+    }
+
+    /**
+     * 선택한 필드만 파싱하여 결과를 출력 대상으로 전달
+     *
+     * @param plan API 코드별로 컴파일된 파싱 플랜
+     * @param message 파싱할 TCP 메시지 (원본 바이트)
+     * @param projection 파싱할 필드 (null이면 전체)
+     * @param sink 파싱 결과 출력 대상
+     * @throws IllegalArgumentException 프로젝션이 다른 플랜으로 만들어진 경우
+     */
+    public void parse(ParsePlan plan, byte[] message, Projection projection, ParseResultSink sink) {
+        ParseContext context = ParseContext.acquire();
+        try {
+            parse(plan, message, projection, sink, context);
+        } finally {
+            context.release();
+        }
+    }
+
+    private void parse(ParsePlan plan, byte[] message, Projection projection, ParseResultSink sink,
+                       ParseContext context) {
+        if (projection != null && projection.getPlan() != plan) {
+            throw new IllegalArgumentException("프로젝션이 파싱 플랜과 일치하지 않습니다: " + plan.getApiCode());
+        }
+        int[] counts = context.counts(plan.getCountSlotCount()); // 배열 카운트 값 슬롯
+        if (projection == null) {
+            GeneratedParser generated = generatedParsers.find(plan);
+            if (generated != null) {
+                generated.parse(plan, message, counts, sink);
+                return;
+            }
+        }
+        int[] position = context.position(); // 파싱 위치를 참조할 배열
+        parseObject(plan, ParsePlan.ROOT, message, position, counts, sink, projection);
+    }
+
+    /**
+     * 오브젝트 노드의 하위 필드를 순서대로 파싱
+     *
+     * @param plan 파싱 플랜
+     * @param node 오브젝트(또는 배열 요소) 노드
      * @param msg TCP 메시지
      * @param position 현재 파싱 위치
-     * @return 파싱된 결과 맵
+     * @param counts 배열 카운트 값 슬롯
+     * @param sink 파싱 결과 출력 대상
+     * @param projection 파싱할 필드 (null이면 하위 필드 전체)
      */
-    private Map<String, Object> parseFields(List<ApiFieldSpec> specList, String msg, int[] position) {
-        Map<String, Object> result = new LinkedHashMap<>();
-        List<ApiFieldSpec> orderedSpecs = fieldParserHelper.getOrderedSpecs(specList);
+    private void parseObject(ParsePlan plan, int node, byte[] msg, int[] position, int[] counts,
+                             ParseResultSink sink, Projection projection) {
+        int first = plan.getFirstChild(node);
+        int end = first + plan.getChildCount(node);
 
-        for (ApiFieldSpec spec : orderedSpecs) {
-            parseField(spec, msg, position, result);
+        sink.beginObject(plan, node);
+        for (int child = first; child < end; child++) {
+            if (projection == null) {
+                parseField(plan, child, msg, position, counts, sink, null);
+                continue;
+            }
+            switch (projection.getMode(child)) {
+                case Projection.SKIP:
+                    skipField(plan, child, msg, position, counts);
+                    break;
+                case Projection.ALL:
+                    parseField(plan, child, msg, position, counts, sink, null);
+                    break;
+                default:
+                    parseField(plan, child, msg, position, counts, sink, projection);
+            }
         }
-
-        return result;
+        sink.endObject();
     }
 
     /**
-     * 단일 API 필드 스펙 파싱
+     * 단일 필드 파싱
      * 필드 타입에 따라 적절한 파싱 메서드를 호출
-     * 
-     * @param spec 파싱할 필드 스펙
+     *
+     * @param plan 파싱 플랜
+     * @param node 파싱할 필드 노드
      * @param msg TCP 메시지
      * @param position 현재 파싱 위치
-     * @param result 파싱 결과를 저장할 맵
+     * @param counts 배열 카운트 값 슬롯
+     * @param sink 파싱 결과 출력 대상
+     * @param projection 파싱할 필드 (null이면 하위 필드 전체)
      */
-    private void parseField(ApiFieldSpec spec, String msg, int[] position, Map<String, Object> result) {
-        FieldType fieldType = FieldType.fromCode(spec.getFieldType());
-        switch (fieldType) {
+    private void parseField(ParsePlan plan, int node, byte[] msg, int[] position, int[] counts,
+                            ParseResultSink sink, Projection projection) {
+        switch (plan.getType(node)) {
             case OBJECT:
-                parseObjectField(spec, msg, position, result);
+                sink.fieldName(plan, node);
+                parseObject(plan, node, msg, position, counts, sink, projection);
                 break;
             case ARRAY:
-                parseArrayField(spec, msg, position, result);
+                parseArrayField(plan, node, msg, position, counts, sink, projection);
                 break;
             default:
-                parsePrimitiveField(spec, msg, position, result);
+                parsePrimitiveField(plan, node, msg, position, counts, sink);
         }
     }
 
     /**
-     * 객체 필드 파싱 (ApiFieldSpec 기반)
-     * 
-     * @param spec 객체 필드 스펙
+     * 배열 필드 파싱
+     * 카운트 필드 값으로 배열 크기를 결정한 뒤 요소를 순서대로 파싱
+     *
+     * @param plan 파싱 플랜
+     * @param node 배열 필드 노드
      * @param msg TCP 메시지
      * @param position 현재 파싱 위치
-     * @param result 파싱 결과를 저장할 맵
+     * @param counts 배열 카운트 값 슬롯
+     * @param sink 파싱 결과 출력 대상
+     * @param projection 파싱할 필드 (null이면 하위 필드 전체)
      */
-    private void parseObjectField(ApiFieldSpec spec, String msg, int[] position, Map<String, Object> result) {
-        List<ApiFieldObject> children = apiSpecRegistry.getObjectFields(spec.getApiCode(), spec.getFieldName());
-        result.put(spec.getFieldName(), parseObjectFields(children, msg, position));
+    private void parseArrayField(ParsePlan plan, int node, byte[] msg, int[] position, int[] counts,
+                                 ParseResultSink sink, Projection projection) {
+        boolean emitCount = projection == null || projection.getMode(plan.getCountNode(node)) != Projection.SKIP;
+        int count = Math.max(getArrayCount(plan, node, msg, position, counts, emitCount ? sink : null), 0);
+
+        sink.fieldName(plan, node);
+        int end = parseElementsInParallel(plan, node, msg, position[0], count, projection, sink);
+        if (end >= 0) {
+            position[0] = end;
+            return;
+        }
+
+        sink.beginArray(plan, node, count);
+        for (int i = 0; i < count; i++) {
+            parseObject(plan, node, msg, position, counts, sink, projection);
+        }
+        sink.endArray();
     }
 
     /**
-     * 배열 필드 파싱 (ApiFieldSpec 기반)
-     * 카운트 필드를 먼저 파싱하여 배열 크기를 결정
-     * 
-     * @param spec 배열 필드 스펙
+     * 요소 수가 기준 이상이고 배열 전체가 메시지 안에 있는 고정 길이 요소 배열이면 병렬로 디코딩하여 출력
+     * (배열 fieldName 호출 뒤, beginArray ~ endArray 대신 elementChunks로 전달)
+     *
+     * @param plan 파싱 플랜
+     * @param node 배열 노드
      * @param msg TCP 메시지
-     * @param position 현재 파싱 위치
-     * @param result 파싱 결과를 저장할 맵
+     * @param start 첫 요소 시작 위치
+     * @param count 배열 요소 수
+     * @param projection 파싱할 필드 (null이면 하위 필드 전체)
+     * @param sink 파싱 결과 출력 대상
+     * @return 병렬로 출력했으면 배열 다음 필드의 시작 위치, 순차 파싱해야 하면 -1
      */
-    private void parseArrayField(ApiFieldSpec spec, String msg, int[] position, Map<String, Object> result) {
-        String fieldName = spec.getFieldName();
-        int count = fieldParserHelper.getArrayCount(fieldName, result, spec.getApiCode(), msg, position, apiSpecRegistry);
-
-        List<Map<String, Object>> array = parseArrayElements(spec.getApiCode(), fieldName, count, msg, position);
-        result.put(fieldName, array);
+    int parseElementsInParallel(ParsePlan plan, int node, byte[] msg, int start, int count, Projection projection,
+                                ParseResultSink sink) {
+        int elementSize = plan.getElementSize(node);
+        if (parallelThreshold <= 0 || count < parallelThreshold || elementSize == ParsePlan.NONE
+                || !fitsInMessage(msg, start, count, elementSize) || !sink.acceptsElementChunks()) {
+            return -1;
+        }
+        sink.elementChunks(plan, node, count, parseChunksInParallel(plan, node, msg, start, count, projection, sink));
+        return arrayEnd(start, count, elementSize);
     }
 
     /**
-     * 원시 타입 필드 파싱 (ApiFieldSpec 기반)
-     * 
-     * @param spec 원시 타입 필드 스펙
+     * 고정 길이 요소 배열을 구간별로 나누어 병렬로 디코딩
+     * 고정 길이 요소에는 배열이 없으므로 요소끼리 카운트 값을 주고받지 않아 구간별로 독립적으로 디코딩 가능
+     *
+     * @param plan 파싱 플랜
+     * @param node 배열 노드
      * @param msg TCP 메시지
-     * @param position 현재 파싱 위치
-     * @param result 파싱 결과를 저장할 맵
+     * @param start 첫 요소 시작 위치
+     * @param count 배열 요소 수 (배열 전체가 메시지 안에 있어야 함, fitsInMessage 참고)
+     * @param projection 파싱할 필드 (null이면 하위 필드 전체)
+     * @param sink 구간 출력 대상을 만들 출력 대상
+     * @return 요소를 출력한 구간 출력 대상 (요소 순서대로)
      */
-    private void parsePrimitiveField(ApiFieldSpec spec, String msg, int[] position, Map<String, Object> result) {
-        String value = fieldParserHelper.extractFieldValue(msg, position, spec.getFieldLength());
-        Object parsedValue = fieldParserHelper.parseFieldValue(value, spec.getFieldType());
-        result.put(spec.getFieldName(), parsedValue);
+    private List<ParseResultSink> parseChunksInParallel(ParsePlan plan, int node, byte[] msg, int start, int count,
+                                                        Projection projection, ParseResultSink sink) {
+        int chunkCount = (int) (((long) count + parallelChunkSize - 1) / parallelChunkSize);
+        List<ParseResultSink> chunks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            chunks.add(sink.newElementChunk(Math.min(parallelChunkSize, count - chunk * parallelChunkSize)));
+        }
+        ForkJoinPool.commonPool().invoke(
+                new ElementChunkTask(plan, node, msg, start, count, projection, chunks, 0, chunkCount));
+        return chunks;
     }
 
     /**
-     * 객체 필드 리스트를 순서별로 파싱
-     * 
-     * @param children 파싱할 객체 필드 리스트
+     * 배열 전체가 메시지 안에 있는지 여부 (요소 수가 남은 바이트로 담을 수 있는 수 이하)
+     * 카운트 필드 값이 메시지보다 큰 배열은 구간 할당 없이 순차 파싱하도록 병렬 디코딩 전에 확인
+     *
      * @param msg TCP 메시지
-     * @param position 현재 파싱 위치
-     * @return 파싱된 결과 맵
+     * @param start 첫 요소 시작 위치
+     * @param count 배열 요소 수
+     * @param elementSize 요소 하나의 길이
+     * @return 배열 끝이 메시지 길이 이내이면 true
+     */
+    static boolean fitsInMessage(byte[] msg, int start, int count, int elementSize) {
+        return count <= (msg.length - (long) start) / elementSize;
+    }
+
+    /**
+     * 고정 길이 요소 배열의 끝 위치 (int 범위를 넘으면 Integer.MAX_VALUE)
+     *
+     * @param start 첫 요소 시작 위치
+     * @param count 배열 요소 수
+     * @param elementSize 요소 하나의 길이
+     * @return 배열 다음 필드의 시작 위치
      */
-    private Map<String, Object> parseObjectFields(List<ApiFieldObject> children, String msg, int[] position) {
-        Map<String, Object> result = new LinkedHashMap<>();
-        List<ApiFieldObject> orderedChildren = fieldParserHelper.getOrderedObjectFields(children);
+    static int arrayEnd(int start, int count, int elementSize) {
+        return (int) Math.min(start + (long) count * elementSize, Integer.MAX_VALUE);
+    }
 
-        for (ApiFieldObject child : orderedChildren) {
-            parseObjectField(child, msg, position, result);
+    /**
+     * 배열 요소 구간 디코딩 작업
+     * 맡은 구간이 둘 이상이면 둘로 나누고, 아니면 요소마다 위치를 계산하여 구간 출력 대상에 순서대로 디코딩
+     */
+    private final class ElementChunkTask extends RecursiveAction {
+
+        private final ParsePlan plan;
+        private final int node;
+        private final byte[] msg;
+        private final int start;
+        private final int count;
+        private final Projection projection;
+        private final List<ParseResultSink> chunks;
+        private final int from;
+        private final int to;
+
+        private ElementChunkTask(ParsePlan plan, int node, byte[] msg, int start, int count, Projection projection,
+                                 List<ParseResultSink> chunks, int from, int to) {
+            this.plan = plan;
+            this.node = node;
+            this.msg = msg;
+            this.start = start;
+            this.count = count;
+            this.projection = projection;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
         }
 
-        return result;
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ElementChunkTask(plan, node, msg, start, count, projection, chunks, from, middle),
+                        new ElementChunkTask(plan, node, msg, start, count, projection, chunks, middle, to));
+                return;
+            }
+
+            int elementSize = plan.getElementSize(node);
+            int[] position = new int[1];
+            int[] counts = new int[plan.getCountSlotCount()];
+            ParseResultSink sink = chunks.get(from);
+            int end = (int) Math.min((long) (from + 1) * parallelChunkSize, count);
+            for (int i = from * parallelChunkSize; i < end; i++) {
+                position[0] = start + i * elementSize;
+                parseObject(plan, node, msg, position, counts, sink, projection);
+            }
+        }
     }
 
     /**
-     * 단일 객체 필드 파싱 (ApiFieldObject 기반)
-     * 필드 타입에 따라 적절한 파싱 메서드를 호출
-     * 
-     * @param child 파싱할 객체 필드
+     * 선택되지 않은 필드를 디코딩하지 않고 건너뜀
+     * 카운트 필드는 뒤따르는 배열을 위해 값만 슬롯에 기록하고,
+     * 고정 길이 오브젝트와 고정 길이 요소 배열은 오프셋 계산으로 한 번에 건너뜀
+     * 메시지 끝을 넘어서면 남은 가변 길이 요소는 더 이상 순회하지 않음
+     *
+     * @param plan 파싱 플랜
+     * @param node 건너뛸 필드 노드
      * @param msg TCP 메시지
      * @param position 현재 파싱 위치
-     * @param result 파싱 결과를 저장할 맵
+     * @param counts 배열 카운트 값 슬롯
      */
-    private void parseObjectField(ApiFieldObject child, String msg, int[] position, Map<String, Object> result) {
-        FieldType fieldType = FieldType.fromCode(child.getFieldType());
-        switch (fieldType) {
+    private void skipField(ParsePlan plan, int node, byte[] msg, int[] position, int[] counts) {
+        switch (plan.getType(node)) {
             case OBJECT:
-                parseNestedObject(child, msg, position, result);
+                if (plan.getFixedSize(node) != ParsePlan.NONE) {
+                    position[0] += plan.getFixedSize(node);
+                } else {
+                    skipChildren(plan, node, msg, position, counts);
+                }
                 break;
             case ARRAY:
-                parseNestedArray(child, msg, position, result);
+                int count = Math.max(getArrayCount(plan, node, msg, position, counts, null), 0);
+                int elementSize = plan.getElementSize(node);
+                if (elementSize != ParsePlan.NONE) {
+                    position[0] = arrayEnd(position[0], count, elementSize);
+                } else {
+                    for (int i = 0; i < count && position[0] <= msg.length; i++) {
+                        skipChildren(plan, node, msg, position, counts);
+                    }
+                }
                 break;
             default:
-                parseNestedPrimitive(child, msg, position, result);
+                if (plan.getCountSlot(node) != ParsePlan.NONE) {
+                    recordCount(plan, node, counts, readInteger(plan, node, msg, position[0]));
+                }
+                position[0] += plan.getLength(node);
+        }
+    }
+
+    private void skipChildren(ParsePlan plan, int node, byte[] msg, int[] position, int[] counts) {
+        int first = plan.getFirstChild(node);
+        for (int child = first; child < first + plan.getChildCount(node); child++) {
+            skipField(plan, child, msg, position, counts);
         }
     }
 
     /**
-     * 중첩된 객체 필드 파싱
-     * 
-     * @param child 중첩 객체 필드
-     * @param msg TCP 메시지
-     * @param position 현재 파싱 위치
-     * @param result 파싱 결과를 저장할 맵
+     * 배열 카운트 조회
+     * 앞서 파싱된 카운트 필드가 있으면 슬롯 값을 사용하고,
+     * 없으면 현재 위치에서 카운트 필드를 읽어 결과에 함께 출력
+     *
+     * @param sink 현재 위치에서 읽은 카운트 필드를 출력할 대상 (null이면 출력하지 않음)
+     * @return 배열 카운트 값 (카운트 필드가 없으면 0)
      */
-    private void parseNestedObject(ApiFieldObject child, String msg, int[] position, Map<String, Object> result) {
-        List<ApiFieldObject> subChildren = apiSpecRegistry.getObjectFields(child.getApiCode(), child.getFieldName());
-        result.put(child.getFieldName(), parseObjectFields(subChildren, msg, position));
+    private int getArrayCount(ParsePlan plan, int node, byte[] msg, int[] position, int[] counts,
+                              ParseResultSink sink) {
+        int countNode = plan.getCountNode(node);
+        if (countNode == ParsePlan.NONE) {
+            return 0;
+        }
+        if (!plan.isInlineCount(node)) {
+            return counts[plan.getCountSlot(countNode)];
+        }
+
+        int count = readInteger(plan, countNode, msg, position[0]);
+        position[0] += plan.getLength(countNode);
+        if (sink != null) {
+            sink.fieldName(plan, countNode);
+            sink.intValue(count);
+        }
+        return count;
     }
 
     /**
-     * 중첩된 배열 필드 파싱
-     * 
-     * @param child 중첩 배열 필드
+     * 원시 타입 필드 파싱
+     * 카운트 필드로 참조되는 경우 정수 값을 슬롯에 기록
+     *
+     * @param plan 파싱 플랜
+     * @param node 원시 타입 필드 노드
      * @param msg TCP 메시지
      * @param position 현재 파싱 위치
-     * @param result 파싱 결과를 저장할 맵
+     * @param counts 배열 카운트 값 슬롯
+     * @param sink 파싱 결과 출력 대상
      */
-    private void parseNestedArray(ApiFieldObject child, String msg, int[] position, Map<String, Object> result) {
-        String fieldName = child.getFieldName();
-        int count = fieldParserHelper.getObjectArrayCount(fieldName, result, child, msg, position, apiSpecRegistry);
+    private void parsePrimitiveField(ParsePlan plan, int node, byte[] msg, int[] position, int[] counts,
+                                     ParseResultSink sink) {
+        int offset = position[0];
+        position[0] += plan.getLength(node);
 
-        List<Map<String, Object>> array = parseArrayElements(child.getApiCode(), fieldName, count, msg, position);
-        result.put(fieldName, array);
+        if (plan.getCountSlot(node) != ParsePlan.NONE) {
+            recordCount(plan, node, counts, readInteger(plan, node, msg, offset));
+        }
+        sink.fieldName(plan, node);
+        decodeValue(plan, node, msg, offset, sink);
     }
 
     /**
-     * 중첩된 원시 타입 필드 파싱
-     * 
-     * @param child 중첩 원시 타입 필드
+     * 원시 타입 필드 값 디코딩
+     * 숫자(N)는 정수, 문자(C)는 문자열, 그 외 타입은 타입별 FieldCodec으로 디코딩
+     *
+     * @param plan 파싱 플랜
+     * @param node 원시 타입 필드 노드
      * @param msg TCP 메시지
-     * @param position 현재 파싱 위치
-     * @param result 파싱 결과를 저장할 맵
+     * @param offset 필드 시작 위치
+     * @param sink 값을 전달받을 출력 대상
      */
-    private void parseNestedPrimitive(ApiFieldObject child, String msg, int[] position, Map<String, Object> result) {
-        String value = fieldParserHelper.extractFieldValue(msg, position, child.getFieldLength());
-        Object parsedValue = fieldParserHelper.parseFieldValue(value, child.getFieldType());
-        result.put(child.getFieldName(), parsedValue);
+    void decodeValue(ParsePlan plan, int node, byte[] msg, int offset, ParseResultSink sink) {
+        int length = plan.getLength(node);
+        FieldType type = plan.getType(node);
+        if (type == FieldType.NUMBER) {
+            sink.intValue(fieldParserHelper.parseInteger(msg, offset, length));
+        } else if (type.getCodec() != null) {
+            type.getCodec().decode(msg, offset, length, plan.getScale(node), sink);
+        } else {
+            sink.stringValue(fieldParserHelper.decode(msg, offset, length));
+        }
     }
 
     /**
-     * 배열 소모를 파싱하는 공통 메서드
-     * parseArrayField와 parseNestedArrayField의 중복 코드를 제거
-     * 
-     * @param apiCode API 코드
-     * @param fieldName 필드명
-     * @param count 배열 크기
-     * @param msg TCP 메시지
-     * @param position 현재 파싱 위치
-     * @return 파싱된 배열 소모
+     * 원시 타입 필드를 정수로 읽기 (배열 카운트 필드용)
      */
-    private List<Map<String, Object>> parseArrayElements(String apiCode, String fieldName, int count, String msg, int[] position) {
-        List<ApiFieldObject> children = apiSpecRegistry.getObjectFields(apiCode, fieldName);
-        List<Map<String, Object>> array = new ArrayList<>();
+    int readInteger(ParsePlan plan, int node, byte[] msg, int offset) {
+        return fieldParserHelper.parseInteger(msg, offset, plan.getLength(node));
+    }
 
-        for (int i = 0; i < count; i++) {
-            array.add(parseObjectFields(children, msg, position));
+    private static void recordCount(ParsePlan plan, int node, int[] counts, int value) {
+        int slot = plan.getCountSlot(node);
+        if (slot != ParsePlan.NONE) {
+            counts[slot] = value;
         }
-
-        return array;
     }
 }
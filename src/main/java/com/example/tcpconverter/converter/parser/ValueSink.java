@@ -0,0 +1,71 @@
+package com.example.tcpconverter.converter.parser;
+
+import java.math.BigDecimal;
+
+/**
+ * 원시 값 하나를 받아 두는 출력 대상 (오브젝트/배열 이벤트는 사용하지 않음)
+ * 지연 디코딩 뷰와 생성된 파서가 FieldCodec 결과를 값으로 받을 때 사용
+ */
+final class ValueSink implements ParseResultSink {
+
+    private Object value;
+
+    /**
+     * 마지막으로 받은 값
+     *
+     * @return 디코딩한 값 (비어 있거나 형식이 맞지 않으면 null)
+     */
+    Object getValue() {
+        return value;
+    }
+
+    @Override
+    public void beginObject(ParsePlan plan, int node) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void endObject() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void beginArray(ParsePlan plan, int node, int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void endArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void fieldName(ParsePlan plan, int node) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void stringValue(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public void intValue(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public void longValue(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public void decimalValue(BigDecimal value) {
+        this.value = value;
+    }
+
+    @Override
+    public void nullValue() {
+        this.value = null;
+    }
+}
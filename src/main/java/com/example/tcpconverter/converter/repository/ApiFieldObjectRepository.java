@@ -1,5 +1,6 @@
 package com.example.tcpconverter.converter.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -36,4 +37,24 @@ public interface ApiFieldObjectRepository extends JpaRepository<ApiFieldObject,
      * @return 필드 순서별로 정렬된 하위 필드 목록
      */
     List<ApiFieldObject> findByApiCodeAndParentFieldNameOrderByFieldOrder(String apiCode, String parentFieldName);
+
+    /**
+     * 특정 API의 모든 하위 필드를 부모 필드명, 필드 순서별로 조회
+     * 
+     * ApiSpecRegistry의 지연 로딩 모드에서 API 코드 하나의 스펙만 컴파일할 때 사용
+     * 
+     * @param apiCode 조회할 API 코드 (예: "SDL_101")
+     * @return 부모 필드명, 필드 순서별로 정렬된 하위 필드 목록
+     */
+    List<ApiFieldObject> findByApiCodeOrderByParentFieldNameAscFieldOrderAsc(String apiCode);
+
+    /**
+     * 여러 API의 모든 하위 필드를 API 코드, 부모 필드명, 필드 순서별로 조회
+     * 
+     * ApiSpecRegistry의 지연 로딩 모드에서 리로드 시 캐시에 적재된 API 코드의 변경 여부를 확인할 때 사용
+     * 
+     * @param apiCodes 조회할 API 코드 목록
+     * @return API 코드, 부모 필드명, 필드 순서별로 정렬된 하위 필드 목록
+     */
+    List<ApiFieldObject> findByApiCodeInOrderByApiCodeAscParentFieldNameAscFieldOrderAsc(Collection<String> apiCodes);
 }
@@ -1,5 +1,6 @@
 package com.example.tcpconverter.converter.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -33,10 +34,20 @@ public interface ApiFieldSpecRepository extends JpaRepository<ApiFieldSpec, Long
     /**
      * 모든 API 필드 스펙을 API 코드와 필드 순서 기준으로 정렬하여 조회
      * 
-     * ApiSpecRegistry에서 애플리케이션 시작 시 모든 스펙을 로드할 때 사용
+     * ApiSpecRegistry에서 애플리케이션 시작 및 리로드 시 모든 스펙을 로드할 때 사용
      * API 코드별로 그룹화하고 그룹 내에서 필드 순서별로 정렬
      * 
      * @return API 코드 및 필드 순서별 정렬된 전체 API 필드 스펙 목록
      */
     List<ApiFieldSpec> findAllByOrderByApiCodeAscFieldOrderAsc();
+
+    /**
+     * 여러 API 코드의 필드 스펙을 API 코드와 필드 순서 기준으로 정렬하여 조회
+     * 
+     * ApiSpecRegistry의 지연 로딩 모드에서 리로드 시 캐시에 적재된 API 코드의 변경 여부를 확인할 때 사용
+     * 
+     * @param apiCodes 조회할 API 코드 목록
+     * @return API 코드 및 필드 순서별 정렬된 API 필드 스펙 목록
+     */
+    List<ApiFieldSpec> findByApiCodeInOrderByApiCodeAscFieldOrderAsc(Collection<String> apiCodes);
 } 
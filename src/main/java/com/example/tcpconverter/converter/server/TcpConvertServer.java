@@ -0,0 +1,463 @@
+package com.example.tcpconverter.converter.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+import com.example.tcpconverter.converter.service.ConvertMetrics;
+import com.example.tcpconverter.converter.service.TcpMessageParseService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TCP 전문 변환 서버
+ *
+ * 채널 게이트웨이가 사용하는 TCP 전문을 HTTP를 거치지 않고 직접 수신하여 JSON으로 변환
+ * java.nio 셀렉터 기반으로 하나의 accept 스레드와 여러 개의 이벤트 루프로 동작
+ *
+ * 프로토콜:
+ * - 요청: 전문 앞 6바이트의 MsgLen(전문 전체 길이)으로 프레이밍
+ * - 응답: 변환 결과 JSON (converter.tcp.response-format 설정에 따라 길이 헤더 또는 개행으로 프레이밍)
+ * - 한 연결에서 여러 요청을 연속으로 보낼 수 있으며(pipelining) 응답은 요청 순서대로 전송
+ * - 변환 실패 시 {"error": "..."} 응답 후 연결 유지, 길이 헤더가 잘못된 경우 응답 후 연결 종료
+ *
+ * 설정 (converter.tcp.enabled=true 인 경우에만 기동):
+ * - converter.tcp.port: 수신 포트
+ * - converter.tcp.event-loops: 이벤트 루프 수 (기본: CPU 코어 수)
+ * - converter.tcp.max-connections: 최대 동시 연결 수
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class TcpConvertServer implements SmartLifecycle {
+
+    /** 연결별 읽기 버퍼 초기 크기 */
+    private static final int INITIAL_READ_BUFFER_SIZE = 8 * 1024;
+
+    /** 전송 대기 응답이 이 크기를 넘으면 요청 읽기를 잠시 중단 */
+    private static final int MAX_PENDING_WRITE_BYTES = 4 * 1024 * 1024;
+
+    /**
+     * 응답 프레이밍 방식
+     */
+    public enum ResponseFormat {
+        /** 6바이트 전체 길이 헤더 + JSON (요청 전문과 동일한 방식) */
+        LENGTH_PREFIXED,
+        /** JSON + 개행 문자 */
+        NEWLINE
+    }
+
+    private final TcpMessageParseService tcpMessageParseService;
+    private final CommonHeaderCodec commonHeaderCodec;
+    private final ObjectMapper objectMapper;
+    private final ConvertMetrics convertMetrics;
+    private final boolean enabled;
+    private final int port;
+    private final int eventLoopCount;
+    private final int maxConnections;
+    private final ResponseFormat responseFormat;
+
+    /** 현재 연결 수 */
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private volatile boolean running;
+    private ServerSocketChannel serverChannel;
+    private Thread acceptorThread;
+    private EventLoop[] eventLoops;
+
+    public TcpConvertServer(TcpMessageParseService tcpMessageParseService,
+                            CommonHeaderCodec commonHeaderCodec,
+                            ObjectMapper objectMapper,
+                            ConvertMetrics convertMetrics,
+                            @Value("${converter.tcp.enabled:false}") boolean enabled,
+                            @Value("${converter.tcp.port:9090}") int port,
+                            @Value("${converter.tcp.event-loops:0}") int eventLoopCount,
+                            @Value("${converter.tcp.max-connections:1000}") int maxConnections,
+                            @Value("${converter.tcp.response-format:LENGTH_PREFIXED}") ResponseFormat responseFormat) {
+        this.tcpMessageParseService = tcpMessageParseService;
+        this.commonHeaderCodec = commonHeaderCodec;
+        this.objectMapper = objectMapper;
+        this.convertMetrics = convertMetrics;
+        this.enabled = enabled;
+        this.port = port;
+        this.eventLoopCount = eventLoopCount > 0 ? eventLoopCount : Runtime.getRuntime().availableProcessors();
+        this.maxConnections = maxConnections;
+        this.responseFormat = responseFormat;
+    }
+
+    /**
+     * 서버 기동
+     * 수신 소켓을 열고 이벤트 루프와 accept 스레드를 시작
+     */
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            eventLoops = new EventLoop[eventLoopCount];
+            for (int i = 0; i < eventLoopCount; i++) {
+                eventLoops[i] = new EventLoop(i);
+            }
+
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(port));
+            running = true;
+
+            for (EventLoop loop : eventLoops) {
+                loop.thread.start();
+            }
+            acceptorThread = new Thread(this::acceptLoop, "tcp-convert-acceptor");
+            acceptorThread.start();
+            log.info("TCP 전문 변환 서버 시작: port={}, eventLoops={}, maxConnections={}",
+                    getPort(), eventLoopCount, maxConnections);
+        } catch (IOException e) {
+            throw new IllegalStateException("TCP 전문 변환 서버 기동 실패: port=" + port, e);
+        }
+    }
+
+    /**
+     * 서버 종료
+     * 수신 소켓과 모든 연결을 닫고 이벤트 루프를 종료
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeQuietly(serverChannel);
+        for (EventLoop loop : eventLoops) {
+            loop.selector.wakeup();
+        }
+        log.info("TCP 전문 변환 서버 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 실제 수신 포트 (port=0 으로 기동한 경우 할당된 포트)
+     *
+     * @return 수신 포트, 기동 전이면 설정된 포트
+     */
+    public int getPort() {
+        try {
+            if (serverChannel != null && serverChannel.isOpen()) {
+                return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+            }
+        } catch (IOException e) {
+            log.debug("수신 포트 조회 실패", e);
+        }
+        return port;
+    }
+
+    /**
+     * 연결 수락 루프
+     * 최대 연결 수를 넘는 연결은 즉시 종료하고, 나머지는 이벤트 루프에 순환 배분
+     */
+    private void acceptLoop() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                if (connectionCount.incrementAndGet() > maxConnections) {
+                    connectionCount.decrementAndGet();
+                    log.warn("최대 연결 수 초과로 연결 거부: remote={}", channel.getRemoteAddress());
+                    closeQuietly(channel);
+                    continue;
+                }
+                eventLoops[next].register(channel);
+                next = (next + 1) % eventLoops.length;
+            } catch (ClosedChannelException e) {
+                break;
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("연결 수락 실패", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 수신한 전문 하나를 변환하여 프레이밍된 응답 바이트를 생성
+     * 변환 결과는 결과 맵 없이 JSON으로 바로 출력 (재시도/중복 전문은 결과 캐시의 JSON 사용)
+     *
+     * @param frame 전문 (길이 헤더 포함)
+     * @return 전송할 응답
+     */
+    private ByteBuffer handleFrame(byte[] frame) {
+        byte[] json;
+        try {
+            json = tcpMessageParseService.toJson(frame, objectMapper.getFactory());
+        } catch (IllegalArgumentException e) {
+            return frame(serialize(Map.of("error", e.getMessage())));
+        } catch (IOException | RuntimeException e) {
+            log.error("TCP 전문 변환 중 오류", e);
+            return frame(serialize(Map.of("error", "전문 변환 중 오류가 발생했습니다.")));
+        }
+        convertMetrics.recordResponseSize(ConvertMetrics.CHANNEL_TCP, json.length);
+        return frame(json);
+    }
+
+    private byte[] serialize(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            log.error("응답 직렬화 실패", e);
+            return "{\"error\":\"응답 직렬화 실패\"}".getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 설정된 응답 형식으로 프레이밍
+     */
+    private ByteBuffer frame(byte[] json) {
+        if (responseFormat == ResponseFormat.NEWLINE) {
+            ByteBuffer buffer = ByteBuffer.allocate(json.length + 1);
+            buffer.put(json).put((byte) '\n');
+            return buffer.flip();
+        }
+
+        int total = CommonHeaderCodec.MSG_LEN_LENGTH + json.length;
+        if (total > CommonHeaderCodec.MAX_MSG_LEN) {
+            return frame(serialize(Map.of("error", "응답 길이가 최대 전문 길이를 초과합니다: " + total)));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        buffer.put(String.format("%06d", total).getBytes(StandardCharsets.US_ASCII)).put(json);
+        return buffer.flip();
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.debug("소켓 종료 실패", e);
+        }
+    }
+
+    /**
+     * 셀렉터 하나를 담당하는 이벤트 루프
+     * 배정된 연결의 읽기, 전문 변환, 응답 쓰기를 모두 같은 스레드에서 처리하여 연결별 순서를 보장
+     */
+    private final class EventLoop implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<SocketChannel> pendingChannels = new ConcurrentLinkedQueue<>();
+
+        private EventLoop(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "tcp-convert-loop-" + index);
+        }
+
+        private void register(SocketChannel channel) {
+            pendingChannels.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    registerPendingChannels();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isValid() && key.isReadable()) {
+                                connection.onReadable();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.onWritable();
+                            }
+                        } catch (IOException e) {
+                            log.debug("연결 처리 중 오류: {}", e.getMessage());
+                            connection.close();
+                        }
+                    }
+                } catch (IOException e) {
+                    log.warn("이벤트 루프 오류", e);
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                ((Connection) key.attachment()).close();
+            }
+            closeQuietly(selector);
+        }
+
+        private void registerPendingChannels() {
+            SocketChannel channel;
+            while ((channel = pendingChannels.poll()) != null) {
+                try {
+                    channel.configureBlocking(false);
+                    channel.socket().setTcpNoDelay(true);
+                    Connection connection = new Connection(channel);
+                    connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                } catch (IOException e) {
+                    log.debug("연결 등록 실패: {}", e.getMessage());
+                    connectionCount.decrementAndGet();
+                    closeQuietly(channel);
+                }
+            }
+        }
+    }
+
+    /**
+     * 연결별 상태
+     * 읽기 버퍼에 쌓인 요청을 MsgLen 기준으로 잘라 처리하고, 응답을 순서대로 전송
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final Queue<ByteBuffer> writeQueue = new ArrayDeque<>();
+        private SelectionKey key;
+        private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_SIZE);
+        private int pendingWriteBytes;
+        private boolean closeAfterWrite;
+        private boolean closed;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void onReadable() throws IOException {
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                close();
+                return;
+            }
+            processFrames();
+        }
+
+        /**
+         * 읽기 버퍼에서 완성된 전문을 모두 처리
+         * 응답 대기량이 한도를 넘으면 응답을 전송한 뒤 이어서 처리하며,
+         * 바로 전송하지 못한 경우 남은 전문은 쓰기가 끝난 뒤(onWritable) 처리
+         */
+        private void processFrames() throws IOException {
+            boolean throttled;
+            do {
+                throttled = decodeFrames();
+                flush();
+                // 대기 응답을 모두 바로 전송한 경우 읽기 버퍼에 남은 전문은 다음 수신을 기다리지 않고 계속 처리
+            } while (throttled && !closed && pendingWriteBytes < MAX_PENDING_WRITE_BYTES);
+        }
+
+        /**
+         * 응답 대기량 한도까지 완성된 전문을 변환하여 전송 대기열에 추가
+         *
+         * @return 응답 대기량 한도 때문에 처리를 멈춘 경우 true
+         */
+        private boolean decodeFrames() {
+            readBuffer.flip();
+            int required = CommonHeaderCodec.MSG_LEN_LENGTH;
+            while (!closeAfterWrite && pendingWriteBytes < MAX_PENDING_WRITE_BYTES
+                    && readBuffer.remaining() >= CommonHeaderCodec.MSG_LEN_LENGTH) {
+                int frameLength = commonHeaderCodec.readMsgLen(readBuffer.array(),
+                        readBuffer.arrayOffset() + readBuffer.position());
+                if (frameLength < CommonHeaderCodec.MSG_LEN_LENGTH) {
+                    // 길이 헤더가 잘못되면 이후 전문 경계를 알 수 없으므로 연결 종료
+                    enqueue(frame(serialize(Map.of("error", "전문 길이 필드가 올바르지 않습니다."))));
+                    closeAfterWrite = true;
+                    break;
+                }
+                if (readBuffer.remaining() < frameLength) {
+                    required = frameLength;
+                    break;
+                }
+                byte[] frame = new byte[frameLength];
+                readBuffer.get(frame);
+                enqueue(handleFrame(frame));
+            }
+            readBuffer.compact();
+
+            if (required > readBuffer.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(required);
+                readBuffer.flip();
+                larger.put(readBuffer);
+                readBuffer = larger;
+            }
+            return !closeAfterWrite && pendingWriteBytes >= MAX_PENDING_WRITE_BYTES
+                    && readBuffer.position() >= CommonHeaderCodec.MSG_LEN_LENGTH;
+        }
+
+        private void enqueue(ByteBuffer response) {
+            writeQueue.add(response);
+            pendingWriteBytes += response.remaining();
+        }
+
+        private void onWritable() throws IOException {
+            flush();
+            if (writeQueue.isEmpty() && !closed && readBuffer.position() > 0) {
+                // 쓰기 대기로 미뤄둔 전문 처리
+                processFrames();
+            }
+        }
+
+        /**
+         * 전송 대기 응답을 가능한 만큼 전송하고 관심 이벤트 갱신
+         */
+        private void flush() throws IOException {
+            while (!writeQueue.isEmpty()) {
+                ByteBuffer head = writeQueue.peek();
+                int written = channel.write(head);
+                pendingWriteBytes -= written;
+                if (head.hasRemaining()) {
+                    break;
+                }
+                writeQueue.poll();
+            }
+
+            if (writeQueue.isEmpty() && closeAfterWrite) {
+                close();
+                return;
+            }
+            int ops = writeQueue.isEmpty() ? 0 : SelectionKey.OP_WRITE;
+            if (pendingWriteBytes < MAX_PENDING_WRITE_BYTES && !closeAfterWrite) {
+                ops |= SelectionKey.OP_READ;
+            }
+            key.interestOps(ops);
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            connectionCount.decrementAndGet();
+            if (key != null) {
+                key.cancel();
+            }
+            closeQuietly(channel);
+        }
+    }
+}
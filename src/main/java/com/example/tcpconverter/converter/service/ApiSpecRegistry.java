@@ -1,23 +1,39 @@
 package com.example.tcpconverter.converter.service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.tcpconverter.converter.entity.ApiFieldObject;
 import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.parser.ParsePlanCompiler;
 import com.example.tcpconverter.converter.repository.ApiFieldObjectRepository;
 import com.example.tcpconverter.converter.repository.ApiFieldSpecRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * API 스펙 레지스트리 서비스
@@ -29,12 +45,40 @@ import jakarta.annotation.PostConstruct;
  * - API 코드별 필드 스펙 정보 캐싱
  * - 오브젝트/리스트 타입 필드의 하위 필드 정보 캐싱
  * - 필드 순서 보장 및 정렬
+ * - API 코드별 파싱 플랜(ParsePlan) 사전 컴파일
+ * - 재시작 없는 스펙 리로드 (변경된 API 코드만 다시 컴파일)
+ * 
+ * 스펙은 불변 스냅샷(ApiSpecSnapshot)으로 관리하며, 리로드 시 새 스냅샷을 별도로 만든 뒤
+ * 참조만 원자적으로 교체함. 조회 중인 요청은 잠금 없이 이전 스냅샷으로 처리를 마침
+ * 
+ * 로딩 모드 (converter.spec.load-mode):
+ * - EAGER: 시작 시 모든 API 코드를 로드하고 컴파일 (기본값)
+ * - LAZY: API 코드별로 처음 요청될 때 해당 코드의 스펙만 조회하여 컴파일
+ *   컴파일된 플랜만 크기 제한 캐시에 보관하고 JPA 엔티티는 보관하지 않음
+ *   캐시는 사용 빈도 기반으로 교체되므로 자주 쓰는 API 코드는 계속 메모리에 유지됨
+ *   리로드 시 캐시에 적재된 API 코드의 스펙 지문만 비교하여 변경된 코드만 다시 컴파일
+ * 
+ * 스냅샷 파일 (converter.spec.snapshot.path, EAGER 모드):
+ * - 스냅샷이 바뀔 때마다 컴파일된 플랜을 로컬 파일로 저장
+ * - 기동 시 파일이 있으면 바로 복원하여 요청을 받고, 데이터베이스 확인은 백그라운드에서 진행
+ * - 데이터베이스 확인이 끝나기 전에는 getSpec/getObjectFields가 빈 결과를 반환
  * 
  * @author converter Team
  * @since 1.0
  */
+@Slf4j
 @Component
 public class ApiSpecRegistry {
+
+    /**
+     * 스펙 로딩 모드
+     */
+    public enum LoadMode {
+        /** 시작 시 전체 로드 */
+        EAGER,
+        /** API 코드별 최초 요청 시 로드 */
+        LAZY
+    }
     
     /** API 필드 스펙 Repository */
     private final ApiFieldSpecRepository repository;
@@ -43,29 +87,42 @@ public class ApiSpecRegistry {
     private final ApiFieldObjectRepository objectRepository;
     
     /** 
-     * API 코드별 필드 스펙 맵
-     * Key: API 코드 (예: "SDL_101")
-     * Value: 해당 API의 필드 스펙 목록 (필드 순서별로 정렬됨)
+     * 현재 스펙 스냅샷
+     * 리로드가 끝난 시점에만 교체되며, 교체 전에 조회한 스냅샷은 계속 유효
      */
-    private final Map<String, List<ApiFieldSpec>> apiSpecMap = new HashMap<>();
-    
-    /** 
-     * API 오브젝트 필드 맵 (3단계 구조)
-     * Key1: API 코드 (예: "SDL_101")
-     * Key2: 부모 필드명 (예: "Customer", "LoanList")
-     * Value: 해당 오브젝트의 하위 필드 목록 (필드 순서별로 정렬됨)
+    private final AtomicReference<ApiSpecSnapshot> snapshot = new AtomicReference<>(ApiSpecSnapshot.EMPTY);
+
+    /** LAZY 모드 리로드 시 스펙 지문 확인을 위해 한 번에 조회할 API 코드 수 */
+    private static final int LAZY_RELOAD_CHUNK_SIZE = 500;
+
+    /**
+     * LAZY 모드의 API 코드별 파싱 플랜 캐시 (EAGER 모드에서는 null)
+     * 존재하지 않거나 컴파일에 실패한 API 코드도 플랜 없는 값으로 캐싱하여 반복 조회를 막음
      */
-    private final Map<String, Map<String, List<ApiFieldObject>>> apiObjectFieldMap = new HashMap<>();
+    private final Cache<String, LazyPlan> lazyPlans;
+
+    /** 컴파일된 스펙 스냅샷 파일 저장소 */
+    private final ApiSpecSnapshotStore snapshotStore;
 
     /**
      * 생성자 - Repository 의존성 주입
      * 
      * @param repository API 필드 스펙 Repository
      * @param objectRepository API 필드 오브젝트 Repository
+     * @param snapshotStore 스펙 스냅샷 파일 저장소
+     * @param loadMode 스펙 로딩 모드
+     * @param cacheMaxSize LAZY 모드에서 메모리에 유지할 최대 API 코드 수
      */
-    public ApiSpecRegistry(ApiFieldSpecRepository repository, ApiFieldObjectRepository objectRepository) {
+    public ApiSpecRegistry(ApiFieldSpecRepository repository, ApiFieldObjectRepository objectRepository,
+                           ApiSpecSnapshotStore snapshotStore,
+                           @Value("${converter.spec.load-mode:EAGER}") LoadMode loadMode,
+                           @Value("${converter.spec.cache.max-size:10000}") long cacheMaxSize) {
         this.repository = repository;
         this.objectRepository = objectRepository;
+        this.snapshotStore = snapshotStore;
+        this.lazyPlans = loadMode == LoadMode.LAZY
+                ? Caffeine.newBuilder().maximumSize(cacheMaxSize).build()
+                : null;
     }
 
     /**
@@ -73,30 +130,62 @@ public class ApiSpecRegistry {
      * 
      * 애플리케이션 시작 시 자동으로 실행되어 데이터베이스에서 모든 API 스펙 정보를
      * 메모리에 로드하고 캐싱함
+     * 스냅샷 파일이 있으면 파일에서 복원하고 데이터베이스 확인은 백그라운드로 미룸
+     */
+    @PostConstruct
+    public void loadSpecs() {
+        if (lazyPlans != null) {
+            log.info("API 스펙 지연 로딩 모드: API 코드별 최초 요청 시 로드");
+            return;
+        }
+        if (snapshotStore.isEnabled()) {
+            Optional<ApiSpecSnapshot> stored = snapshotStore.read();
+            if (stored.isPresent()) {
+                snapshot.set(stored.get());
+                log.info("API 스펙 스냅샷 파일 복원: 버전={}, API 코드 수={}",
+                        stored.get().getVersion(), getApiCodes().size());
+                refreshInBackground();
+                return;
+            }
+        }
+        ReloadResult result = reload();
+        log.info("API 스펙 로드 완료: 버전={}, API 코드 수={}", result.getVersion(), getApiCodes().size());
+    }
+
+    /**
+     * API 스펙 리로드
      * 
      * 처리 과정:
      * 1. API 필드 스펙 데이터 로드 및 API 코드별 그룹화
      * 2. API 오브젝트 필드 데이터 로드 및 3단계 맵 구조 생성
      * 3. 필드 순서에 따른 정렬
+     * 4. API 코드별 스펙 지문을 이전 스냅샷과 비교하여 변경된 코드만 파싱 플랜 컴파일
+     * 5. 변경이 있으면 새 버전 스냅샷으로 교체하고 스냅샷 파일 저장
+     * 
+     * 동시에 여러 리로드가 실행되지 않도록 직렬화하며, 조회는 잠금 없이 계속 진행됨
+     * LAZY 모드에서는 캐시에 적재된 API 코드만 확인하여 변경된 코드만 다시 컴파일 (reloadLazy)
+     * 
+     * @return 리로드 결과 (버전, 추가/변경/삭제/실패 API 코드)
      */
-    @PostConstruct
-    public void loadSpecs() {
+    public synchronized ReloadResult reload() {
+        ApiSpecSnapshot previous = snapshot.get();
+        if (lazyPlans != null) {
+            return reloadLazy(previous);
+        }
+
         // 1. API 필드 스펙 로드 (API 코드, 필드 순서 오름차순으로 정렬)
         List<ApiFieldSpec> allSpecs = repository.findAllByOrderByApiCodeAscFieldOrderAsc();
-        apiSpecMap.clear();
         
         // API 코드별로 그룹화한 LinkedHashMap 사용 (순서 보장)
-        apiSpecMap.putAll(
-                allSpecs.stream().collect(Collectors.groupingBy(
-                    ApiFieldSpec::getApiCode,    // 그룹핑 키: API 코드
-                    LinkedHashMap::new,          // 맵 타입: 순서 보장
-                    Collectors.toList()          // 값 집합: 리스트로 수집
-                ))
-        );
+        Map<String, List<ApiFieldSpec>> apiSpecMap = allSpecs.stream().collect(Collectors.groupingBy(
+                ApiFieldSpec::getApiCode,    // 그룹핑 키: API 코드
+                LinkedHashMap::new,          // 맵 타입: 순서 보장
+                Collectors.toList()          // 값 집합: 리스트로 수집
+        ));
 
         // 2. API 오브젝트 필드 로드
         List<ApiFieldObject> allObjects = objectRepository.findAll();
-        apiObjectFieldMap.clear();
+        Map<String, Map<String, List<ApiFieldObject>>> apiObjectFieldMap = new HashMap<>();
         
         // 3단계 맵 구조 생성: API코드 -> 부모필드명 -> 오브젝트필드목록
         for (ApiFieldObject obj : allObjects) {
@@ -112,25 +201,119 @@ public class ApiSpecRegistry {
                 list.sort(Comparator.comparingInt(ApiFieldObject::getFieldOrder));
             }
         }
+
+        // 4. 변경된 API 코드만 파싱 플랜 컴파일 (잘못된 스펙은 해당 API 코드만 제외)
+        Map<String, ParsePlan> apiPlanMap = new HashMap<>();
+        Map<String, String> fingerprints = new HashMap<>();
+        List<String> added = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, List<ApiFieldSpec>> entry : apiSpecMap.entrySet()) {
+            String apiCode = entry.getKey();
+            Map<String, List<ApiFieldObject>> objectFields =
+                    apiObjectFieldMap.getOrDefault(apiCode, Collections.emptyMap());
+            String fingerprint = fingerprint(entry.getValue(), objectFields);
+            fingerprints.put(apiCode, fingerprint);
+
+            String previousFingerprint = previous.getFingerprints().get(apiCode);
+            if (fingerprint.equals(previousFingerprint)) {
+                ParsePlan plan = previous.getPlan(apiCode);
+                if (plan != null) {
+                    apiPlanMap.put(apiCode, plan);
+                }
+                continue;
+            }
+
+            (previousFingerprint == null ? added : changed).add(apiCode);
+            try {
+                apiPlanMap.put(apiCode, ParsePlanCompiler.compile(apiCode, entry.getValue(), objectFields));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                failed.add(apiCode);
+                log.error("API 스펙 컴파일 실패: apiCode={}, 원인={}", apiCode, e.getMessage());
+            }
+        }
+        List<String> removed = previous.getApiCodes().stream()
+                .filter(apiCode -> !apiSpecMap.containsKey(apiCode))
+                .sorted()
+                .collect(Collectors.toList());
+
+        // 5. 변경이 있을 때만 새 버전으로 교체
+        // 스냅샷 파일에서 복원한 직후에는 변경이 없어도 스펙 엔티티를 채우기 위해 같은 버전으로 교체
+        boolean modified = !added.isEmpty() || !changed.isEmpty() || !removed.isEmpty()
+                || previous == ApiSpecSnapshot.EMPTY;
+        if (!modified && !previous.getSpecs().isEmpty()) {
+            log.debug("API 스펙 변경 없음: 버전={}", previous.getVersion());
+            return new ReloadResult(previous.getVersion(), added, changed, removed, failed);
+        }
+
+        ApiSpecSnapshot next = new ApiSpecSnapshot(modified ? previous.getVersion() + 1 : previous.getVersion(),
+                Collections.unmodifiableMap(apiSpecMap),
+                Collections.unmodifiableMap(apiObjectFieldMap),
+                Collections.unmodifiableMap(apiPlanMap),
+                Collections.unmodifiableMap(fingerprints));
+        snapshot.set(next);
+        if (modified) {
+            saveSnapshot(next);
+        }
+
+        log.info("API 스펙 리로드: 버전={}, 추가={}, 변경={}, 삭제={}, 실패={}",
+                next.getVersion(), added, changed, removed, failed);
+        return new ReloadResult(next.getVersion(), added, changed, removed, failed);
+    }
+
+    /**
+     * 현재 스펙 스냅샷 조회
+     * 한 요청 안에서 여러 번 조회해야 하는 경우 스냅샷을 한 번 받아 사용하면 같은 버전이 보장됨
+     * 
+     * @return 현재 스냅샷
+     */
+    public ApiSpecSnapshot getSnapshot() {
+        return snapshot.get();
     }
 
     /**
      * 특정 API 코드의 필드 스펙 목록 조회
+     * LAZY 모드에서는 엔티티를 보관하지 않으므로 매번 데이터베이스에서 조회
      * 
      * @param apiCode API 코드 (예: "SDL_101")
      * @return 해당 API의 필드 스펙 목록 (필드 순서별로 정렬됨), 없으면 null
      */
     public List<ApiFieldSpec> getSpec(String apiCode) {
-        return apiSpecMap.get(apiCode);
+        if (lazyPlans != null) {
+            List<ApiFieldSpec> specs = repository.findByApiCodeOrderByFieldOrder(apiCode);
+            return specs.isEmpty() ? null : specs;
+        }
+        return snapshot.get().getSpec(apiCode);
+    }
+
+    /**
+     * 특정 API 코드의 컴파일된 파싱 플랜 조회
+     * LAZY 모드에서는 캐시에 없으면 해당 API 코드의 스펙만 로드하여 컴파일
+     * 
+     * @param apiCode API 코드 (예: "SDL_101")
+     * @return 해당 API의 파싱 플랜, 없거나 컴파일에 실패한 경우 null
+     */
+    public ParsePlan getPlan(String apiCode) {
+        if (lazyPlans != null) {
+            return lazyPlans.get(apiCode, this::loadPlan).plan;
+        }
+        return snapshot.get().getPlan(apiCode);
     }
 
     /**
      * 등록된 모든 API 코드 목록 조회
+     * LAZY 모드에서는 현재 캐시에 적재된 API 코드만 반환
      * 
      * @return API 코드 집합
      */
     public Set<String> getApiCodes() {
-        return apiSpecMap.keySet();
+        if (lazyPlans != null) {
+            return lazyPlans.asMap().entrySet().stream()
+                    .filter(entry -> entry.getValue().plan != null)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        }
+        return snapshot.get().getApiCodes();
     }
 
     /**
@@ -143,8 +326,204 @@ public class ApiSpecRegistry {
      * @return 하위 필드 목록 (필드 순서별로 정렬됨), 없으면 빈 리스트
      */
     public List<ApiFieldObject> getObjectFields(String apiCode, String parentFieldName) {
-        return apiObjectFieldMap
-            .getOrDefault(apiCode, Collections.emptyMap())              // API 코드가 없으면 빈 맵
-            .getOrDefault(parentFieldName, Collections.emptyList());    // 부모 필드가 없으면 빈 리스트
+        if (lazyPlans != null) {
+            return objectRepository.findByApiCodeAndParentFieldNameOrderByFieldOrder(apiCode, parentFieldName);
+        }
+        return snapshot.get().getObjectFields(apiCode, parentFieldName);
+    }
+
+    /**
+     * LAZY 모드 리로드
+     * 캐시에 적재된 API 코드의 스펙만 일괄 조회하여 지문을 비교하고, 지문이 바뀐 코드만 다시 컴파일하여 교체
+     * 변경되지 않은 코드는 플랜과 캐시 사용 빈도를 그대로 유지하며, 변경이 있을 때만 버전을 올림
+     *
+     * @param previous 현재 스냅샷 (LAZY 모드에서는 버전만 사용)
+     * @return 리로드 결과 (버전, 추가/변경/삭제/실패 API 코드)
+     */
+    private ReloadResult reloadLazy(ApiSpecSnapshot previous) {
+        List<String> cachedCodes = new ArrayList<>(lazyPlans.asMap().keySet());
+        Collections.sort(cachedCodes);
+        List<String> added = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        for (int from = 0; from < cachedCodes.size(); from += LAZY_RELOAD_CHUNK_SIZE) {
+            List<String> chunk = cachedCodes.subList(from,
+                    Math.min(from + LAZY_RELOAD_CHUNK_SIZE, cachedCodes.size()));
+            Map<String, List<ApiFieldSpec>> specsByCode = repository
+                    .findByApiCodeInOrderByApiCodeAscFieldOrderAsc(chunk).stream()
+                    .collect(Collectors.groupingBy(ApiFieldSpec::getApiCode));
+            Map<String, Map<String, List<ApiFieldObject>>> objectsByCode = new HashMap<>();
+            for (ApiFieldObject obj : objectRepository
+                    .findByApiCodeInOrderByApiCodeAscParentFieldNameAscFieldOrderAsc(chunk)) {
+                objectsByCode.computeIfAbsent(obj.getApiCode(), k -> new HashMap<>())
+                        .computeIfAbsent(obj.getParentFieldName(), k -> new ArrayList<>())
+                        .add(obj);
+            }
+
+            for (String apiCode : chunk) {
+                LazyPlan current = lazyPlans.getIfPresent(apiCode);
+                if (current == null) {
+                    continue;
+                }
+                LazyPlan next = compileLazy(apiCode, specsByCode.getOrDefault(apiCode, List.of()),
+                        objectsByCode.getOrDefault(apiCode, Collections.emptyMap()));
+                if (Objects.equals(next.fingerprint, current.fingerprint)) {
+                    continue;
+                }
+                // 리로드 도중 교체(제거)된 항목은 되살리지 않음
+                if (!lazyPlans.asMap().replace(apiCode, current, next)) {
+                    continue;
+                }
+                if (current.fingerprint == null) {
+                    added.add(apiCode);
+                } else if (next.fingerprint == null) {
+                    removed.add(apiCode);
+                } else {
+                    changed.add(apiCode);
+                }
+                if (next.fingerprint != null && next.plan == null) {
+                    failed.add(apiCode);
+                }
+            }
+        }
+
+        if (added.isEmpty() && changed.isEmpty() && removed.isEmpty()) {
+            log.debug("API 스펙 변경 없음: 버전={}, 확인한 API 코드 수={}", previous.getVersion(), cachedCodes.size());
+            return new ReloadResult(previous.getVersion(), added, changed, removed, failed);
+        }
+        ApiSpecSnapshot next = new ApiSpecSnapshot(previous.getVersion() + 1, Collections.emptyMap(),
+                Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+        snapshot.set(next);
+        log.info("API 스펙 리로드: 버전={}, 추가={}, 변경={}, 삭제={}, 실패={}",
+                next.getVersion(), added, changed, removed, failed);
+        return new ReloadResult(next.getVersion(), added, changed, removed, failed);
+    }
+
+    /**
+     * LAZY 모드에서 API 코드 하나의 스펙을 로드하여 컴파일
+     * 조회한 엔티티는 컴파일 후 버리고 플랜과 스펙 지문만 캐시에 보관
+     * 
+     * @param apiCode API 코드
+     * @return 컴파일된 플랜 (스펙이 없거나 컴파일에 실패한 경우 플랜 없음)
+     */
+    private LazyPlan loadPlan(String apiCode) {
+        List<ApiFieldSpec> specs = repository.findByApiCodeOrderByFieldOrder(apiCode);
+        Map<String, List<ApiFieldObject>> objectFields = new HashMap<>();
+        if (!specs.isEmpty()) {
+            for (ApiFieldObject obj : objectRepository.findByApiCodeOrderByParentFieldNameAscFieldOrderAsc(apiCode)) {
+                objectFields.computeIfAbsent(obj.getParentFieldName(), k -> new ArrayList<>()).add(obj);
+            }
+        }
+        LazyPlan loaded = compileLazy(apiCode, specs, objectFields);
+        if (loaded.plan != null) {
+            log.debug("API 스펙 지연 로드: apiCode={}, 노드 수={}", apiCode, loaded.plan.getNodeCount());
+        }
+        return loaded;
+    }
+
+    private static LazyPlan compileLazy(String apiCode, List<ApiFieldSpec> specs,
+                                        Map<String, List<ApiFieldObject>> objectFields) {
+        if (specs.isEmpty()) {
+            log.debug("API 스펙 없음: apiCode={}", apiCode);
+            return LazyPlan.MISSING;
+        }
+        String fingerprint = fingerprint(specs, objectFields);
+        try {
+            return new LazyPlan(ParsePlanCompiler.compile(apiCode, specs, objectFields), fingerprint);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("API 스펙 컴파일 실패: apiCode={}, 원인={}", apiCode, e.getMessage());
+            return new LazyPlan(null, fingerprint);
+        }
+    }
+
+    /**
+     * 스냅샷 파일 복원 후 데이터베이스의 최신 스펙을 백그라운드에서 확인
+     * 데이터베이스에 접근할 수 없으면 복원한 스냅샷을 그대로 사용
+     */
+    private void refreshInBackground() {
+        Thread thread = new Thread(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                log.warn("API 스펙 데이터베이스 확인 실패, 스냅샷 파일 버전 유지: {}", e.toString());
+            }
+        }, "spec-snapshot-refresh");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void saveSnapshot(ApiSpecSnapshot next) {
+        try {
+            snapshotStore.write(next);
+        } catch (IOException | RuntimeException e) {
+            log.warn("API 스펙 스냅샷 파일 저장 실패: {}", e.toString());
+        }
+    }
+
+    /**
+     * API 코드 하나의 스펙 지문 생성
+     * 파싱 플랜에 영향을 주는 컬럼만 순서대로 이어 붙인 내용의 SHA-256 해시로 이전 로드와 비교
+     */
+    private static String fingerprint(List<ApiFieldSpec> specs, Map<String, List<ApiFieldObject>> objectFields) {
+        StringBuilder sb = new StringBuilder();
+        for (ApiFieldSpec spec : specs) {
+            sb.append(spec.getFieldOrder()).append('|').append(spec.getFieldName()).append('|')
+              .append(spec.getFieldLength()).append('|').append(spec.getFieldType()).append('|')
+              .append(spec.getFieldScale()).append('|')
+              .append(spec.getIsList()).append('\n');
+        }
+        objectFields.keySet().stream().sorted().forEach(parent -> {
+            sb.append('#').append(parent).append('\n');
+            for (ApiFieldObject obj : objectFields.get(parent)) {
+                sb.append(obj.getFieldOrder()).append('|').append(obj.getFieldName()).append('|')
+                  .append(obj.getFieldLength()).append('|').append(obj.getFieldType()).append('|')
+                  .append(obj.getFieldScale()).append('|')
+                  .append(obj.getIsList()).append('\n');
+            }
+        });
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * LAZY 모드 캐시 항목
+     */
+    private static final class LazyPlan {
+        /** 스펙이 없는 API 코드 */
+        private static final LazyPlan MISSING = new LazyPlan(null, null);
+
+        /** 컴파일된 플랜 (스펙이 없거나 컴파일에 실패한 경우 null) */
+        private final ParsePlan plan;
+        /** 스펙 지문 (스펙이 없는 경우 null) */
+        private final String fingerprint;
+
+        private LazyPlan(ParsePlan plan, String fingerprint) {
+            this.plan = plan;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * 스펙 리로드 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class ReloadResult {
+        /** 리로드 후 스냅샷 버전 */
+        private final long version;
+        /** 새로 추가된 API 코드 */
+        private final List<String> added;
+        /** 스펙이 변경되어 다시 컴파일한 API 코드 */
+        private final List<String> changed;
+        /** 삭제된 API 코드 */
+        private final List<String> removed;
+        /** 컴파일에 실패하여 제외된 API 코드 */
+        private final List<String> failed;
     }
 }
@@ -0,0 +1,39 @@
+package com.example.tcpconverter.converter.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 스펙 주기적 리로드
+ * converter.spec.reload.enabled=true 인 경우에만 활성화되며,
+ * 설정된 간격마다 데이터베이스를 조회하여 변경된 API 코드만 다시 컴파일
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "converter.spec.reload.enabled", havingValue = "true")
+public class ApiSpecReloadScheduler {
+
+    private final ApiSpecRegistry apiSpecRegistry;
+
+    /**
+     * 스펙 리로드 실행
+     * 실패하더라도 현재 스냅샷을 유지하고 다음 주기에 다시 시도
+     */
+    @Scheduled(initialDelayString = "${converter.spec.reload.interval-ms:60000}",
+               fixedDelayString = "${converter.spec.reload.interval-ms:60000}")
+    public void reloadSpecs() {
+        try {
+            apiSpecRegistry.reload();
+        } catch (RuntimeException e) {
+            log.error("API 스펙 주기적 리로드 실패, 현재 스펙 유지", e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.tcpconverter.converter.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.tcpconverter.converter.entity.ApiFieldObject;
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.example.tcpconverter.converter.parser.ParsePlan;
+
+/**
+ * API 스펙 스냅샷
+ *
+ * 특정 시점에 로드한 스펙, 하위 필드, 컴파일된 파싱 플랜을 하나로 묶은 불변 객체
+ * ApiSpecRegistry는 새 스냅샷을 별도로 만든 뒤 참조만 교체하므로,
+ * 이미 스냅샷을 조회한 요청은 교체 이후에도 이전 버전으로 끝까지 처리됨
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public final class ApiSpecSnapshot {
+
+    /** 아직 스펙을 로드하지 않은 상태 */
+    static final ApiSpecSnapshot EMPTY = new ApiSpecSnapshot(0, Collections.emptyMap(), Collections.emptyMap(),
+            Collections.emptyMap(), Collections.emptyMap());
+
+    private final long version;
+    private final Map<String, List<ApiFieldSpec>> specs;
+    private final Map<String, Map<String, List<ApiFieldObject>>> objectFields;
+    private final Map<String, ParsePlan> plans;
+
+    /**
+     * API 코드별 스펙 지문
+     * 다음 리로드에서 변경되지 않은 API 코드의 플랜을 재사용하기 위해 보관
+     */
+    private final Map<String, String> fingerprints;
+
+    ApiSpecSnapshot(long version,
+                    Map<String, List<ApiFieldSpec>> specs,
+                    Map<String, Map<String, List<ApiFieldObject>>> objectFields,
+                    Map<String, ParsePlan> plans,
+                    Map<String, String> fingerprints) {
+        this.version = version;
+        this.specs = specs;
+        this.objectFields = objectFields;
+        this.plans = plans;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * 스냅샷 버전 (로드할 때마다 1씩 증가, 변경이 없으면 유지)
+     *
+     * @return 스냅샷 버전
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 스냅샷에 포함된 모든 API 코드 (컴파일에 실패한 코드 포함)
+     *
+     * @return API 코드 집합
+     */
+    public Set<String> getApiCodes() {
+        return fingerprints.keySet();
+    }
+
+    /**
+     * 특정 API 코드의 필드 스펙 목록 조회
+     *
+     * @param apiCode API 코드
+     * @return 필드 스펙 목록 (필드 순서별로 정렬됨), 없거나 스냅샷 파일에서 복원한 경우 null
+     */
+    public List<ApiFieldSpec> getSpec(String apiCode) {
+        return specs.get(apiCode);
+    }
+
+    /**
+     * 특정 API 코드의 컴파일된 파싱 플랜 조회
+     *
+     * @param apiCode API 코드
+     * @return 파싱 플랜, 없거나 컴파일에 실패한 경우 null
+     */
+    public ParsePlan getPlan(String apiCode) {
+        return plans.get(apiCode);
+    }
+
+    /**
+     * 특정 API 코드, 부모 필드의 하위 필드 목록 조회
+     *
+     * @param apiCode API 코드
+     * @param parentFieldName 부모 필드명
+     * @return 하위 필드 목록 (필드 순서별로 정렬됨), 없으면 빈 리스트
+     */
+    public List<ApiFieldObject> getObjectFields(String apiCode, String parentFieldName) {
+        return objectFields
+            .getOrDefault(apiCode, Collections.emptyMap())
+            .getOrDefault(parentFieldName, Collections.emptyList());
+    }
+
+    Map<String, List<ApiFieldSpec>> getSpecs() {
+        return specs;
+    }
+
+    Map<String, Map<String, List<ApiFieldObject>>> getObjectFields() {
+        return objectFields;
+    }
+
+    Map<String, ParsePlan> getPlans() {
+        return plans;
+    }
+
+    Map<String, String> getFingerprints() {
+        return fingerprints;
+    }
+}
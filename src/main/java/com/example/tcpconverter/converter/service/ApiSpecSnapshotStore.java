@@ -0,0 +1,175 @@
+package com.example.tcpconverter.converter.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.parser.ParsePlanSerializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 스펙 스냅샷 파일 저장소
+ *
+ * 컴파일된 파싱 플랜과 API 코드별 스펙 지문을 로컬 디스크에 바이너리로 저장하고,
+ * 다음 기동 시 파일을 메모리 매핑하여 데이터베이스 조회와 컴파일 없이 바로 복원
+ *
+ * 파일 형식 (빅엔디안):
+ * - 매직 넘버, 형식 버전, 스냅샷 버전, API 코드 수
+ * - API 코드별: API 코드, 스펙 지문, 플랜 유무, 플랜 (ParsePlanSerializer 형식)
+ * - 앞선 내용 전체의 CRC32
+ *
+ * 임시 파일에 기록한 뒤 원자적으로 교체하므로 기록 도중 종료되어도 이전 파일은 유지됨
+ * 형식 버전이 다르거나 체크섬이 맞지 않는 파일은 무시
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class ApiSpecSnapshotStore {
+
+    /** 파일 식별용 매직 넘버 ("TCSP") */
+    private static final int MAGIC = 0x54435350;
+
+    /** 파일 형식 버전 (ParsePlan 직렬화 형식이 바뀌면 증가) */
+    private static final int FORMAT_VERSION = 3;
+
+    /** 스냅샷 파일 경로 (미설정 시 null) */
+    private final Path path;
+
+    /**
+     * @param path 스냅샷 파일 경로 (비어 있으면 스냅샷 저장/복원을 하지 않음)
+     */
+    public ApiSpecSnapshotStore(@Value("${converter.spec.snapshot.path:}") String path) {
+        this.path = path == null || path.isBlank() ? null : Paths.get(path);
+    }
+
+    /**
+     * 스냅샷 파일 사용 여부
+     *
+     * @return 파일 경로가 설정된 경우 true
+     */
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * 스냅샷 파일 복원
+     * 파일이 없거나 형식이 맞지 않으면 빈 값을 반환하며, 이 경우 데이터베이스에서 로드해야 함
+     *
+     * 복원한 스냅샷에는 파싱 플랜과 스펙 지문만 있고 스펙 엔티티는 없음
+     *
+     * @return 복원한 스냅샷
+     */
+    public Optional<ApiSpecSnapshot> read() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.ofNullable(decode(buffer));
+        } catch (IOException | IllegalArgumentException | BufferUnderflowException e) {
+            log.warn("API 스펙 스냅샷 파일을 읽을 수 없어 무시합니다: path={}, 원인={}", path, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷을 파일로 저장
+     *
+     * @param snapshot 저장할 스냅샷
+     * @throws IOException 파일 기록 중 오류가 발생한 경우
+     */
+    public void write(ApiSpecSnapshot snapshot) throws IOException {
+        if (path == null) {
+            return;
+        }
+
+        Map<String, String> fingerprints = snapshot.getFingerprints();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(snapshot.getVersion());
+        out.writeInt(fingerprints.size());
+        for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+            ParsePlan plan = snapshot.getPlan(entry.getKey());
+            ParsePlanSerializer.writeString(entry.getKey(), out);
+            ParsePlanSerializer.writeString(entry.getValue(), out);
+            out.writeBoolean(plan != null);
+            if (plan != null) {
+                ParsePlanSerializer.write(plan, out);
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.info("API 스펙 스냅샷 저장: path={}, 버전={}, 크기={}bytes", path, snapshot.getVersion(), bytes.size());
+    }
+
+    private ApiSpecSnapshot decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Long.BYTES * 2 || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("스냅샷 파일 형식이 아닙니다.");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            log.info("API 스펙 스냅샷 형식 버전이 달라 무시합니다: 파일={}, 현재={}", formatVersion, FORMAT_VERSION);
+            return null;
+        }
+
+        // 체크섬 검증 (마지막 8바이트를 제외한 전체)
+        int checksumOffset = buffer.limit() - Long.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(checksumOffset));
+        if (crc.getValue() != buffer.getLong(checksumOffset)) {
+            throw new IllegalArgumentException("스냅샷 파일 체크섬이 일치하지 않습니다.");
+        }
+        buffer.limit(checksumOffset);
+
+        long version = buffer.getLong();
+        int count = buffer.getInt();
+        Map<String, ParsePlan> plans = new HashMap<>();
+        Map<String, String> fingerprints = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String apiCode = ParsePlanSerializer.readString(buffer);
+            fingerprints.put(apiCode, ParsePlanSerializer.readString(buffer));
+            if (buffer.get() != 0) {
+                plans.put(apiCode, ParsePlanSerializer.read(buffer));
+            }
+        }
+
+        return new ApiSpecSnapshot(version, Collections.emptyMap(), Collections.emptyMap(),
+                Collections.unmodifiableMap(plans), Collections.unmodifiableMap(fingerprints));
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.tcpconverter.converter.service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 변환 지표 집계
+ *
+ * 지표 목록:
+ * - converter.parse (Timer, apiSvcCd): API 코드별 파싱 소요 시간 (검증 포함, 히스토그램)
+ * - converter.message.size (bytes, apiSvcCd): 요청 전문 크기
+ * - converter.array.size (apiSvcCd): 배열 필드별 요소 수
+ * - converter.response.size (bytes, channel): 변환 결과 JSON 크기 (http, http-stream, tcp, batch)
+ * - converter.rejected (Counter, reason): 거부 사유별 전문 수
+ * - converter.result.cache (Counter, result): 결과 캐시 조회 결과별 건수 (hit, miss, coalesced)
+ * - converter.result.cache.size (Gauge, bytes): 결과 캐시에 보관 중인 결과와 원본 전문 크기
+ *
+ * apiSvcCd 태그는 등록된 스펙이 있는 API 코드에만 붙이므로, 임의의 코드로 시계열이 늘어나지 않음
+ * API 코드별 지표는 처음 사용할 때 한 번만 등록하고 이후에는 캐시된 인스턴스를 사용
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Component
+public class ConvertMetrics {
+
+    /** 응답 채널: REST 결과 맵 응답 */
+    public static final String CHANNEL_HTTP = "http";
+
+    /** 응답 채널: REST 스트리밍 응답 */
+    public static final String CHANNEL_HTTP_STREAM = "http-stream";
+
+    /** 응답 채널: TCP 직접 수신 */
+    public static final String CHANNEL_TCP = "tcp";
+
+    /** 응답 채널: 일괄 변환 항목 */
+    public static final String CHANNEL_BATCH = "batch";
+
+    /** 결과 캐시 조회 결과: 캐시된 결과 응답 */
+    public static final String CACHE_HIT = "hit";
+
+    /** 결과 캐시 조회 결과: 캐시에 없어 변환 */
+    public static final String CACHE_MISS = "miss";
+
+    /** 결과 캐시 조회 결과: 동시에 들어온 같은 전문의 변환 결과를 함께 사용 */
+    public static final String CACHE_COALESCED = "coalesced";
+
+    /** 크기 히스토그램 상한 (전문/응답 64MB, 배열 요소 100,000개) */
+    private static final double MAX_EXPECTED_BYTES = 64 * 1024 * 1024;
+    private static final double MAX_EXPECTED_ELEMENTS = 100_000;
+
+    private final MeterRegistry registry;
+    private final Map<String, CodeMeters> codeMeters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+    private final Map<ParseRejectedException.Reason, Counter> rejections =
+            new EnumMap<>(ParseRejectedException.Reason.class);
+    private final Map<String, Counter> resultCacheLookups = new ConcurrentHashMap<>();
+
+    public ConvertMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (ParseRejectedException.Reason reason : ParseRejectedException.Reason.values()) {
+            rejections.put(reason, Counter.builder("converter.rejected")
+                    .description("거부된 TCP 전문 수")
+                    .tag("reason", reason.name())
+                    .register(registry));
+        }
+        for (String result : new String[] {CACHE_HIT, CACHE_MISS, CACHE_COALESCED}) {
+            resultCacheLookups.put(result, Counter.builder("converter.result.cache")
+                    .description("결과 캐시 조회 건수")
+                    .tag("result", result)
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 파싱 완료 기록
+     *
+     * @param apiSvcCd API 서비스 코드
+     * @param elapsedNanos 검증부터 파싱 완료까지 소요 시간
+     * @param messageBytes 요청 전문 크기
+     */
+    public void recordParse(String apiSvcCd, long elapsedNanos, int messageBytes) {
+        CodeMeters meters = meters(apiSvcCd);
+        meters.latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meters.messageSize.record(messageBytes);
+    }
+
+    /**
+     * 배열 요소 수 기록 대상
+     * 파서에 그대로 전달할 수 있도록 API 코드별로 하나의 인스턴스를 재사용
+     *
+     * @param apiSvcCd API 서비스 코드
+     * @return 배열 요소 수를 기록하는 IntConsumer
+     */
+    public IntConsumer arraySizes(String apiSvcCd) {
+        return meters(apiSvcCd).arraySizes;
+    }
+
+    /**
+     * 변환 결과 크기 기록
+     *
+     * @param channel 응답 채널 (CHANNEL_* 상수)
+     * @param bytes 결과 JSON 크기
+     */
+    public void recordResponseSize(String channel, long bytes) {
+        responseSizes.computeIfAbsent(channel, key -> DistributionSummary.builder("converter.response.size")
+                .description("변환 결과 JSON 크기")
+                .baseUnit("bytes")
+                .tag("channel", key)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_BYTES)
+                .register(registry))
+            .record(bytes);
+    }
+
+    /**
+     * 전문 거부 기록
+     *
+     * @param reason 거부 사유
+     */
+    public void recordRejection(ParseRejectedException.Reason reason) {
+        rejections.get(reason).increment();
+    }
+
+    /**
+     * 결과 캐시 조회 기록
+     *
+     * @param result 조회 결과 (CACHE_* 상수)
+     */
+    public void recordResultCache(String result) {
+        resultCacheLookups.get(result).increment();
+    }
+
+    /**
+     * 결과 캐시 크기 지표 등록
+     *
+     * @param cache 결과 캐시
+     * @param size 캐시에 보관 중인 바이트 수
+     */
+    public <T> void registerResultCacheSize(T cache, ToDoubleFunction<T> size) {
+        Gauge.builder("converter.result.cache.size", cache, size)
+                .description("결과 캐시에 보관 중인 결과와 원본 전문 크기")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private CodeMeters meters(String apiSvcCd) {
+        return codeMeters.computeIfAbsent(apiSvcCd, this::register);
+    }
+
+    private CodeMeters register(String apiSvcCd) {
+        Timer latency = Timer.builder("converter.parse")
+                .description("API 코드별 TCP 전문 파싱 시간")
+                .tag("apiSvcCd", apiSvcCd)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(registry);
+        DistributionSummary messageSize = DistributionSummary.builder("converter.message.size")
+                .description("API 코드별 요청 전문 크기")
+                .baseUnit("bytes")
+                .tag("apiSvcCd", apiSvcCd)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_BYTES)
+                .register(registry);
+        DistributionSummary arraySize = DistributionSummary.builder("converter.array.size")
+                .description("API 코드별 배열 요소 수")
+                .tag("apiSvcCd", apiSvcCd)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_ELEMENTS)
+                .register(registry);
+        return new CodeMeters(latency, messageSize, arraySize);
+    }
+
+    /**
+     * API 코드 하나의 지표 묶음
+     */
+    private static final class CodeMeters {
+        private final Timer latency;
+        private final DistributionSummary messageSize;
+        private final IntConsumer arraySizes;
+
+        private CodeMeters(Timer latency, DistributionSummary messageSize, DistributionSummary arraySize) {
+            this.latency = latency;
+            this.messageSize = messageSize;
+            this.arraySizes = arraySize::record;
+        }
+    }
+}
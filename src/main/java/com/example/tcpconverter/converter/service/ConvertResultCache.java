@@ -0,0 +1,218 @@
+package com.example.tcpconverter.converter.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 변환 결과(JSON) 캐시
+ *
+ * 채널 재시도나 중복 전송으로 같은 전문이 반복해서 들어오는 경우 직렬화된 결과를 그대로 응답
+ * 키는 파싱 플랜(API 코드), 공통부의 거래 고유번호(IsTuno), 전문 해시이며,
+ * 적중 시 원본 전문도 비교하므로 해시가 충돌해도 다른 전문의 결과를 응답하지 않음
+ *
+ * 같은 전문이 동시에 들어오면 먼저 들어온 요청만 변환하고 나머지는 그 결과를 함께 사용
+ * 변환에 실패한 결과는 캐시하지 않음 (대기 중이던 요청은 같은 예외로 실패)
+ *
+ * 설정 (converter.result-cache.enabled=true 인 경우에만 사용):
+ * - converter.result-cache.max-bytes: 캐시할 결과와 원본 전문의 최대 총 크기
+ * - converter.result-cache.ttl-ms: 결과를 캐시하는 시간
+ *
+ * 플랜을 키에 포함하므로 스펙이 리로드되면 이전 결과는 사용되지 않음
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Component
+public class ConvertResultCache {
+
+    /** 항목별 고정 부가 크기 추정치 (키, 항목 객체) */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ConvertMetrics convertMetrics;
+    private final boolean enabled;
+    private final AsyncCache<Key, Entry> results;
+
+    public ConvertResultCache(ConvertMetrics convertMetrics,
+                              @Value("${converter.result-cache.enabled:false}") boolean enabled,
+                              @Value("${converter.result-cache.max-bytes:67108864}") long maxBytes,
+                              @Value("${converter.result-cache.ttl-ms:30000}") long ttlMs) {
+        this.convertMetrics = convertMetrics;
+        this.enabled = enabled;
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(Math.max(maxBytes, 0))
+                .weigher((Key key, Entry entry) -> entry.weight())
+                .expireAfterWrite(Duration.ofMillis(Math.max(ttlMs, 0)))
+                .executor(Runnable::run)
+                .buildAsync();
+        convertMetrics.registerResultCacheSize(this, cache -> cache.weightedSize());
+    }
+
+    /**
+     * 캐시 사용 여부
+     *
+     * @return converter.result-cache.enabled 설정 값
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 변환 결과 조회 (없으면 변환하여 캐시)
+     *
+     * @param plan 전문의 파싱 플랜
+     * @param isTuno 전문의 거래 고유번호 (비어 있으면 캐시하지 않음)
+     * @param message 원본 전문 (캐시에 그대로 보관하므로 이후 수정하면 안 됨)
+     * @param conversion 캐시에 없을 때 결과 JSON을 만드는 변환
+     * @return 결과 JSON (캐시된 배열을 그대로 반환하므로 수정하면 안 됨)
+     * @throws IOException 변환 중 출력 오류가 발생한 경우
+     */
+    public byte[] get(ParsePlan plan, String isTuno, byte[] message, Conversion conversion) throws IOException {
+        if (!enabled || isTuno.isEmpty()) {
+            return conversion.convert();
+        }
+
+        Key key = new Key(plan, isTuno, hash(message), message.length);
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = results.asMap().putIfAbsent(key, created);
+        if (existing == null) {
+            convertMetrics.recordResultCache(ConvertMetrics.CACHE_MISS);
+            return convert(message, conversion, created);
+        }
+
+        boolean completed = existing.isDone();
+        Entry entry = await(existing);
+        if (!Arrays.equals(entry.message, message)) {
+            // 해시 충돌: 캐시된 결과를 사용하지 않고 변환
+            convertMetrics.recordResultCache(ConvertMetrics.CACHE_MISS);
+            return conversion.convert();
+        }
+        convertMetrics.recordResultCache(completed ? ConvertMetrics.CACHE_HIT : ConvertMetrics.CACHE_COALESCED);
+        return entry.json;
+    }
+
+    /** 캐시된 결과와 원본 전문의 총 크기 */
+    long weightedSize() {
+        return results.synchronous().policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private static byte[] convert(byte[] message, Conversion conversion, CompletableFuture<Entry> created)
+            throws IOException {
+        try {
+            byte[] json = conversion.convert();
+            created.complete(new Entry(message, json));
+            return json;
+        } catch (IOException e) {
+            created.completeExceptionally(new UncheckedIOException(e));
+            throw e;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 먼저 들어온 요청의 변환 결과 대기 (실패했으면 같은 예외로 실패)
+     */
+    private static Entry await(CompletableFuture<Entry> pending) throws IOException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 전문 64비트 해시 (8바이트 단위로 섞음)
+     */
+    static long hash(byte[] message) {
+        long h = 0x9E3779B97F4A7C15L ^ message.length;
+        int i = 0;
+        for (; i + Long.BYTES <= message.length; i += Long.BYTES) {
+            h = Long.rotateLeft(h ^ (long) LONGS.get(message, i) * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B97F4A7C15L;
+        }
+        for (; i < message.length; i++) {
+            h = (h ^ (message[i] & 0xFF)) * 0x100000001B3L;
+        }
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * 결과 JSON 생성
+     */
+    @FunctionalInterface
+    public interface Conversion {
+        byte[] convert() throws IOException;
+    }
+
+    /** 캐시 키 (플랜은 인스턴스 기준으로 비교) */
+    private static final class Key {
+        private final ParsePlan plan;
+        private final String isTuno;
+        private final long hash;
+        private final int length;
+
+        private Key(ParsePlan plan, String isTuno, long hash, int length) {
+            this.plan = plan;
+            this.isTuno = isTuno;
+            this.hash = hash;
+            this.length = length;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return plan == other.plan && hash == other.hash && length == other.length
+                    && isTuno.equals(other.isTuno);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(plan) + isTuno.hashCode()) + Long.hashCode(hash);
+        }
+    }
+
+    /** 원본 전문과 결과 JSON */
+    private static final class Entry {
+        private final byte[] message;
+        private final byte[] json;
+
+        private Entry(byte[] message, byte[] json) {
+            this.message = message;
+            this.json = json;
+        }
+
+        private int weight() {
+            return message.length + json.length + ENTRY_OVERHEAD;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.tcpconverter.converter.service;
+
+import lombok.Getter;
+
+/**
+ * TCP 메시지 변환 거부 예외
+ *
+ * 전문 검증 단계에서 메시지를 거부한 경우 발생하며, 거부 사유별 지표 집계에 사용
+ * 기존 호출부가 그대로 처리할 수 있도록 IllegalArgumentException을 상속
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Getter
+public class ParseRejectedException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 거부 사유
+     */
+    public enum Reason {
+        /** 메시지가 헤더보다 짧음 */
+        MESSAGE_TOO_SHORT,
+        /** 전문 길이 필드가 숫자가 아님 */
+        BAD_LENGTH_FIELD,
+        /** 전문 길이 필드와 실제 길이가 다름 */
+        LENGTH_MISMATCH,
+        /** API 서비스 코드가 비어 있음 */
+        MISSING_API_CODE,
+        /** 등록되지 않은 API 서비스 코드 */
+        UNKNOWN_API_CODE,
+        /** 메시지가 스펙(배열 카운트 포함) 기준 길이보다 짧음 */
+        TRUNCATED,
+        /** 메시지가 스펙(배열 카운트 포함) 기준 길이보다 김 */
+        OVERSIZED
+    }
+
+    /** 거부 사유 */
+    private final Reason reason;
+
+    public ParseRejectedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.tcpconverter.converter.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TCP 메시지 일괄 변환 서비스
+ *
+ * 하나의 요청 본문에 담긴 여러 TCP 메시지를 고정 크기 작업 스레드 풀에서 병렬로 변환
+ * 결과는 요청 순서대로 JSON 배열로 출력하며, 실패한 메시지는 전체를 중단하지 않고 항목별 오류로 응답
+ *
+ * 응답 항목 형식:
+ * - 성공: {"index": 0, "result": {...}}
+ * - 실패: {"index": 1, "error": "..."}
+ *
+ * 메모리 사용량을 일정하게 유지하기 위해 동시에 변환 중인 메시지 수를 제한하고,
+ * 앞선 항목이 완료되는 대로 응답 스트림에 출력
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class TcpBatchParseService {
+
+    /** 작업 스레드당 동시에 변환할 수 있는 메시지 수 */
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+
+    /**
+     * 요청 본문의 메시지 구분 방식
+     */
+    public enum Framing {
+        /** 각 메시지 앞 6바이트 MsgLen 기준으로 연속 배치 */
+        LENGTH,
+        /** 개행 문자로 구분 (CRLF 허용, 빈 줄 무시) */
+        NEWLINE
+    }
+
+    private final TcpMessageParseService tcpMessageParseService;
+    private final CommonHeaderCodec commonHeaderCodec;
+    private final ConvertMetrics convertMetrics;
+    private final JsonFactory jsonFactory;
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final int maxMessages;
+
+    public TcpBatchParseService(TcpMessageParseService tcpMessageParseService,
+                                CommonHeaderCodec commonHeaderCodec,
+                                ObjectMapper objectMapper,
+                                ConvertMetrics convertMetrics,
+                                @Value("${converter.batch.threads:0}") int threads,
+                                @Value("${converter.batch.max-messages:100000}") int maxMessages) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.tcpMessageParseService = tcpMessageParseService;
+        this.commonHeaderCodec = commonHeaderCodec;
+        this.convertMetrics = convertMetrics;
+        this.jsonFactory = objectMapper.getFactory();
+        this.executor = Executors.newFixedThreadPool(poolSize, namedThreadFactory());
+        this.maxInFlight = poolSize * IN_FLIGHT_PER_THREAD;
+        this.maxMessages = maxMessages;
+    }
+
+    /**
+     * 작업 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 여러 TCP 메시지를 병렬로 변환하여 요청 순서대로 JSON 배열로 출력
+     *
+     * @param body 메시지들이 담긴 요청 본문
+     * @param framing 메시지 구분 방식
+     * @param out 결과를 출력할 스트림
+     * @throws IllegalArgumentException 메시지 수가 최대 허용 개수를 넘는 경우
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    public void parseBatch(byte[] body, Framing framing, OutputStream out) throws IOException {
+        List<BatchItem> items = framing == Framing.NEWLINE ? splitByNewline(body) : splitByLength(body);
+        if (items.size() > maxMessages) {
+            throw new IllegalArgumentException(
+                String.format("일괄 변환 메시지 수가 최대 허용 개수를 초과합니다. 최대: %d, 요청: %d",
+                    maxMessages, items.size()));
+        }
+        log.debug("TCP 메시지 일괄 변환 시작: 메시지 수={}", items.size());
+
+        Deque<Future<byte[]>> window = new ArrayDeque<>();
+        int next = 0;
+        out.write('[');
+        for (int written = 0; written < items.size(); written++) {
+            // 동시 변환 수 한도까지 작업 제출
+            while (next < items.size() && window.size() < maxInFlight) {
+                int index = next++;
+                window.add(executor.submit(() -> convertItem(index, items.get(index))));
+            }
+            if (written > 0) {
+                out.write(',');
+            }
+            out.write(await(window.poll()));
+        }
+        out.write(']');
+        out.flush();
+    }
+
+    /**
+     * 메시지 하나를 변환하여 응답 항목 JSON을 생성
+     * 모든 오류는 항목별 오류로 변환
+     */
+    private byte[] convertItem(int index, BatchItem item) {
+        if (item.error != null) {
+            return errorItem(index, item.error);
+        }
+        ByteArrayOutputStream json = new ByteArrayOutputStream(item.message.length * 2);
+        try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            generator.writeStartObject();
+            generator.writeNumberField("index", index);
+            generator.writeFieldName("result");
+            tcpMessageParseService.writeJson(item.message, generator);
+            generator.writeEndObject();
+        } catch (IllegalArgumentException e) {
+            return errorItem(index, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            log.error("일괄 변환 항목 처리 중 오류: index={}", index, e);
+            return errorItem(index, "전문 변환 중 오류가 발생했습니다.");
+        }
+        convertMetrics.recordResponseSize(ConvertMetrics.CHANNEL_BATCH, json.size());
+        return json.toByteArray();
+    }
+
+    private byte[] errorItem(int index, String message) {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            generator.writeStartObject();
+            generator.writeNumberField("index", index);
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalStateException("오류 항목 생성 실패", e);
+        }
+        return json.toByteArray();
+    }
+
+    private static byte[] await(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("일괄 변환이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("일괄 변환 항목 처리 실패", e.getCause());
+        }
+    }
+
+    /**
+     * MsgLen 기준으로 연속된 메시지 분리
+     * 길이 필드가 잘못되면 이후 메시지 경계를 알 수 없으므로 남은 부분 전체를 오류 항목으로 처리
+     */
+    private List<BatchItem> splitByLength(byte[] body) {
+        List<BatchItem> items = new ArrayList<>();
+        int offset = 0;
+        while (offset < body.length) {
+            int length = commonHeaderCodec.readMsgLen(body, offset);
+            if (length < CommonHeaderCodec.MSG_LEN_LENGTH || offset + length > body.length) {
+                items.add(new BatchItem(null, String.format(
+                    "전문 길이 필드가 올바르지 않아 위치 %d 이후를 분리할 수 없습니다.", offset)));
+                break;
+            }
+            items.add(new BatchItem(Arrays.copyOfRange(body, offset, offset + length), null));
+            offset += length;
+        }
+        return items;
+    }
+
+    /**
+     * 개행 문자 기준으로 메시지 분리
+     * MS949/EUC-KR 멀티바이트 문자의 후행 바이트는 0x0A가 될 수 없으므로 바이트 단위로 분리해도 안전
+     */
+    private static List<BatchItem> splitByNewline(byte[] body) {
+        List<BatchItem> items = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= body.length; i++) {
+            if (i == body.length || body[i] == '\n') {
+                int end = i > start && body[i - 1] == '\r' ? i - 1 : i;
+                if (end > start) {
+                    items.add(new BatchItem(Arrays.copyOfRange(body, start, end), null));
+                }
+                start = i + 1;
+            }
+        }
+        return items;
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "convert-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 분리된 메시지 또는 분리 오류
+     */
+    private static final class BatchItem {
+        private final byte[] message;
+        private final String error;
+
+        private BatchItem(byte[] message, String error) {
+            this.message = message;
+            this.error = error;
+        }
+    }
+}
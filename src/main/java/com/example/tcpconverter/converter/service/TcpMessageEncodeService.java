@@ -0,0 +1,55 @@
+package com.example.tcpconverter.converter.service;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.parser.TcpMessageEncoder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TCP 메시지 인코딩 서비스
+ * JSON 요청의 API 서비스 코드로 스펙을 조회하고, 파싱과 같은 플랜으로 고정 길이 TCP 메시지를 생성
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TcpMessageEncodeService {
+
+    /** API 서비스 코드 필드명 */
+    private static final String API_SVC_CD_FIELD = "ApiSvcCd";
+
+    private final ApiSpecRegistry apiSpecRegistry;
+    private final TcpMessageEncoder tcpMessageEncoder;
+
+    /**
+     * JSON 구조를 TCP 메시지로 인코딩
+     * 1. 최상위 ApiSvcCd 필드에서 API 서비스 코드 추출
+     * 2. 해당 서비스 코드의 파싱 플랜 조회
+     * 3. 파싱 플랜을 이용해 메시지 인코딩 (MsgLen, 배열 카운트 필드 자동 계산)
+     *
+     * @param message 인코딩할 값 (파싱 결과와 같은 구조)
+     * @return 인코딩된 TCP 메시지 (설정된 문자셋 기준 바이트)
+     * @throws IllegalArgumentException 서비스 코드가 없거나 값이 스펙에 맞지 않는 경우
+     */
+    public byte[] encode(Map<String, Object> message) {
+        Object value = message.get(API_SVC_CD_FIELD);
+        String apiSvcCd = value == null ? "" : value.toString().trim();
+        if (apiSvcCd.isEmpty()) {
+            throw new IllegalArgumentException("API 서비스 코드가 비어있습니다.");
+        }
+
+        ParsePlan plan = apiSpecRegistry.getPlan(apiSvcCd);
+        if (plan == null || plan.getChildCount(ParsePlan.ROOT) == 0) {
+            throw new IllegalArgumentException(
+                String.format("API 서비스 코드 '%s'에 해당하는 스펙이 존재하지 않습니다.", apiSvcCd));
+        }
+
+        byte[] tcpMsg = tcpMessageEncoder.encode(plan, message);
+        log.debug("TCP 메시지 인코딩 완료: 서비스 코드={}, 길이={}", apiSvcCd, tcpMsg.length);
+        return tcpMsg;
+    }
+}
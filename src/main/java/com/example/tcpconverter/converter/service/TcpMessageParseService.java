@@ -1,12 +1,23 @@
 package com.example.tcpconverter.converter.service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.stereotype.Service;
 
-import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.example.tcpconverter.converter.parser.ApiCodeIndex;
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.parser.Projection;
 import com.example.tcpconverter.converter.parser.TcpMessageParser;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,135 +26,367 @@ import lombok.extern.slf4j.Slf4j;
  * TCP 메시지 파싱 서비스
  * TCP 메시지에서 API 서비스 코드를 추출하고, 해당 스펙을 이용해 메시지를 파싱
  * 비즈니스 로직과 예외 처리를 담당
+ * 
+ * 전문 길이와 필드 위치는 모두 바이트 기준 (레거시 호스트 규격)
+ * 검증에 실패한 전문은 ParseRejectedException으로 거부하며, 파싱 시간/크기/거부 사유는 ConvertMetrics로 집계
+ * 필드 경로 목록을 지정하면 해당 필드만 파싱 (Projection, 플랜과 경로 목록별로 캐시)
+ * 전체 필드 JSON 변환(toJson)은 결과 캐시를 사용하여 재시도/중복 전문의 변환을 생략 (ConvertResultCache)
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class TcpMessageParseService {
 
-    /** 전문 총길이 필드 시작 위치 (0-based index) */
-    private static final int MSG_LENGTH_START = 0;
-    
-    /** 전문 총길이 필드 종료 위치 (0-based index, exclusive) */
-    private static final int MSG_LENGTH_END = 6;
-    
-    /** API 서비스 코드 시작 위치 (0-based index) */
-    private static final int API_SVC_CD_START = 135;
-    
-    /** API 서비스 코드 종료 위치 (0-based index, exclusive) */
-    private static final int API_SVC_CD_END = 155;
-
     private final ApiSpecRegistry apiSpecRegistry;
     private final TcpMessageParser tcpMessageParser;
+    private final FieldParserHelper fieldParserHelper;
+    private final ConvertMetrics convertMetrics;
+    private final CommonHeaderCodec commonHeaderCodec;
+    private final ConvertResultCache convertResultCache;
+
+    /** 프로젝션 캐시 최대 크기 */
+    private static final int PROJECTION_CACHE_SIZE = 1_000;
+
+    /** 현재 스펙 스냅샷의 바이트 기준 API 코드 조회 테이블 (스냅샷이 교체되면 다시 생성) */
+    private volatile IndexedSnapshot indexedSnapshot;
+
+    /** 플랜, 필드 경로 목록별 프로젝션 (스펙이 리로드되면 새 플랜 기준으로 다시 생성) */
+    private final Cache<ProjectionKey, Projection> projections = Caffeine.newBuilder()
+            .maximumSize(PROJECTION_CACHE_SIZE)
+            .build();
 
     /**
-     * TCP 메시지 파싱 진입점
-     * 1. TCP 메시지 전문 길이 검증
-     * 2. TCP 메시지에서 API 서비스 코드 추출
-     * 3. 해당 서비스 코드의 스펙 조회
-     * 4. 스펙을 이용해 메시지 파싱
+     * 문자열 TCP 메시지 파싱
+     * 설정된 메시지 문자셋으로 인코딩한 뒤 바이트 기준으로 파싱
      * 
      * @param tcpMsg 파싱할 TCP 메시지
      * @return 파싱된 결과 맵
      * @throws IllegalArgumentException 메시지가 유효하지 않거나 스펙이 없는 경우
      */
     public Map<String, Object> parse(String tcpMsg) {
-        log.debug("TCP 메시지 파싱 시작: 길이={}", tcpMsg.length());
-        
-        // 전문 길이 검증
-        validateMessageLength(tcpMsg);
-        
-        String apiSvcCd = extractApiSvcCd(tcpMsg);
-        log.debug("추출된 API 서비스 코드: {}", apiSvcCd);
-        
-        List<ApiFieldSpec> specList = getSpecList(apiSvcCd);
-        log.debug("조회된 스펙 개수: {}", specList.size());
+        return parse(tcpMsg.getBytes(fieldParserHelper.getCharset()));
+    }
+
+    /**
+     * TCP 메시지 파싱 진입점
+     * 1. TCP 메시지 전문 길이 검증
+     * 2. 공통부의 API 서비스 코드 영역으로 파싱 플랜 조회 (바이트 기준, 문자열 생성 없음)
+     * 3. 스펙 기준 길이 검증 (배열 카운트 필드만 읽어 계산, 잘리거나 남는 전문은 파싱 전에 거부)
+     * 4. 파싱 플랜을 이용해 메시지 파싱
+     * 
+     * @param tcpMsg 파싱할 TCP 메시지 (원본 바이트)
+     * @return 파싱된 결과 맵
+     * @throws IllegalArgumentException 메시지가 유효하지 않거나 스펙이 없는 경우
+     */
+    public Map<String, Object> parse(byte[] tcpMsg) {
+        return parse(tcpMsg, null);
+    }
+
+    /**
+     * TCP 메시지에서 지정한 필드만 파싱
+     * 선택되지 않은 필드는 디코딩하지 않고 건너뜀 (배열 카운트 필드만 읽음)
+     * 
+     * @param tcpMsg 파싱할 TCP 메시지 (원본 바이트)
+     * @param fields 필드 경로 목록 (예: "Customer.CstmNm", "LoanList[].LoanAmt"), 비어 있으면 전체 필드
+     * @return 파싱된 결과 맵
+     * @throws IllegalArgumentException 메시지가 유효하지 않거나 스펙에 없는 필드 경로가 있는 경우
+     */
+    public Map<String, Object> parse(byte[] tcpMsg, List<String> fields) {
+        long start = System.nanoTime();
+        ParsePlan plan = resolvePlan(tcpMsg);
         
-        Map<String, Object> result = tcpMessageParser.parse(specList, tcpMsg);
+        Map<String, Object> result = tcpMessageParser.parse(plan, tcpMsg, projection(plan, fields),
+                convertMetrics.arraySizes(plan.getApiCode()));
+        convertMetrics.recordParse(plan.getApiCode(), System.nanoTime() - start, tcpMsg.length);
         log.debug("TCP 메시지 파싱 완료: 결과 필드 개수={}", result.size());
         
         return result;
     }
 
+    /**
+     * TCP 메시지를 미리 디코딩하지 않는 읽기 전용 맵 뷰로 변환 (프로세스 내부 호출용)
+     * 검증과 스펙 조회는 parse와 동일하며, 필드는 처음 조회할 때 디코딩
+     * 일부 필드만 사용하는 호출자는 나머지 필드의 디코딩 비용을 치르지 않음
+     * 
+     * 디코딩이 조회 시점에 일어나므로 파싱 시간과 배열 크기는 집계하지 않음
+     * 
+     * @param tcpMsg TCP 메시지 (원본 바이트, 뷰를 사용하는 동안 수정하면 안 됨)
+     * @return 지연 디코딩 맵 뷰 (한 스레드에서만 사용)
+     * @throws IllegalArgumentException 메시지가 유효하지 않거나 스펙이 없는 경우
+     */
+    public Map<String, Object> view(byte[] tcpMsg) {
+        ParsePlan plan = resolvePlan(tcpMsg);
+        return tcpMessageParser.view(plan, tcpMsg);
+    }
+
+    /**
+     * TCP 메시지를 파싱하면서 결과를 JSON으로 바로 출력
+     * 검증과 스펙 조회는 parse와 동일하며, 검증에 실패하면 아무것도 출력하지 않음
+     * 
+     * @param tcpMsg 파싱할 TCP 메시지 (원본 바이트)
+     * @param generator 결과를 출력할 JsonGenerator
+     * @throws IllegalArgumentException 메시지가 유효하지 않거나 스펙이 없는 경우
+     * @throws IOException JSON 출력 중 오류가 발생한 경우
+     */
+    public void writeJson(byte[] tcpMsg, JsonGenerator generator) throws IOException {
+        writeJson(tcpMsg, generator, null);
+    }
+
+    /**
+     * TCP 메시지에서 지정한 필드만 파싱하면서 결과를 JSON으로 바로 출력
+     * 
+     * @param tcpMsg 파싱할 TCP 메시지 (원본 바이트)
+     * @param generator 결과를 출력할 JsonGenerator
+     * @param fields 필드 경로 목록, 비어 있으면 전체 필드
+     * @throws IllegalArgumentException 메시지가 유효하지 않거나 스펙에 없는 필드 경로가 있는 경우
+     * @throws IOException JSON 출력 중 오류가 발생한 경우
+     */
+    public void writeJson(byte[] tcpMsg, JsonGenerator generator, List<String> fields) throws IOException {
+        long start = System.nanoTime();
+        ParsePlan plan = resolvePlan(tcpMsg);
+        Projection projection = projection(plan, fields);
+        
+        tcpMessageParser.write(plan, tcpMsg, generator, projection, convertMetrics.arraySizes(plan.getApiCode()));
+        convertMetrics.recordParse(plan.getApiCode(), System.nanoTime() - start, tcpMsg.length);
+        log.debug("TCP 메시지 스트리밍 변환 완료: 길이={}", tcpMsg.length);
+    }
+
+    /**
+     * TCP 메시지를 JSON 바이트로 변환 (결과 캐시 사용)
+     * 검증과 스펙 조회는 parse와 동일하며, 같은 API 코드/거래 고유번호/전문의 결과가 캐시에 있으면
+     * 파싱하지 않고 캐시된 JSON을 반환 (파싱 시간과 배열 크기는 실제로 파싱한 경우에만 집계)
+     * 
+     * @param tcpMsg 파싱할 TCP 메시지 (원본 바이트, 캐시에 보관될 수 있으므로 이후 수정하면 안 됨)
+     * @param jsonFactory 결과 JSON을 출력할 JsonFactory
+     * @return 결과 JSON (UTF-8, 캐시된 배열일 수 있으므로 수정하면 안 됨)
+     * @throws IllegalArgumentException 메시지가 유효하지 않거나 스펙이 없는 경우
+     * @throws IOException JSON 출력 중 오류가 발생한 경우
+     */
+    public byte[] toJson(byte[] tcpMsg, JsonFactory jsonFactory) throws IOException {
+        long start = System.nanoTime();
+        ParsePlan plan = resolvePlan(tcpMsg);
+        String isTuno = tcpMsg.length >= CommonHeaderCodec.IS_TUNO_OFFSET + CommonHeaderCodec.IS_TUNO_LENGTH
+                ? commonHeaderCodec.readIsTuno(tcpMsg) : "";
+
+        return convertResultCache.get(plan, isTuno, tcpMsg, () -> {
+            ByteArrayOutputStream json = new ByteArrayOutputStream(tcpMsg.length * 2);
+            try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+                tcpMessageParser.write(plan, tcpMsg, generator, null, convertMetrics.arraySizes(plan.getApiCode()));
+            }
+            convertMetrics.recordParse(plan.getApiCode(), System.nanoTime() - start, tcpMsg.length);
+            return json.toByteArray();
+        });
+    }
+
+    /**
+     * 전문 길이 검증, API 서비스 코드 추출, 파싱 플랜 조회, 스펙 기준 길이 검증
+     * 
+     * @param tcpMsg TCP 메시지
+     * @return 메시지를 파싱할 플랜
+     * @throws ParseRejectedException 메시지가 유효하지 않거나 스펙이 없는 경우 (거부 사유별로 집계)
+     */
+    private ParsePlan resolvePlan(byte[] tcpMsg) {
+        log.debug("TCP 메시지 파싱 시작: 길이={}", tcpMsg.length);
+        
+        try {
+            // 전문 길이 검증
+            validateMessageLength(tcpMsg);
+            
+            // API 서비스 코드 영역을 바이트 그대로 조회 (문자열 생성 없음)
+            ParsePlan plan = apiCodeIndex().find(tcpMsg,
+                    CommonHeaderCodec.API_SVC_CD_OFFSET, CommonHeaderCodec.API_SVC_CD_LENGTH);
+            if (plan == null || plan.getChildCount(ParsePlan.ROOT) == 0) {
+                // 조회 테이블에 없는 경우 (LAZY 모드, 미등록 코드, 빈 코드)
+                String apiSvcCd = extractApiSvcCd(tcpMsg);
+                log.debug("추출된 API 서비스 코드: {}", apiSvcCd);
+                plan = getPlan(apiSvcCd);
+            }
+            log.debug("조회된 플랜 노드 개수: {}", plan.getNodeCount());
+            validateSpecLength(plan, tcpMsg);
+            return plan;
+        } catch (ParseRejectedException e) {
+            convertMetrics.recordRejection(e.getReason());
+            throw e;
+        }
+    }
+
     /**
      * TCP 메시지 전문 길이 검증
-     * 처음 6자리에 기록된 전문 길이와 실제 메시지 길이를 비교하여 검증
+     * 처음 6바이트에 기록된 전문 길이와 실제 메시지 바이트 길이를 비교하여 검증
      * 
      * @param tcpMsg TCP 메시지
-     * @throws IllegalArgumentException 메시지가 너무 짧거나 길이가 일치하지 않는 경우
+     * @throws ParseRejectedException 메시지가 너무 짧거나 길이가 일치하지 않는 경우
      */
-    private void validateMessageLength(String tcpMsg) {
+    private void validateMessageLength(byte[] tcpMsg) {
         // 최소 길이 검증 (전문 길이 필드 + 기본 헤더)
-        if (tcpMsg.length() < MSG_LENGTH_END) {
-            throw new IllegalArgumentException(
+        int minLength = CommonHeaderCodec.MSG_LEN_OFFSET + CommonHeaderCodec.MSG_LEN_LENGTH;
+        if (tcpMsg.length < minLength) {
+            throw new ParseRejectedException(ParseRejectedException.Reason.MESSAGE_TOO_SHORT,
                 String.format("TCP 메시지가 너무 짧습니다. 최소 길이: %d, 실제 길이: %d", 
-                    MSG_LENGTH_END, tcpMsg.length()));
+                    minLength, tcpMsg.length));
         }
 
         // 전문 길이 필드 추출
-        String lengthField = tcpMsg.substring(MSG_LENGTH_START, MSG_LENGTH_END);
+        int expectedLength = commonHeaderCodec.readMsgLen(tcpMsg);
+        if (expectedLength < 0) {
+            throw new ParseRejectedException(ParseRejectedException.Reason.BAD_LENGTH_FIELD,
+                String.format("전문 길이 필드가 숫자가 아닙니다: '%s'", 
+                    new String(tcpMsg, CommonHeaderCodec.MSG_LEN_OFFSET, CommonHeaderCodec.MSG_LEN_LENGTH, 
+                        fieldParserHelper.getCharset())));
+        }
+
+        int actualLength = tcpMsg.length;
+        log.debug("전문 길이 검증: 예상={}, 실제={}", expectedLength, actualLength);
         
-        try {
-            int expectedLength = Integer.parseInt(lengthField);
-            int actualLength = tcpMsg.length();
-            
-            log.debug("전문 길이 검증: 예상={}, 실제={}", expectedLength, actualLength);
-            
-            if (expectedLength != actualLength) {
-                throw new IllegalArgumentException(
-                    String.format("전문 길이가 일치하지 않습니다. 헤더 길이: %d, 실제 길이: %d", 
-                        expectedLength, actualLength));
-            }
-            
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(
-                String.format("전문 길이 필드가 숫자가 아닙니다: '%s'", lengthField));
+        if (expectedLength != actualLength) {
+            throw new ParseRejectedException(ParseRejectedException.Reason.LENGTH_MISMATCH,
+                String.format("전문 길이가 일치하지 않습니다. 헤더 길이: %d, 실제 길이: %d", 
+                    expectedLength, actualLength));
+        }
+    }
+
+    /**
+     * 스펙 기준 전문 길이 검증
+     * 1. 최소 길이(모든 배열 요소 0개 기준)보다 짧으면 카운트 필드를 읽기 전에 거부
+     * 2. 배열 카운트 필드 값으로 계산한 길이와 실제 길이가 다르면 거부
+     *    (고정 길이 요소 배열은 요소를 순회하지 않고 곱셈으로 계산)
+     * 
+     * @param plan 파싱 플랜
+     * @param tcpMsg TCP 메시지
+     * @throws ParseRejectedException 메시지가 스펙 기준 길이보다 짧거나 긴 경우
+     */
+    private void validateSpecLength(ParsePlan plan, byte[] tcpMsg) {
+        int minSize = plan.getMinSize(ParsePlan.ROOT);
+        if (tcpMsg.length < minSize) {
+            throw new ParseRejectedException(ParseRejectedException.Reason.TRUNCATED,
+                String.format("API '%s' 전문이 스펙 최소 길이보다 짧습니다. 최소 길이: %d, 실제 길이: %d", 
+                    plan.getApiCode(), minSize, tcpMsg.length));
+        }
+
+        int specLength = tcpMessageParser.measure(plan, tcpMsg);
+        if (specLength != tcpMsg.length) {
+            throw new ParseRejectedException(specLength > tcpMsg.length
+                    ? ParseRejectedException.Reason.TRUNCATED : ParseRejectedException.Reason.OVERSIZED,
+                String.format("API '%s' 전문 길이가 스펙과 일치하지 않습니다. 스펙 길이: %d, 실제 길이: %d", 
+                    plan.getApiCode(), specLength, tcpMsg.length));
         }
     }
 
     /**
      * TCP 메시지에서 API 서비스 코드 추출
-     * 고정된 위치(135~155)에서 API 서비스 코드를 추출하고 검증
+     * 공통부의 고정된 바이트 위치(135~155)에서 API 서비스 코드를 추출하고 검증
      * 
      * @param tcpMsg TCP 메시지
      * @return 추출된 API 서비스 코드 (trim 처리됨)
-     * @throws IllegalArgumentException 메시지가 너무 짧거나 서비스 코드가 없는 경우
+     * @throws ParseRejectedException 메시지가 너무 짧거나 서비스 코드가 없는 경우
      */
-    private String extractApiSvcCd(String tcpMsg) {
+    private String extractApiSvcCd(byte[] tcpMsg) {
         // 메시지 길이 검증
-        if (tcpMsg.length() <= API_SVC_CD_START) {
-            throw new IllegalArgumentException(
+        if (tcpMsg.length <= CommonHeaderCodec.API_SVC_CD_OFFSET) {
+            throw new ParseRejectedException(ParseRejectedException.Reason.MESSAGE_TOO_SHORT,
                 String.format("TCP 메시지가 너무 짧습니다. 최소 길이: %d, 실제 길이: %d", 
-                    API_SVC_CD_START + 1, tcpMsg.length()));
+                    CommonHeaderCodec.API_SVC_CD_OFFSET + 1, tcpMsg.length));
         }
 
-        // API 서비스 코드 추출
-        int endIndex = Math.min(API_SVC_CD_END, tcpMsg.length());
-        String apiSvcCd = tcpMsg.substring(API_SVC_CD_START, endIndex).trim();
+        // API 서비스 코드 추출 (메시지 범위를 벗어난 부분은 제외됨)
+        String apiSvcCd = commonHeaderCodec.readApiSvcCd(tcpMsg);
 
         // 서비스 코드 존재 여부 검증
         if (apiSvcCd.isEmpty()) {
-            throw new IllegalArgumentException("API 서비스 코드가 비어있습니다.");
+            throw new ParseRejectedException(ParseRejectedException.Reason.MISSING_API_CODE,
+                "API 서비스 코드가 비어있습니다.");
         }
 
         return apiSvcCd;
     }
 
     /**
-     * API 서비스 코드에 해당하는 스펙 리스트 조회
+     * API 서비스 코드에 해당하는 파싱 플랜 조회
      * 
      * @param apiSvcCd API 서비스 코드
-     * @return 해당 서비스 코드의 필드 스펙 리스트
-     * @throws IllegalArgumentException 해당 서비스 코드의 스펙이 존재하지 않는 경우
+     * @return 해당 서비스 코드의 파싱 플랜
+     * @throws ParseRejectedException 해당 서비스 코드의 스펙이 존재하지 않는 경우
      */
-    private List<ApiFieldSpec> getSpecList(String apiSvcCd) {
-        List<ApiFieldSpec> specList = apiSpecRegistry.getSpec(apiSvcCd);
+    private ParsePlan getPlan(String apiSvcCd) {
+        ParsePlan plan = apiSpecRegistry.getPlan(apiSvcCd);
         
-        if (specList == null || specList.isEmpty()) {
-            throw new IllegalArgumentException(
+        if (plan == null || plan.getChildCount(ParsePlan.ROOT) == 0) {
+            throw new ParseRejectedException(ParseRejectedException.Reason.UNKNOWN_API_CODE,
                 String.format("API 서비스 코드 '%s'에 해당하는 스펙이 존재하지 않습니다.", apiSvcCd));
         }
         
-        return specList;
+        return plan;
+    }
+
+    /**
+     * 필드 경로 목록에 해당하는 프로젝션 조회 (없으면 생성하여 캐시)
+     * 
+     * @param plan 파싱 플랜
+     * @param fields 필드 경로 목록
+     * @return 프로젝션, 경로 목록이 비어 있으면 null (전체 필드)
+     * @throws IllegalArgumentException 스펙에 없는 필드 경로가 있는 경우
+     */
+    private Projection projection(ParsePlan plan, List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        return projections.get(new ProjectionKey(plan, List.copyOf(fields)),
+                key -> Projection.of(key.plan, key.fields));
+    }
+
+    /**
+     * 현재 스펙 스냅샷의 API 코드 조회 테이블
+     * 스냅샷이 교체된 뒤 처음 호출될 때 한 번 다시 생성 (동시에 생성되더라도 결과는 같음)
+     * 
+     * @return API 코드 조회 테이블
+     */
+    private ApiCodeIndex apiCodeIndex() {
+        ApiSpecSnapshot snapshot = apiSpecRegistry.getSnapshot();
+        IndexedSnapshot current = indexedSnapshot;
+        if (current == null || current.snapshot != snapshot) {
+            current = new IndexedSnapshot(snapshot,
+                    new ApiCodeIndex(snapshot.getPlans(), fieldParserHelper.getCharset()));
+            indexedSnapshot = current;
+        }
+        return current.index;
+    }
+
+    /** 조회 테이블과 생성 기준 스냅샷 */
+    private static final class IndexedSnapshot {
+        private final ApiSpecSnapshot snapshot;
+        private final ApiCodeIndex index;
+
+        private IndexedSnapshot(ApiSpecSnapshot snapshot, ApiCodeIndex index) {
+            this.snapshot = snapshot;
+            this.index = index;
+        }
+    }
+
+    /** 프로젝션 캐시 키 (플랜은 인스턴스 기준으로 비교) */
+    private static final class ProjectionKey {
+        private final ParsePlan plan;
+        private final List<String> fields;
+
+        private ProjectionKey(ParsePlan plan, List<String> fields) {
+            this.plan = plan;
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ProjectionKey)) {
+                return false;
+            }
+            ProjectionKey other = (ProjectionKey) o;
+            return plan == other.plan && fields.equals(other.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(plan), fields);
+        }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
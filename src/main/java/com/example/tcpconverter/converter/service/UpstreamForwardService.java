@@ -0,0 +1,50 @@
+package com.example.tcpconverter.converter.service;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.example.tcpconverter.converter.upstream.UpstreamGateway;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업스트림 전달 서비스
+ * 요청(JSON 또는 전문)을 레거시 호스트로 전달하고, 응답 전문을 파싱 서비스로 변환하여 반환
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UpstreamForwardService {
+
+    private final UpstreamGateway upstreamGateway;
+    private final TcpMessageParseService tcpMessageParseService;
+    private final TcpMessageEncodeService tcpMessageEncodeService;
+
+    /**
+     * 전문을 업스트림 호스트로 전달하고 응답 전문을 파싱
+     *
+     * @param tcpMsg 요청 전문 (원본 바이트, 공통부에 거래 고유번호 필수)
+     * @return 파싱된 응답 전문
+     * @throws IllegalArgumentException 요청 전문이나 응답 전문이 유효하지 않은 경우
+     * @throws com.example.tcpconverter.converter.upstream.UpstreamException 전달에 실패한 경우
+     */
+    public Map<String, Object> forward(byte[] tcpMsg) {
+        byte[] reply = upstreamGateway.exchange(tcpMsg);
+        log.debug("업스트림 응답 수신: 요청 길이={}, 응답 길이={}", tcpMsg.length, reply.length);
+        return tcpMessageParseService.parse(reply);
+    }
+
+    /**
+     * JSON을 전문으로 인코딩하여 업스트림 호스트로 전달하고 응답 전문을 파싱
+     *
+     * @param message 요청 값 (파싱 결과와 같은 구조, 공통부에 거래 고유번호 필수)
+     * @return 파싱된 응답 전문
+     * @throws IllegalArgumentException 요청 값이나 응답 전문이 유효하지 않은 경우
+     * @throws com.example.tcpconverter.converter.upstream.UpstreamException 전달에 실패한 경우
+     */
+    public Map<String, Object> forward(Map<String, Object> message) {
+        return forward(tcpMessageEncodeService.encode(message));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.tcpconverter.converter.upstream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업스트림 호스트와의 지속 연결 하나
+ *
+ * 요청 전문을 응답을 기다리지 않고 연속으로 전송하고(여러 요청 동시 처리),
+ * 전용 읽기 스레드가 MsgLen 기준으로 응답 전문을 잘라 공통부의 거래 고유번호(IsTuno)로 요청과 연결
+ * 응답 순서는 요청 순서와 달라도 됨
+ *
+ * 연결이 끊어지면 처리 중인 모든 요청을 UpstreamException으로 실패 처리하며,
+ * 다시 연결하는 것은 UpstreamGateway의 역할
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Slf4j
+final class UpstreamConnection implements Closeable {
+
+    private final Socket socket;
+    private final OutputStream out;
+    private final DataInputStream in;
+    private final CommonHeaderCodec commonHeaderCodec;
+
+    /** 거래 고유번호별 응답 대기 요청 */
+    private final Map<String, CompletableFuture<byte[]>> pending = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    /**
+     * 업스트림 호스트에 연결하고 응답 읽기 스레드를 시작
+     *
+     * @param address 업스트림 호스트 주소
+     * @param connectTimeoutMs 연결 대기 시간 (밀리초)
+     * @param commonHeaderCodec 응답 전문의 길이와 거래 고유번호를 읽을 코덱
+     * @param name 읽기 스레드 이름
+     * @throws IOException 연결에 실패한 경우
+     */
+    UpstreamConnection(InetSocketAddress address, int connectTimeoutMs, CommonHeaderCodec commonHeaderCodec,
+                       String name) throws IOException {
+        this.commonHeaderCodec = commonHeaderCodec;
+        this.socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            socket.connect(address, connectTimeoutMs);
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+
+        Thread reader = new Thread(this::readLoop, name);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * 요청 전문 전송
+     *
+     * @param isTuno 요청 전문의 거래 고유번호
+     * @param message 요청 전문 (길이 헤더 포함)
+     * @return 같은 거래 고유번호의 응답 전문을 받으면 완료되는 결과
+     * @throws IllegalArgumentException 같은 거래 고유번호의 요청이 이미 처리 중인 경우
+     */
+    CompletableFuture<byte[]> send(String isTuno, byte[] message) {
+        CompletableFuture<byte[]> reply = new CompletableFuture<>();
+        if (pending.putIfAbsent(isTuno, reply) != null) {
+            throw new IllegalArgumentException("같은 거래 고유번호의 요청이 이미 처리 중입니다: " + isTuno);
+        }
+        if (closed) {
+            pending.remove(isTuno, reply);
+            reply.completeExceptionally(new UpstreamException("업스트림 연결이 종료되었습니다."));
+            return reply;
+        }
+
+        try {
+            synchronized (out) {
+                out.write(message);
+                out.flush();
+            }
+        } catch (IOException e) {
+            close(e);
+        }
+        return reply;
+    }
+
+    /**
+     * 응답을 더 이상 기다리지 않는 요청 정리 (대기 시간 초과 등)
+     */
+    void release(String isTuno, CompletableFuture<byte[]> reply) {
+        pending.remove(isTuno, reply);
+    }
+
+    /** 응답 대기 중인 요청 수 */
+    int inFlight() {
+        return pending.size();
+    }
+
+    boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public void close() {
+        close(null);
+    }
+
+    /**
+     * 응답 읽기 루프
+     * 길이 헤더가 잘못되면 이후 전문 경계를 알 수 없으므로 연결을 종료
+     */
+    private void readLoop() {
+        byte[] header = new byte[CommonHeaderCodec.MSG_LEN_LENGTH];
+        try {
+            while (!closed) {
+                in.readFully(header);
+                int length = commonHeaderCodec.readMsgLen(header);
+                if (length < header.length || length > CommonHeaderCodec.MAX_MSG_LEN) {
+                    throw new IOException("응답 전문 길이 필드가 올바르지 않습니다: " + length);
+                }
+                byte[] frame = new byte[length];
+                System.arraycopy(header, 0, frame, 0, header.length);
+                in.readFully(frame, header.length, length - header.length);
+                complete(frame);
+            }
+        } catch (IOException e) {
+            close(e);
+        }
+    }
+
+    private void complete(byte[] frame) {
+        if (frame.length < CommonHeaderCodec.IS_TUNO_OFFSET + CommonHeaderCodec.IS_TUNO_LENGTH) {
+            log.warn("거래 고유번호가 없는 업스트림 응답 무시: 길이={}", frame.length);
+            return;
+        }
+        String isTuno = commonHeaderCodec.readIsTuno(frame);
+        CompletableFuture<byte[]> reply = pending.remove(isTuno);
+        if (reply == null) {
+            // 대기 시간이 지나 이미 실패 처리된 요청의 늦은 응답
+            log.warn("대기 중인 요청이 없는 업스트림 응답 무시: isTuno={}", isTuno);
+            return;
+        }
+        reply.complete(frame);
+    }
+
+    private void close(IOException cause) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("업스트림 소켓 종료 실패", e);
+        }
+        if (cause != null) {
+            log.warn("업스트림 연결 끊김: remote={}, 처리 중 요청={}, 원인={}",
+                    socket.getRemoteSocketAddress(), pending.size(), cause.toString());
+        }
+
+        UpstreamException failure = new UpstreamException("업스트림 연결이 끊어졌습니다.", cause);
+        pending.values().forEach(reply -> reply.completeExceptionally(failure));
+        pending.clear();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.tcpconverter.converter.upstream;
+
+/**
+ * 업스트림(레거시 호스트) 전달 실패 예외
+ *
+ * 전달 모드가 꺼져 있거나, 연결할 수 없거나, 연결이 끊어졌거나, 응답 대기 시간이 초과된 경우 발생
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+public class UpstreamException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UpstreamException(String message) {
+        super(message);
+    }
+
+    public UpstreamException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
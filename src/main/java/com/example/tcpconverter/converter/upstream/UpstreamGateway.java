@@ -0,0 +1,320 @@
+package com.example.tcpconverter.converter.upstream;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업스트림(레거시 호스트) 전달 게이트웨이
+ *
+ * 전문을 별도 중계 컴포넌트 없이 레거시 호스트로 직접 전송하고 응답 전문을 받음
+ * 호스트와의 지속 연결 풀을 유지하며, 연결마다 여러 요청을 동시에 전송하고
+ * 응답은 공통부의 거래 고유번호(IsTuno)로 요청과 연결 (거래마다 연결을 새로 맺지 않음)
+ *
+ * 요청은 열려 있는 연결 중 처리 중인 요청이 가장 적은 연결로 보내며, 요청 스레드에서는 연결을 맺지 않음
+ * 끊어진 슬롯은 요청이 들어올 때 연결 스레드에서 다시 연결하고, 연결에 실패한 슬롯은 재시도 간격 동안 연결하지 않음
+ * (실패가 이어지면 간격을 두 배씩 늘림, 최대 MAX_RETRY_INTERVAL_MS)
+ * 열린 연결이 하나도 없으면 진행 중인 재연결을 기다리고, 모든 슬롯이 재시도 대기 중이면 바로 실패
+ * (호스트가 내려가 있는 동안 요청마다 연결 대기 시간을 소모하지 않음)
+ *
+ * 설정 (converter.upstream.enabled=true 인 경우에만 사용 가능):
+ * - converter.upstream.host, converter.upstream.port: 레거시 호스트 주소
+ * - converter.upstream.pool-size: 지속 연결 수
+ * - converter.upstream.timeout-ms: 연결 및 응답 대기 시간
+ * - converter.upstream.retry-interval-ms: 연결 실패 후 첫 재시도 간격
+ *
+ * @author converter Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class UpstreamGateway {
+
+    private final CommonHeaderCodec commonHeaderCodec;
+    private final boolean enabled;
+    private final InetSocketAddress address;
+    private final int timeoutMs;
+    private final int retryIntervalMs;
+
+    /** 연속 실패 시 늘어나는 재시도 간격의 상한 */
+    private static final long MAX_RETRY_INTERVAL_MS = 30_000;
+
+    /** 지속 연결 풀 (슬롯별로 처음 사용할 때 연결) */
+    private final Slot[] slots;
+
+    /** 슬롯 연결 스레드 (슬롯마다 동시에 한 번만 연결) */
+    private final ExecutorService connector;
+
+    public UpstreamGateway(CommonHeaderCodec commonHeaderCodec,
+                           @Value("${converter.upstream.enabled:false}") boolean enabled,
+                           @Value("${converter.upstream.host:localhost}") String host,
+                           @Value("${converter.upstream.port:9091}") int port,
+                           @Value("${converter.upstream.pool-size:4}") int poolSize,
+                           @Value("${converter.upstream.timeout-ms:5000}") int timeoutMs,
+                           @Value("${converter.upstream.retry-interval-ms:1000}") int retryIntervalMs) {
+        this.commonHeaderCodec = commonHeaderCodec;
+        this.enabled = enabled;
+        this.address = InetSocketAddress.createUnresolved(host, port);
+        this.timeoutMs = timeoutMs;
+        this.retryIntervalMs = Math.max(retryIntervalMs, 0);
+        this.slots = new Slot[Math.max(poolSize, 1)];
+        for (int index = 0; index < slots.length; index++) {
+            slots[index] = new Slot(index);
+        }
+        this.connector = Executors.newFixedThreadPool(slots.length, connectorThreadFactory());
+    }
+
+    /**
+     * 전달 모드 사용 여부
+     *
+     * @return converter.upstream.enabled 설정 값
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 전문을 업스트림 호스트로 전송
+     *
+     * @param message 요청 전문 (길이 헤더 포함, 공통부에 거래 고유번호 필수)
+     * @return 응답 전문을 받으면 완료되는 결과 (대기 시간 초과 시 TimeoutException으로 실패)
+     * @throws IllegalArgumentException 전문 길이가 맞지 않거나 거래 고유번호가 없는 경우
+     * @throws UpstreamException 전달 모드가 꺼져 있거나 호스트에 연결할 수 없는 경우
+     */
+    public CompletableFuture<byte[]> send(byte[] message) {
+        if (!enabled) {
+            throw new UpstreamException("업스트림 전달 모드가 비활성화되어 있습니다.");
+        }
+        // 전문 경계가 어긋나면 같은 연결의 다른 요청까지 깨지므로 전송 전에 검증
+        if (message.length < CommonHeaderCodec.IS_TUNO_OFFSET + CommonHeaderCodec.IS_TUNO_LENGTH
+                || commonHeaderCodec.readMsgLen(message) != message.length) {
+            throw new IllegalArgumentException(
+                String.format("전문 길이가 올바르지 않아 전달할 수 없습니다. 실제 길이: %d", message.length));
+        }
+        String isTuno = commonHeaderCodec.readIsTuno(message);
+        if (isTuno.isEmpty()) {
+            throw new IllegalArgumentException("거래 고유번호(IsTuno)가 없는 전문은 전달할 수 없습니다.");
+        }
+
+        UpstreamConnection connection = acquire();
+        CompletableFuture<byte[]> reply = connection.send(isTuno, message);
+        return reply.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((frame, e) -> connection.release(isTuno, reply));
+    }
+
+    /**
+     * 요청 전문을 전송하고 응답 전문을 받을 때까지 대기
+     *
+     * @param message 요청 전문 (길이 헤더 포함, 공통부에 거래 고유번호 필수)
+     * @return 응답 전문
+     * @throws IllegalArgumentException 전문 길이가 맞지 않거나 거래 고유번호가 없는 경우
+     * @throws UpstreamException 연결 실패, 연결 끊김, 응답 대기 시간 초과
+     */
+    public byte[] exchange(byte[] message) {
+        try {
+            return send(message).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new UpstreamException(
+                    String.format("업스트림 응답 대기 시간(%dms)이 초과되었습니다.", timeoutMs), e.getCause());
+            }
+            if (e.getCause() instanceof UpstreamException) {
+                throw (UpstreamException) e.getCause();
+            }
+            throw new UpstreamException("업스트림 전달 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 열려 있는 연결 중 처리 중인 요청이 가장 적은 연결 선택
+     * 끊어진 슬롯은 연결 스레드에서 다시 연결하며, 열린 연결이 없을 때만 진행 중인 재연결을 기다림
+     *
+     * @return 사용할 연결
+     * @throws UpstreamException 열린 연결이 없고 재연결에 실패했거나 모든 슬롯이 재시도 대기 중인 경우
+     */
+    private UpstreamConnection acquire() {
+        UpstreamConnection selected = null;
+        List<CompletableFuture<UpstreamConnection>> reconnecting = new ArrayList<>(0);
+        for (Slot slot : slots) {
+            UpstreamConnection connection = slot.connection;
+            if (connection != null && connection.isOpen()) {
+                if (selected == null || connection.inFlight() < selected.inFlight()) {
+                    selected = connection;
+                }
+                continue;
+            }
+            CompletableFuture<UpstreamConnection> reconnect = slot.reconnect();
+            if (reconnect != null) {
+                reconnecting.add(reconnect);
+            }
+        }
+        if (selected != null) {
+            return selected;
+        }
+        if (reconnecting.isEmpty()) {
+            throw new UpstreamException("업스트림 호스트에 연결할 수 없어 재연결 대기 중입니다: " + address);
+        }
+        return awaitFirstConnection(reconnecting);
+    }
+
+    /**
+     * 진행 중인 재연결 중 가장 먼저 성공한 연결을 대기 (모두 실패하면 마지막 실패 원인으로 실패)
+     */
+    private UpstreamConnection awaitFirstConnection(List<CompletableFuture<UpstreamConnection>> reconnecting) {
+        CompletableFuture<UpstreamConnection> first = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(reconnecting.size());
+        for (CompletableFuture<UpstreamConnection> reconnect : reconnecting) {
+            reconnect.whenComplete((connection, e) -> {
+                if (connection != null) {
+                    first.complete(connection);
+                } else if (remaining.decrementAndGet() == 0) {
+                    first.completeExceptionally(e);
+                }
+            });
+        }
+        try {
+            return first.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof UpstreamException) {
+                throw (UpstreamException) cause;
+            }
+            throw new UpstreamException("업스트림 호스트에 연결할 수 없습니다: " + address, cause);
+        } catch (TimeoutException e) {
+            throw new UpstreamException(
+                String.format("업스트림 연결 대기 시간(%dms)이 초과되었습니다: %s", timeoutMs, address), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamException("업스트림 연결 대기 중 인터럽트되었습니다: " + address, e);
+        }
+    }
+
+    /**
+     * 모든 연결 종료 (처리 중인 요청은 실패 처리)
+     */
+    @PreDestroy
+    public void close() {
+        connector.shutdownNow();
+        for (Slot slot : slots) {
+            slot.close();
+        }
+    }
+
+    private static ThreadFactory connectorThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "upstream-connector-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 지속 연결 슬롯
+     * 연결 상태(connecting, failures, retryAt)는 슬롯 단위로 동기화하며, 연결 자체는 락 밖의 연결 스레드에서 맺음
+     */
+    private final class Slot {
+
+        private final int index;
+
+        /** 현재 연결 (요청 스레드는 락 없이 조회) */
+        private volatile UpstreamConnection connection;
+
+        /** 진행 중인 연결 (없으면 null) */
+        private CompletableFuture<UpstreamConnection> connecting;
+
+        /** 연속 연결 실패 횟수 */
+        private int failures;
+
+        /** 다음 연결을 시도할 수 있는 시각 (System.nanoTime 기준) */
+        private long retryAt;
+
+        private boolean closed;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+        /**
+         * 연결 스레드에서 다시 연결 시작 (이미 진행 중이면 그 결과를 공유)
+         *
+         * @return 연결 결과, 재시도 간격이 지나지 않았거나 게이트웨이가 종료된 경우 null
+         */
+        synchronized CompletableFuture<UpstreamConnection> reconnect() {
+            if (connecting != null) {
+                return connecting;
+            }
+            if (closed || (failures > 0 && System.nanoTime() - retryAt < 0)) {
+                return null;
+            }
+            CompletableFuture<UpstreamConnection> future;
+            try {
+                // 요청 스레드가 결과를 받기 전에 슬롯 상태(연결, 실패 횟수)가 먼저 갱신되도록 finished 뒤에 완료되는 결과를 공유
+                future = CompletableFuture.supplyAsync(this::connect, connector)
+                        .whenComplete((connected, e) -> finished(connected));
+            } catch (RejectedExecutionException e) {
+                return null;
+            }
+            // 연결 스레드의 finished는 이 락을 기다리므로, 이미 완료되었다면 이 스레드에서 finished가 실행된 경우
+            if (!future.isDone()) {
+                connecting = future;
+            }
+            return future;
+        }
+
+        private UpstreamConnection connect() {
+            try {
+                return new UpstreamConnection(new InetSocketAddress(address.getHostString(), address.getPort()),
+                        timeoutMs, commonHeaderCodec, "upstream-reader-" + index);
+            } catch (IOException e) {
+                throw new UpstreamException("업스트림 호스트에 연결할 수 없습니다: " + address, e);
+            }
+        }
+
+        private synchronized void finished(UpstreamConnection connected) {
+            connecting = null;
+            if (connected == null) {
+                failures++;
+                long interval = Math.min((long) retryIntervalMs << Math.min(failures - 1, 16), MAX_RETRY_INTERVAL_MS);
+                retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(interval);
+                log.warn("업스트림 연결 실패, {}ms 후 다시 시도: address={}, slot={}, failures={}",
+                        interval, address, index, failures);
+                return;
+            }
+            failures = 0;
+            if (closed) {
+                connected.close();
+                return;
+            }
+            connection = connected;
+            log.info("업스트림 연결: address={}, slot={}", address, index);
+        }
+
+        synchronized void close() {
+            closed = true;
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.tcpconverter.auth.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.tcpconverter.auth.repository.TokenBlacklistRepository;
+import com.example.tcpconverter.auth.service.TokenRevocationIndex;
+import com.example.tcpconverter.auth.util.JwtUtil;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final TokenRevocationIndex index = new TokenRevocationIndex(jwtUtil, mock(TokenBlacklistRepository.class));
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, index, Set.of("admin-1"));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("관리 클라이언트로 등록된 클라이언트에만 관리 권한 부여")
+    void grantsAdminRoleOnlyToAdminClients() throws Exception {
+        Authentication admin = authenticate(jwtUtil.generateAccessToken("admin-1"));
+        Authentication client = authenticate(jwtUtil.generateAccessToken("client-1"));
+
+        assertThat(admin.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        assertThat(client.isAuthenticated()).isTrue();
+        assertThat(client.getAuthorities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 관리 클라이언트라도 인증하지 않음")
+    void ignoresRevokedAdminToken() throws Exception {
+        String token = jwtUtil.generateAccessToken("admin-1");
+        index.revoke(token);
+
+        assertThat(authenticate(token)).isNull();
+    }
+}
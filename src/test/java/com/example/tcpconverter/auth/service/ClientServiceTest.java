@@ -0,0 +1,68 @@
+package com.example.tcpconverter.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.auth.entity.Client;
+import com.example.tcpconverter.auth.repository.ClientRepository;
+
+class ClientServiceTest {
+
+    private final ClientRepository repository = mock(ClientRepository.class);
+    private final ClientService clientService = new ClientService(repository);
+
+    private static Client client(String clientId, String secret) {
+        Client client = new Client();
+        client.setClientId(clientId);
+        client.setClientSecret(secret);
+        return client;
+    }
+
+    @Test
+    @DisplayName("로드한 클라이언트 정보로 데이터베이스 조회 없이 인증")
+    void authenticatesFromMemory() {
+        when(repository.findAll()).thenReturn(List.of(client("client-1", "secret-1"), client("client-2", "비밀")));
+        clientService.load();
+
+        assertThat(clientService.authenticate("client-1", "secret-1")).isTrue();
+        assertThat(clientService.authenticate("client-2", "비밀")).isTrue();
+        assertThat(clientService.authenticate("client-1", "secret-2")).isFalse();
+        assertThat(clientService.authenticate("client-1", "secret-1x")).isFalse();
+        assertThat(clientService.authenticate("client-1", null)).isFalse();
+        assertThat(clientService.authenticate("unknown", "secret-1")).isFalse();
+        assertThat(clientService.authenticate(null, "secret-1")).isFalse();
+        verify(repository, never()).findByClientId(any());
+    }
+
+    @Test
+    @DisplayName("다시 로드하면 추가/변경/삭제된 클라이언트를 반영하고, 실패하면 현재 정보 유지")
+    void reloadAppliesChanges() {
+        when(repository.findAll())
+                .thenReturn(List.of(client("client-1", "secret-1"), client("client-2", "secret-2")))
+                .thenReturn(List.of(client("client-1", "rotated"), client("client-3", "secret-3")))
+                .thenThrow(new IllegalStateException("down"));
+        clientService.load();
+
+        clientService.reload();
+
+        assertThat(clientService.authenticate("client-1", "secret-1")).isFalse();
+        assertThat(clientService.authenticate("client-1", "rotated")).isTrue();
+        assertThat(clientService.authenticate("client-2", "secret-2")).isFalse();
+        assertThat(clientService.authenticate("client-3", "secret-3")).isTrue();
+
+        clientService.reload();
+
+        assertThat(clientService.authenticate("client-3", "secret-3")).isTrue();
+        verify(repository, times(3)).findAll();
+    }
+}
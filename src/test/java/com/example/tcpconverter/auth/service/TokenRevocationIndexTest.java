@@ -0,0 +1,88 @@
+package com.example.tcpconverter.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.auth.entity.TokenBlacklist;
+import com.example.tcpconverter.auth.repository.TokenBlacklistRepository;
+import com.example.tcpconverter.auth.util.JwtUtil;
+
+class TokenRevocationIndexTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final TokenBlacklistRepository repository = mock(TokenBlacklistRepository.class);
+    private final TokenRevocationIndex index = new TokenRevocationIndex(jwtUtil, repository);
+
+    private static TokenBlacklist blacklisted(String token) {
+        TokenBlacklist entity = new TokenBlacklist();
+        entity.setToken(token);
+        entity.setBlacklistedAt(LocalDateTime.now());
+        return entity;
+    }
+
+    @Test
+    @DisplayName("기동 시 블랙리스트 테이블의 유효한 토큰만 로드")
+    void loadsValidTokensAtStartup() {
+        String revoked = jwtUtil.generateAccessToken("client-1");
+        when(repository.findByBlacklistedAtAfter(any()))
+                .thenReturn(List.of(blacklisted(revoked), blacklisted("invalid-token")));
+
+        index.load();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.isRevoked(revoked)).isTrue();
+        assertThat(index.isRevoked(JwtUtil.sha256(revoked))).isTrue();
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("새 폐기 등록이 없어도 주기 정리에서 만료된 토큰을 제거")
+    void pruneRemovesExpiredTokens() {
+        String revoked = jwtUtil.generateAccessToken("client-1");
+        String refresh = jwtUtil.generateRefreshToken("client-1");
+        index.revoke(revoked);
+        index.revoke(refresh);
+
+        index.prune(System.currentTimeMillis() + 1000L * 60 * 60);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.isRevoked(revoked)).isFalse();
+        assertThat(index.isRevoked(refresh)).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기 등록한 토큰만 폐기로 판정")
+    void revokeMarksOnlyThatToken() {
+        String revoked = jwtUtil.generateAccessToken("client-1");
+        String other = jwtUtil.generateRefreshToken("client-1");
+
+        assertThat(index.isRevoked(revoked)).isFalse();
+        index.revoke(revoked);
+
+        assertThat(index.isRevoked(revoked)).isTrue();
+        assertThat(index.isRevoked(other)).isFalse();
+        assertThat(index.isRevoked((String) null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("블룸 필터를 통과한 토큰도 집합에 없으면 폐기가 아님")
+    void noFalsePositives() {
+        for (int i = 0; i < 1000; i++) {
+            index.revoke(jwtUtil.generateAccessToken("revoked-" + i));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(index.isRevoked(jwtUtil.generateAccessToken("active-" + i))).isFalse();
+        }
+    }
+}
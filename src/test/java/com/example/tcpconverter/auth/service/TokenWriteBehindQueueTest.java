@@ -0,0 +1,206 @@
+package com.example.tcpconverter.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.tcpconverter.auth.entity.RefreshToken;
+import com.example.tcpconverter.auth.entity.TokenBlacklist;
+import com.example.tcpconverter.auth.repository.RefreshTokenRepository;
+import com.example.tcpconverter.auth.repository.TokenBlacklistRepository;
+import com.example.tcpconverter.auth.util.JwtUtil;
+
+class TokenWriteBehindQueueTest {
+
+    @TempDir
+    Path directory;
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final TokenBlacklistRepository tokenBlacklistRepository = mock(TokenBlacklistRepository.class);
+    private final TokenRevocationIndex index = new TokenRevocationIndex(jwtUtil, tokenBlacklistRepository);
+
+    private TokenWriteBehindQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    // 주기 저장이 테스트 도중 실행되지 않도록 긴 간격으로 생성
+    private TokenWriteBehindQueue start(boolean enabled) throws IOException {
+        TokenWriteBehindQueue started = new TokenWriteBehindQueue(jdbcTemplate, refreshTokenRepository,
+                tokenBlacklistRepository, index, enabled, 100, 60_000, journal().toString());
+        started.start();
+        return started;
+    }
+
+    private Path journal() {
+        return directory.resolve("tokens.journal");
+    }
+
+    private static RefreshToken refreshToken(String token) {
+        RefreshToken entity = new RefreshToken();
+        entity.setClientId("client-1");
+        entity.setRefreshToken(token);
+        entity.setExpiryDate(LocalDateTime.now().plusDays(7));
+        return entity;
+    }
+
+    private static TokenBlacklist blacklisted(String token) {
+        TokenBlacklist entity = new TokenBlacklist();
+        entity.setToken(token);
+        entity.setBlacklistedAt(LocalDateTime.now());
+        return entity;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<Object> saved(String sql, int calls) {
+        ArgumentCaptor<Collection> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(calls)).batchUpdate(eq(sql), rows.capture(), eq(100), any());
+        return rows.getValue();
+    }
+
+    @Test
+    @DisplayName("저장 요청은 저널에만 기록하고 일괄 저장 시 JDBC 배치 한 번으로 저장")
+    void savesInOneBatch() throws IOException {
+        queue = start(true);
+        for (int i = 0; i < 3; i++) {
+            queue.saveRefreshToken(refreshToken("refresh-" + i));
+        }
+        queue.saveBlacklist(blacklisted("revoked-0"));
+
+        assertThat(queue.backlog()).isEqualTo(4);
+        assertThat(queue.isUnsavedRefreshToken("refresh-1")).isTrue();
+        assertThat(Files.size(journal())).isPositive();
+        verify(refreshTokenRepository, never()).save(any());
+
+        assertThat(queue.flush()).isTrue();
+
+        assertThat(saved(TokenWriteBehindQueue.INSERT_REFRESH_TOKEN, 1)).hasSize(3);
+        assertThat(saved(TokenWriteBehindQueue.INSERT_BLACKLIST, 1)).hasSize(1);
+        assertThat(queue.backlog()).isZero();
+        assertThat(queue.isUnsavedRefreshToken("refresh-1")).isFalse();
+        assertThat(Files.size(journal())).isZero();
+    }
+
+    @Test
+    @DisplayName("저장 전에 종료되면 다음 기동 시 저널에서 복구하고 잘린 마지막 레코드는 무시")
+    void recoversJournalAfterCrash() throws IOException {
+        String revoked = jwtUtil.generateAccessToken("client-1");
+        TokenWriteBehindQueue crashed = start(true);
+        crashed.saveRefreshToken(refreshToken("refresh-0"));
+        crashed.saveBlacklist(blacklisted(revoked));
+        Files.write(journal(), new byte[] {0, 0, 1, 0, 'R'}, StandardOpenOption.APPEND);
+
+        queue = start(true);
+
+        assertThat(queue.backlog()).isEqualTo(2);
+        assertThat(queue.isUnsavedRefreshToken("refresh-0")).isTrue();
+        assertThat(index.isRevoked(revoked)).isTrue();
+        assertThat(queue.flush()).isTrue();
+        assertThat(saved(TokenWriteBehindQueue.INSERT_BLACKLIST, 1)).extracting("token").containsExactly(revoked);
+        assertThat(TokenWriteBehindQueue.readJournal(journal())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("데이터베이스 저장에 실패하면 항목과 저널을 유지하고 다음 저장 때 다시 시도")
+    void retriesFailedFlush() throws IOException {
+        when(jdbcTemplate.batchUpdate(eq(TokenWriteBehindQueue.INSERT_REFRESH_TOKEN),
+                ArgumentMatchers.<Collection<RefreshToken>>any(), anyInt(), any()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[0][]);
+        queue = start(true);
+        queue.saveRefreshToken(refreshToken("refresh-0"));
+
+        assertThat(queue.flush()).isFalse();
+        queue.saveRefreshToken(refreshToken("refresh-1"));
+        assertThat(queue.backlog()).isEqualTo(2);
+        assertThat(queue.isUnsavedRefreshToken("refresh-0")).isTrue();
+        assertThat(TokenWriteBehindQueue.readJournal(Path.of(journal() + ".flushing"))).hasSize(1);
+
+        assertThat(queue.flush()).isTrue();
+        assertThat(queue.backlog()).isEqualTo(1);
+        assertThat(queue.flush()).isTrue();
+
+        assertThat(saved(TokenWriteBehindQueue.INSERT_REFRESH_TOKEN, 3)).extracting("refreshToken")
+                .containsExactly("refresh-1");
+        assertThat(queue.backlog()).isZero();
+        assertThat(queue.isUnsavedRefreshToken("refresh-0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 저장 요청해도 모든 항목이 저널에 기록된 뒤 반환")
+    void groupCommitsConcurrentAppends() throws Exception {
+        // 배치 크기(100)보다 적게 요청하여 저장 요청 없이 저널에 남은 항목 확인
+        queue = start(true);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 80; i++) {
+                String token = "refresh-" + i;
+                futures.add(executor.submit(() -> queue.saveRefreshToken(refreshToken(token))));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(queue.backlog()).isEqualTo(80);
+        assertThat(TokenWriteBehindQueue.readJournal(journal())).hasSize(80);
+        assertThat(queue.flush()).isTrue();
+        assertThat(saved(TokenWriteBehindQueue.INSERT_REFRESH_TOKEN, 1)).hasSize(80);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 요청마다 리포지토리로 바로 저장")
+    void savesDirectlyWhenDisabled() throws IOException {
+        queue = start(false);
+        RefreshToken refreshToken = refreshToken("refresh-0");
+        TokenBlacklist blacklisted = blacklisted("revoked-0");
+
+        queue.saveRefreshToken(refreshToken);
+        queue.saveBlacklist(blacklisted);
+
+        verify(refreshTokenRepository).save(refreshToken);
+        verify(tokenBlacklistRepository).save(blacklisted);
+        assertThat(queue.backlog()).isZero();
+        assertThat(Files.exists(journal())).isFalse();
+        List.of(TokenWriteBehindQueue.INSERT_REFRESH_TOKEN, TokenWriteBehindQueue.INSERT_BLACKLIST)
+                .forEach(sql -> verify(jdbcTemplate, never()).batchUpdate(eq(sql),
+                        ArgumentMatchers.<Collection<RefreshToken>>any(), anyInt(), any()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.tcpconverter.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+
+    @Test
+    @DisplayName("검증된 토큰은 클레임을 캐시하여 다시 검증하지 않음")
+    void verifyCachesClaims() {
+        String token = jwtUtil.generateAccessToken("client-1");
+
+        Claims claims = jwtUtil.verify(token).orElseThrow();
+
+        assertThat(claims.getSubject()).isEqualTo("client-1");
+        assertThat(jwtUtil.verify(token)).containsSame(claims);
+        assertThat(jwtUtil.getTokenType(token)).isEqualTo("access");
+        assertThat(jwtUtil.validateToken(token)).isTrue();
+        assertThat(jwtUtil.isTokenExpired(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않거나 형식이 잘못된 토큰은 거부")
+    void rejectsInvalidTokens() {
+        String token = jwtUtil.generateRefreshToken("client-1");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtUtil.verify(tampered)).isEmpty();
+        assertThat(jwtUtil.verify("not-a-token")).isEmpty();
+        assertThat(jwtUtil.verify(null)).isEmpty();
+        assertThat(jwtUtil.isTokenExpired(tampered)).isTrue();
+        assertThatThrownBy(() -> jwtUtil.getClientId(tampered)).isInstanceOf(JwtException.class);
+    }
+}
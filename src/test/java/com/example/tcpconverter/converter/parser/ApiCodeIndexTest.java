@@ -0,0 +1,32 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApiCodeIndexTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    @Test
+    @DisplayName("API 코드 영역을 바이트 그대로 비교하여 플랜 조회")
+    void findByBytes() {
+        Map<String, ParsePlan> plans = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            plans.put(String.format("QSD_%03d", i), TcpMessageParserTest.samplePlan());
+        }
+        ApiCodeIndex index = new ApiCodeIndex(plans, MS949);
+
+        byte[] msg = ("xx" + "  QSD_042           " + "yy").getBytes(MS949);
+        assertThat(index.find(msg, 2, 20)).isSameAs(plans.get("QSD_042"));
+        assertThat(index.find("xxQSD_100yy".getBytes(MS949), 2, 7)).isNull();
+        assertThat(index.find("xxQSD_04yy".getBytes(MS949), 2, 6)).isNull();
+        assertThat(index.find(" ".repeat(20).getBytes(MS949), 0, 20)).isNull();
+        assertThat(new ApiCodeIndex(Map.of(), MS949).find(msg, 2, 20)).isNull();
+    }
+}
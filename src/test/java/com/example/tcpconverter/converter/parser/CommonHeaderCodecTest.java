@@ -0,0 +1,51 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.Charset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CommonHeaderCodecTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final CommonHeaderCodec codec = new CommonHeaderCodec(new FieldParserHelper(MS949));
+
+    static String header(String msgLen, String apiSvcCd, String isTuno) {
+        return msgLen
+                + " ISATKKEYEXAMPLE1234" + "ISCD01" + "001" + String.format("%-100s", "APINAMEEXAMPLE")
+                + String.format("%-20s", apiSvcCd) + String.format("%-20s", "FISDSCD1") + String.format("%-20s", "FIS")
+                + "20240601" + "123456" + String.format("%-20s", isTuno)
+                + String.format("%-20s", "RPCD1") + String.format("%-100s", "RSMS1") + String.format("%-100s", "RTNURL1")
+                + String.format("%-10s", "Y") + String.format("%-10s", "IPADDR1") + "001" + String.format("%-81s", "FILLER");
+    }
+
+    @Test
+    @DisplayName("공통부 필드를 고정 위치에서 읽음")
+    void readsHeaderFields() {
+        byte[] msg = (header("000560", "QSD_501", "TUNO0001") + "BODY123").getBytes(MS949);
+
+        assertThat(codec.readMsgLen(msg)).isEqualTo(560);
+        assertThat(codec.readApiSvcCd(msg)).isEqualTo("QSD_501");
+        assertThat(codec.readIsTuno(msg)).isEqualTo("TUNO0001");
+    }
+
+    @Test
+    @DisplayName("전문 길이가 숫자가 아니면 -1, 메시지 범위를 벗어난 필드는 있는 부분만 읽음")
+    void rejectsMalformedHeader() {
+        assertThat(codec.readMsgLen("00A560".getBytes(MS949))).isEqualTo(-1);
+        assertThat(codec.readApiSvcCd("000010".getBytes(MS949))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이어진 전문 버퍼의 지정 위치에서 전문 길이를 읽음")
+    void readsMsgLenAtOffset() {
+        byte[] buf = ("000008AB" + "000010CDEF" + "0000").getBytes(MS949);
+
+        assertThat(codec.readMsgLen(buf, 0)).isEqualTo(8);
+        assertThat(codec.readMsgLen(buf, 8)).isEqualTo(10);
+        assertThat(codec.readMsgLen(buf, 18)).isEqualTo(-1);
+    }
+}
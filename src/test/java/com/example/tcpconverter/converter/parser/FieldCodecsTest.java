@@ -0,0 +1,111 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+
+class FieldCodecsTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final FieldParserHelper fieldParserHelper = new FieldParserHelper(MS949);
+    private final TcpMessageParser parser = new TcpMessageParser(fieldParserHelper);
+    private final TcpMessageEncoder encoder = new TcpMessageEncoder(fieldParserHelper);
+
+    private static ApiFieldSpec spec(int order, String name, int length, String type, Integer scale) {
+        return ApiFieldSpec.builder().apiCode("TST_002").fieldOrder(order).fieldName(name)
+                .fieldLength(length).fieldType(type).fieldScale(scale).isList(false).build();
+    }
+
+    static ParsePlan plan() {
+        return ParsePlanCompiler.compile("TST_002", List.of(
+                spec(1, "MsgLen", 6, "N", null),
+                spec(2, "Amt", 10, "L", null),
+                spec(3, "Rate", 7, "D", 2),
+                spec(4, "Packed", 4, "P", 2),
+                spec(5, "Dt", 8, "Y", null),
+                spec(6, "Tm", 6, "T", null)), Map.of());
+    }
+
+    static byte[] message(String amt, String rate, int[] packed, String dt, String tm) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("000041" + amt + rate).getBytes(MS949));
+        for (int b : packed) {
+            out.write(b);
+        }
+        out.writeBytes((dt + tm).getBytes(MS949));
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("타입별 코덱으로 디코딩하고 같은 형식으로 다시 인코딩")
+    void decodeAndEncode() {
+        byte[] msg = message("-001234567", "-012345", new int[] {0x12, 0x34, 0x56, 0x7D}, "20240229", "235959");
+
+        Map<String, Object> result = parser.parse(plan(), msg);
+
+        assertThat(result).containsEntry("Amt", -1234567L)
+                .containsEntry("Rate", new BigDecimal("-123.45"))
+                .containsEntry("Packed", new BigDecimal("-12345.67"))
+                .containsEntry("Dt", "2024-02-29")
+                .containsEntry("Tm", "23:59:59");
+        assertThat(encoder.encode(plan(), result)).isEqualTo(msg);
+    }
+
+    @Test
+    @DisplayName("후행 부호와 앞뒤 공백을 허용")
+    void trailingSign() {
+        byte[] msg = message("  1234567-", "012345+", new int[] {0x00, 0x00, 0x00, 0x1C}, "20240601", "000000");
+
+        Map<String, Object> result = parser.parse(plan(), msg);
+
+        assertThat(result).containsEntry("Amt", -1234567L)
+                .containsEntry("Rate", new BigDecimal("123.45"))
+                .containsEntry("Packed", new BigDecimal("0.01"))
+                .containsEntry("Tm", "00:00:00");
+    }
+
+    @Test
+    @DisplayName("비어 있거나 형식이 맞지 않는 값은 예외 없이 null")
+    void malformedValuesDecodeToNull() {
+        byte[] msg = message("          ", "12a4567", new int[] {0x12, 0x34, 0x56, 0x78}, "20230229", "246000");
+
+        Map<String, Object> result = parser.parse(plan(), msg);
+
+        assertThat(result).containsEntry("Amt", null).containsEntry("Rate", null)
+                .containsEntry("Packed", null).containsEntry("Dt", null).containsEntry("Tm", null);
+        assertThat(parser.parse(plan(), message("-         ", "       ", new int[] {0, 0, 0, 0x0C}, "00000000", "      ")))
+                .containsEntry("Amt", null).containsEntry("Rate", null)
+                .containsEntry("Packed", new BigDecimal("0.00")).containsEntry("Dt", null).containsEntry("Tm", null);
+    }
+
+    @Test
+    @DisplayName("소수 자릿수나 필드 길이를 넘는 값은 인코딩 거부")
+    void rejectsValuesThatDoNotFit() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("Rate", "1.234");
+        assertThatThrownBy(() -> encoder.encode(plan(), values))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Rate");
+
+        values.put("Rate", null);
+        values.put("Packed", 123456.78);
+        assertThatThrownBy(() -> encoder.encode(plan(), values))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Packed");
+
+        values.put("Packed", null);
+        values.put("Dt", "2024-13-01");
+        assertThatThrownBy(() -> encoder.encode(plan(), values))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Dt");
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.Charset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FieldParserHelperTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    @Test
+    @DisplayName("ASCII, 멀티바이트, 잘못된 바이트, 긴 필드 모두 String 생성자와 같게 디코딩")
+    void decodeMatchesStringConstructor() {
+        FieldParserHelper helper = new FieldParserHelper(MS949);
+        byte[] invalid = {'A', (byte) 0xFF, (byte) 0x81, 'B'};
+        byte[] longField = ("  " + "홍길동".repeat(40) + "  ").getBytes(MS949);
+
+        for (byte[] field : new byte[][] {" AB12 ".getBytes(MS949), " 홍길동 ".getBytes(MS949), invalid, longField}) {
+            assertThat(helper.decode(field, 0, field.length)).isEqualTo(new String(field, MS949).trim());
+        }
+        assertThat(helper.decode(longField, 0, longField.length)).isEqualTo(helper.decode(longField, 0,
+                longField.length));
+    }
+
+    @Test
+    @DisplayName("ASCII와 호환되지 않는 문자셋은 바이트를 그대로 문자열로 만들지 않음")
+    void decodesNonAsciiCompatibleCharset() {
+        // EBCDIC에서 '('는 0x4D (ASCII 'M')
+        Charset ebcdic = Charset.forName("IBM037");
+        byte[] field = "((".getBytes(ebcdic);
+
+        assertThat(new FieldParserHelper(ebcdic).decode(field, 0, field.length)).isEqualTo("((");
+    }
+}
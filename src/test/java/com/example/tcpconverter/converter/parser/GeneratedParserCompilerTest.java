@@ -0,0 +1,164 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class GeneratedParserCompilerTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final FieldParserHelper fieldParserHelper = new FieldParserHelper(MS949);
+    private final TcpMessageParser parser = new TcpMessageParser(fieldParserHelper);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GeneratedParser compile(ParsePlan plan, int parallelThreshold) {
+        return GeneratedParserCompiler.compile(parser, fieldParserHelper, plan, parallelThreshold);
+    }
+
+    /** 전용 파서와 해석 방식의 결과 맵(키 순서 포함), JSON 스트리밍 출력, 배열 크기 통지가 같은지 확인 */
+    private void assertSameAsInterpreted(GeneratedParser generated, ParsePlan plan, byte[] message) throws Exception {
+        List<Integer> expectedSizes = new ArrayList<>();
+        List<Integer> actualSizes = new ArrayList<>();
+        Map<String, Object> expected = parser.parse(plan, message, expectedSizes::add);
+
+        MapResultSink sink = new MapResultSink();
+        generated.parse(plan, message, new int[plan.getCountSlotCount()],
+                new ArraySizeNotifyingSink(sink, actualSizes::add));
+        Map<String, Object> actual = sink.getResult();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(objectMapper.writeValueAsString(actual)).isEqualTo(objectMapper.writeValueAsString(expected));
+        assertThat(actualSizes).isEqualTo(expectedSizes);
+
+        StringWriter expectedJson = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(expectedJson)) {
+            parser.write(plan, message, generator);
+        }
+        StringWriter actualJson = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(actualJson)) {
+            generated.parse(plan, message, new int[plan.getCountSlotCount()], new JsonGeneratorResultSink(generator));
+        }
+        assertThat(actualJson.toString()).isEqualTo(expectedJson.toString());
+    }
+
+    @Test
+    @DisplayName("중첩 오브젝트, 카운트 필드 참조 배열, 정적 오프셋 필드를 해석 방식과 같게 파싱")
+    void matchesInterpretedParse() throws Exception {
+        ParsePlan plan = TcpMessageParserTest.samplePlan();
+
+        assertSameAsInterpreted(compile(plan, 0), plan, TcpMessageParserTest.sampleMessage());
+    }
+
+    @Test
+    @DisplayName("배열 위치에서 읽는 카운트 필드와 가변 길이 요소도 해석 방식과 같게 파싱")
+    void matchesInterpretedParseWithInlineCounts() throws Exception {
+        ParsePlan plan = LazyMessageViewTest.inlineCountPlan();
+
+        assertSameAsInterpreted(compile(plan, 0), plan, LazyMessageViewTest.inlineCountMessage());
+    }
+
+    @Test
+    @DisplayName("코덱 타입 필드도 해석 방식과 같은 값으로 디코딩")
+    void matchesInterpretedCodecs() throws Exception {
+        ParsePlan plan = FieldCodecsTest.plan();
+        byte[] message = FieldCodecsTest.message("-001234567", "-012345", new int[] {0x12, 0x34, 0x56, 0x7D},
+                "20240229", "235959");
+        byte[] blank = FieldCodecsTest.message("          ", "       ", new int[] {0x00, 0x00, 0x00, 0x0C},
+                "        ", "      ");
+
+        GeneratedParser generated = compile(plan, 0);
+
+        assertSameAsInterpreted(generated, plan, message);
+        assertSameAsInterpreted(generated, plan, blank);
+    }
+
+    @Test
+    @DisplayName("기준 이상 크기의 고정 길이 요소 배열은 병렬 디코딩을 사용하고 결과는 동일")
+    void delegatesLargeArraysToParallelDecoding() throws Exception {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 99; i++) {
+            items.append(String.format("%02d%05d", i, i * 10));
+        }
+        byte[] message = ("000000" + "AB   " + "99" + items + "KIM " + "1" + "x").getBytes(MS949);
+        ParsePlan plan = TcpMessageParserTest.samplePlan();
+
+        assertSameAsInterpreted(compile(plan, 10), plan, message);
+    }
+
+    @Test
+    @DisplayName("파싱 횟수가 기준에 도달한 플랜만 전용 파서를 생성")
+    void compilesHotPlansOnly() {
+        GeneratedParsers generatedParsers = new GeneratedParsers(parser, fieldParserHelper, 3, 0);
+        ParsePlan plan = TcpMessageParserTest.samplePlan();
+
+        assertThat(generatedParsers.find(plan)).isNull();
+        assertThat(generatedParsers.find(plan)).isNull();
+        GeneratedParser generated = generatedParsers.find(plan);
+
+        assertThat(generated).isNotNull();
+        assertThat(generatedParsers.find(plan)).isSameAs(generated);
+        assertThat(generatedParsers.find(TcpMessageParserTest.samplePlan())).isNull();
+        assertThat(new GeneratedParsers(parser, fieldParserHelper, 0, 0).find(plan)).isNull();
+    }
+
+    @Test
+    @DisplayName("기준에 도달한 플랜은 JSON 스트리밍 출력에도 전용 파서를 사용")
+    void writeUsesGeneratedParser() throws Exception {
+        TcpMessageParser hotParser = new TcpMessageParser(fieldParserHelper, 0, 1, 1);
+        ParsePlan plan = TcpMessageParserTest.samplePlan();
+        byte[] message = TcpMessageParserTest.sampleMessage();
+
+        // 루트 오브젝트 출력을 호출한 클래스 기록 (히든 클래스 프레임 포함)
+        List<String> callers = new ArrayList<>();
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = new JsonGeneratorDelegate(objectMapper.getFactory().createGenerator(json)) {
+            @Override
+            public void writeStartObject() throws IOException {
+                StackWalker.getInstance(StackWalker.Option.SHOW_HIDDEN_FRAMES).walk(frames -> frames
+                        .map(StackWalker.StackFrame::getClassName)
+                        .filter(name -> name.contains("GeneratedParser$"))
+                        .findFirst())
+                        .ifPresent(callers::add);
+                super.writeStartObject();
+            }
+        }) {
+            hotParser.write(plan, message, generator);
+        }
+
+        assertThat(json.toString()).isEqualTo(objectMapper.writeValueAsString(parser.parse(plan, message)));
+        assertThat(callers).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("전용 파서를 만들 수 없는 플랜은 해석 방식으로 파싱")
+    void fallsBackWhenMethodTooLarge() {
+        List<ApiFieldSpec> specs = new ArrayList<>();
+        StringBuilder message = new StringBuilder();
+        for (int i = 1; i <= 8000; i++) {
+            specs.add(ApiFieldSpec.builder().apiCode("TST_003").fieldOrder(i).fieldName("F" + i)
+                    .fieldLength(1).fieldType("C").isList(false).build());
+            message.append((char) ('0' + i % 10));
+        }
+        ParsePlan plan = ParsePlanCompiler.compile("TST_003", specs, Map.of());
+        TcpMessageParser hotParser = new TcpMessageParser(fieldParserHelper, 0, 1, 1);
+
+        Map<String, Object> result = hotParser.parse(plan, message.toString().getBytes(MS949));
+
+        assertThat(result).hasSize(8000).containsEntry("F8000", "0");
+        assertThat(new GeneratedParsers(parser, fieldParserHelper, 1, 0).find(plan)).isNull();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.child;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.spec;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.entity.ApiFieldObject;
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class LazyMessageViewTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final TcpMessageParser parser = new TcpMessageParser(new FieldParserHelper(MS949));
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** 배열 위치에서 카운트를 읽는 최상위/하위 배열과 가변 길이 요소로 구성된 플랜 */
+    static ParsePlan inlineCountPlan() {
+        List<ApiFieldSpec> specs = List.of(
+                spec("TST_002", 1, "MsgLen", 6, "N"),
+                spec("TST_002", 2, "List", null, "A"),
+                spec("TST_002", 3, "ListCNT", 2, "N"),
+                spec("TST_002", 4, "Tail", 2, "C"));
+        Map<String, List<ApiFieldObject>> objects = Map.of(
+                "List", List.of(child("TST_002", "List", 1, "Val", 3, "C"), child("TST_002", "List", 2, "Sub", 0, "A")),
+                "Sub", List.of(child("TST_002", "Sub", 1, "SubCNT", 1, "N"), child("TST_002", "Sub", 2, "Y", 1, "C")));
+        return ParsePlanCompiler.compile("TST_002", specs, objects);
+    }
+
+    static byte[] inlineCountMessage() {
+        return ("000025" + "02" + "abc" + "2" + "2x" + "2y" + "def" + "0" + "02" + "ZZ").getBytes(MS949);
+    }
+
+    @Test
+    @DisplayName("뷰는 파싱 결과 맵과 같은 키 순서와 값을 가짐")
+    void viewEqualsParsedMap() throws Exception {
+        ParsePlan plan = TcpMessageParserTest.samplePlan();
+        byte[] message = TcpMessageParserTest.sampleMessage();
+        Map<String, Object> parsed = parser.parse(plan, message);
+
+        Map<String, Object> view = parser.view(plan, message);
+
+        assertThat(view).isEqualTo(parsed);
+        assertThat(view.keySet()).containsExactlyElementsOf(parsed.keySet());
+        assertThat(objectMapper.writeValueAsString(view)).isEqualTo(objectMapper.writeValueAsString(parsed));
+    }
+
+    @Test
+    @DisplayName("앞선 필드를 조회하지 않아도 가변 길이 필드 뒤의 필드를 바로 조회")
+    void readsLaterFieldFirst() {
+        Map<String, Object> view = parser.view(TcpMessageParserTest.samplePlan(),
+                TcpMessageParserTest.sampleMessage());
+
+        Map<?, ?> customer = (Map<?, ?>) view.get("Customer");
+        assertThat(customer.get("Nm")).isEqualTo("KIM");
+        assertThat(((List<?>) customer.get("Sub")).get(1)).isEqualTo(Map.of("X", "y"));
+        assertThat(((Map<?, ?>) ((List<?>) view.get("Items")).get(1)).get("Amt")).isEqualTo(20);
+        assertThat(view.get("Unknown")).isNull();
+        assertThat(view.containsKey("Unknown")).isFalse();
+    }
+
+    @Test
+    @DisplayName("배열 위치에서 읽는 카운트 필드와 가변 길이 요소도 파싱 결과와 동일")
+    void inlineCountsMatchParsedMap() throws Exception {
+        ParsePlan plan = inlineCountPlan();
+        byte[] message = inlineCountMessage();
+        Map<String, Object> parsed = parser.parse(plan, message);
+
+        Map<String, Object> view = parser.view(plan, message);
+        Object second = ((List<?>) view.get("List")).get(1);
+
+        assertThat(second).isEqualTo(Map.of("Val", "def", "SubCNT", 0, "Sub", List.of()));
+        assertThat(view.get("Tail")).isEqualTo("ZZ");
+        assertThat(view).isEqualTo(parsed);
+        assertThat(objectMapper.writeValueAsString(view)).isEqualTo(objectMapper.writeValueAsString(parsed));
+    }
+
+    @Test
+    @DisplayName("뷰는 읽기 전용")
+    void viewIsReadOnly() {
+        Map<String, Object> view = parser.view(TcpMessageParserTest.samplePlan(),
+                TcpMessageParserTest.sampleMessage());
+
+        assertThatThrownBy(() -> view.put("Name", "X")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.remove("Name")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> ((List<?>) view.get("Items")).remove(0))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> ((List<?>) view.get("Items")).get(2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
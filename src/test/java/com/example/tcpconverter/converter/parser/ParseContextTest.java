@@ -0,0 +1,105 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.child;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.spec;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParseContextTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private static final byte[] MESSAGE = ("000027" + "AB12" + "03" + "01010" + "02020" + "03030").getBytes(MS949);
+
+    private static ParsePlan plan() {
+        return ParsePlanCompiler.compile("TST_004", List.of(
+                spec("TST_004", 1, "MsgLen", 6, "N"),
+                spec("TST_004", 2, "Code", 4, "C"),
+                spec("TST_004", 3, "RowsCNT", 2, "N"),
+                spec("TST_004", 4, "Rows", null, "A")),
+                Map.of("Rows", List.of(child("TST_004", "Rows", 1, "No", 2, "N"),
+                        child("TST_004", "Rows", 2, "Qty", 3, "N"))));
+    }
+
+    /** 파싱 결과와 같은 구조/용량의 결과를 직접 만든 것 (결과 자체의 할당량 기준) */
+    private static Map<String, Object> expectedOutput() {
+        Map<String, Object> root = new LinkedHashMap<>(6);
+        root.put("MsgLen", 27);
+        root.put("Code", new String(MESSAGE, 6, 4, StandardCharsets.ISO_8859_1));
+        root.put("RowsCNT", 3);
+        List<Object> rows = new ArrayList<>(3);
+        root.put("Rows", rows);
+        for (int i = 1; i <= 3; i++) {
+            Map<String, Object> row = new LinkedHashMap<>(3);
+            rows.add(row);
+            row.put("No", i);
+            row.put("Qty", i * 10);
+        }
+        return root;
+    }
+
+    /** 예열 후 호출 한 번당 현재 스레드의 평균 할당 바이트 */
+    private static long allocatedPerCall(Supplier<Object> call) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Object[] retained = new Object[64];
+        for (int i = 0; i < 50_000; i++) {
+            retained[i & 63] = call.get();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            retained[i & 63] = call.get();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+        assertThat(retained[0]).isNotNull();
+        return (after - before) / 10_000;
+    }
+
+    @Test
+    @DisplayName("정상 상태의 파싱은 결과 맵/리스트와 값 외에는 할당하지 않음")
+    void steadyStateAllocatesOnlyOutput() {
+        ParsePlan plan = plan();
+        TcpMessageParser interpreted = new TcpMessageParser(new FieldParserHelper(MS949));
+        TcpMessageParser generated = new TcpMessageParser(new FieldParserHelper(MS949), 0, 1, 1);
+        int[] elementTotal = new int[1];
+        IntConsumer arraySizes = size -> elementTotal[0] += size;
+        assertThat(interpreted.parse(plan, MESSAGE)).isEqualTo(expectedOutput());
+        assertThat(generated.parse(plan, MESSAGE)).isEqualTo(expectedOutput());
+
+        long budget = allocatedPerCall(ParseContextTest::expectedOutput);
+
+        assertThat(allocatedPerCall(() -> interpreted.parse(plan, MESSAGE))).isLessThanOrEqualTo(budget);
+        assertThat(allocatedPerCall(() -> interpreted.parse(plan, MESSAGE, arraySizes)))
+                .isLessThanOrEqualTo(budget);
+        assertThat(allocatedPerCall(() -> generated.parse(plan, MESSAGE, arraySizes))).isLessThanOrEqualTo(budget);
+        assertThat(allocatedPerCall(() -> interpreted.measure(plan, MESSAGE))).isZero();
+    }
+
+    @Test
+    @DisplayName("파싱 도중 같은 스레드에서 다시 파싱해도 작업 공간이 섞이지 않음")
+    void nestedParseUsesSeparateContext() {
+        TcpMessageParser parser = new TcpMessageParser(new FieldParserHelper(MS949));
+        ParsePlan plan = plan();
+        List<Map<String, Object>> nested = new ArrayList<>();
+
+        Map<String, Object> result = parser.parse(plan, MESSAGE,
+                size -> nested.add(parser.parse(plan, MESSAGE)));
+
+        assertThat(result).isEqualTo(expectedOutput());
+        assertThat(nested).containsExactly(expectedOutput());
+        assertThat(parser.parse(plan, MESSAGE)).isEqualTo(expectedOutput());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.tcpconverter.converter.parser;
+
+import com.example.tcpconverter.converter.entity.ApiFieldObject;
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+
+/**
+ * 테스트용 필드 스펙 생성
+ * 배열(A) 타입 필드만 isList로 표시
+ */
+public final class SpecFixtures {
+
+    private SpecFixtures() {
+    }
+
+    public static ApiFieldSpec spec(String apiCode, int order, String name, Integer length, String type) {
+        return ApiFieldSpec.builder().apiCode(apiCode).fieldOrder(order).fieldName(name)
+                .fieldLength(length).fieldType(type).isList("A".equals(type)).build();
+    }
+
+    public static ApiFieldObject child(String apiCode, String parent, int order, String name, int length,
+                                       String type) {
+        return ApiFieldObject.builder().apiCode(apiCode).parentFieldName(parent).fieldOrder(order)
+                .fieldName(name).fieldLength(length).fieldType(type).isList("A".equals(type)).build();
+    }
+}
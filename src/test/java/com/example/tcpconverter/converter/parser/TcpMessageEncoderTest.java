@@ -0,0 +1,76 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.spec;
+
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TcpMessageEncoderTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final FieldParserHelper fieldParserHelper = new FieldParserHelper(MS949);
+    private final TcpMessageEncoder encoder = new TcpMessageEncoder(fieldParserHelper);
+    private final TcpMessageParser parser = new TcpMessageParser(fieldParserHelper);
+
+    @Test
+    @DisplayName("파싱 결과를 다시 인코딩하면 원본 전문과 동일")
+    void roundTrip() {
+        byte[] message = ("000034" + "AB   " + "02" + "01" + "00100" + "02" + "00020" + "KIM " + "2" + "x" + "y")
+                .getBytes(MS949);
+        ParsePlan plan = TcpMessageParserTest.samplePlan();
+
+        assertThat(encoder.encode(plan, parser.parse(plan, message))).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("MsgLen과 카운트 필드는 입력 값 대신 실제 길이와 배열 크기로 기록")
+    void computesLengthAndCounts() {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("MsgLen", 1);
+        message.put("Name", "홍길");
+        message.put("ItemsCNT", 9);
+        message.put("Items", List.of(Map.of("No", 1, "Amt", "-12")));
+        message.put("Customer", Map.of("Nm", "LEE", "Sub", List.of()));
+
+        byte[] encoded = encoder.encode(TcpMessageParserTest.samplePlan(), message);
+
+        assertThat(new String(encoded, MS949))
+                .isEqualTo("000025" + "홍길 " + "01" + "01" + "-0012" + "LEE " + "0");
+    }
+
+    @Test
+    @DisplayName("필드 길이를 넘거나 인코딩할 수 없는 값은 거부")
+    void rejectsInvalidValues() {
+        ParsePlan plan = TcpMessageParserTest.samplePlan();
+
+        assertThatThrownBy(() -> encoder.encode(plan, Map.of("Name", "ABCDEF")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Name");
+        assertThatThrownBy(() -> encoder.encode(plan, Map.of("Items", List.of(Map.of("Amt", 123456)))))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Amt");
+        assertThatThrownBy(() -> encoder.encode(plan, Map.of("Name", "😀")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Name");
+        assertThatThrownBy(() -> encoder.encode(plan, Map.of("Items", "x")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Items");
+    }
+
+    @Test
+    @DisplayName("N 필드는 파서가 읽을 수 있는 int 범위 밖의 값을 거부")
+    void rejectsNumbersOutsideIntRange() {
+        ParsePlan plan = ParsePlanCompiler.compile("TST_001", List.of(spec("TST_001", 1, "Amt", 12, "N")), Map.of());
+
+        assertThat(parser.parse(plan, encoder.encode(plan, Map.of("Amt", Integer.MAX_VALUE))))
+                .containsEntry("Amt", Integer.MAX_VALUE);
+        assertThatThrownBy(() -> encoder.encode(plan, Map.of("Amt", Integer.MAX_VALUE + 1L)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Amt").hasMessageContaining("L 타입");
+        assertThatThrownBy(() -> encoder.encode(plan, Map.of("Amt", "-3000000000")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Amt");
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.tcpconverter.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.child;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.spec;
+
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.entity.ApiFieldObject;
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TcpMessageParserTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final TcpMessageParser parser = new TcpMessageParser(new FieldParserHelper(MS949));
+
+    static ParsePlan samplePlan() {
+        // 필드 순서와 다르게 나열하여 정렬이 컴파일 시점에 처리되는지 함께 확인
+        List<ApiFieldSpec> specs = List.of(
+                spec("TST_001", 4, "Items", null, "A"),
+                spec("TST_001", 1, "MsgLen", 6, "N"),
+                spec("TST_001", 2, "Name", 5, "C"),
+                spec("TST_001", 3, "ItemsCNT", 2, "N"),
+                spec("TST_001", 5, "Customer", null, "O"));
+        Map<String, List<ApiFieldObject>> objects = Map.of(
+                "Items", List.of(child("TST_001", "Items", 2, "Amt", 5, "N"),
+                        child("TST_001", "Items", 1, "No", 2, "N")),
+                "Customer", List.of(child("TST_001", "Customer", 1, "Nm", 4, "C"),
+                        child("TST_001", "Customer", 2, "SubCNT", 1, "C"),
+                        child("TST_001", "Customer", 3, "Sub", 0, "A")),
+                "Sub", List.of(child("TST_001", "Sub", 1, "X", 1, "C")));
+        return ParsePlanCompiler.compile("TST_001", specs, objects);
+    }
+
+    static byte[] sampleMessage() {
+        return ("000034" + "AB   " + "02" + "01" + "00100" + "02" + "  20 " + "KIM " + "2" + "x" + "y").getBytes(MS949);
+    }
+
+    @Test
+    @DisplayName("컴파일 시 고정 길이와 정적 오프셋을 계산")
+    void compileResolvesSizesAndOffsets() {
+        ParsePlan plan = samplePlan();
+        int first = plan.getFirstChild(ParsePlan.ROOT);
+
+        assertThat(plan.getName(first)).isEqualTo("MsgLen");
+        assertThat(plan.getStaticOffset(first + 2)).isEqualTo(11);
+        assertThat(plan.getFixedSize(first + 3)).isEqualTo(ParsePlan.NONE);
+        assertThat(plan.getStaticOffset(first + 4)).isEqualTo(ParsePlan.NONE);
+        assertThat(plan.getFixedSize(plan.getFirstChild(first + 3))).isEqualTo(2);
+        assertThat(plan.getCountNode(first + 3)).isEqualTo(first + 2);
+        assertThat(plan.isInlineCount(first + 3)).isFalse();
+        assertThat(plan.getElementSize(first + 3)).isEqualTo(7);
+        assertThat(plan.getMinSize(first + 4)).isEqualTo(5);
+        assertThat(plan.getMinSize(ParsePlan.ROOT)).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("카운트 필드만 읽어 스펙 기준 전문 길이를 계산")
+    void measureUsesCountFields() {
+        ParsePlan plan = samplePlan();
+
+        assertThat(parser.measure(plan, sampleMessage())).isEqualTo(34);
+        // ItemsCNT 99 -> 배열 요소를 순회하지 않고 99 * 7 바이트로 계산 (메시지 끝을 넘은 SubCNT는 0)
+        byte[] overCounted = ("000034" + "AB   " + "99" + "01" + "00100" + "02" + "  20 " + "KIM " + "2" + "x" + "y")
+                .getBytes(MS949);
+        assertThat(parser.measure(plan, overCounted)).isEqualTo(13 + 99 * 7 + 5);
+    }
+
+    @Test
+    @DisplayName("중첩 오브젝트와 배열을 카운트 필드 기준으로 파싱")
+    void parseNestedStructure() {
+        Map<String, Object> result = parser.parse(samplePlan(), sampleMessage());
+
+        assertThat(result).containsEntry("MsgLen", 34).containsEntry("Name", "AB").containsEntry("ItemsCNT", 2);
+        assertThat(result.keySet()).containsExactly("MsgLen", "Name", "ItemsCNT", "Items", "Customer");
+        assertThat(result.get("Items")).isEqualTo(List.of(
+                Map.of("No", 1, "Amt", 100),
+                Map.of("No", 2, "Amt", 20)));
+        assertThat(result.get("Customer")).isEqualTo(Map.of(
+                "Nm", "KIM", "SubCNT", "2",
+                "Sub", List.of(Map.of("X", "x"), Map.of("X", "y"))));
+    }
+
+    @Test
+    @DisplayName("스트리밍 출력은 결과 맵을 직렬화한 JSON과 동일")
+    void writeMatchesMapSerialization() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            parser.write(samplePlan(), sampleMessage(), generator);
+        }
+
+        assertThat(json.toString())
+                .isEqualTo(objectMapper.writeValueAsString(parser.parse(samplePlan(), sampleMessage())));
+    }
+
+    @Test
+    @DisplayName("프로젝션을 지정하면 선택한 필드만 파싱")
+    void parseProjectedFields() {
+        ParsePlan plan = samplePlan();
+        Projection projection = Projection.of(plan, List.of("Items[].Amt", "Customer.Sub[].X"));
+
+        Map<String, Object> result = parser.parse(plan, sampleMessage(), projection);
+
+        assertThat(result.keySet()).containsExactly("Items", "Customer");
+        assertThat(result.get("Items")).isEqualTo(List.of(Map.of("Amt", 100), Map.of("Amt", 20)));
+        assertThat(result.get("Customer")).isEqualTo(Map.of("Sub", List.of(Map.of("X", "x"), Map.of("X", "y"))));
+    }
+
+    @Test
+    @DisplayName("선택되지 않은 배열은 카운트만 읽고 오프셋으로 건너뜀")
+    void skipUnselectedArrays() {
+        ParsePlan plan = samplePlan();
+
+        assertThat(parser.parse(plan, sampleMessage(), Projection.of(plan, List.of("Customer.Nm"))))
+                .isEqualTo(Map.of("Customer", Map.of("Nm", "KIM")));
+        assertThat(parser.parse(plan, sampleMessage(), Projection.of(plan, List.of("Name", "Customer"))))
+                .isEqualTo(Map.of("Name", "AB", "Customer", Map.of("Nm", "KIM", "SubCNT", "2",
+                        "Sub", List.of(Map.of("X", "x"), Map.of("X", "y")))));
+    }
+
+    @Test
+    @DisplayName("프로젝션 스트리밍 출력은 프로젝션 결과 맵을 직렬화한 JSON과 동일")
+    void writeProjectedMatchesMapSerialization() throws Exception {
+        ParsePlan plan = samplePlan();
+        Projection projection = Projection.of(plan, List.of("ItemsCNT", "Items.No", "Customer.Sub"));
+        ObjectMapper objectMapper = new ObjectMapper();
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            parser.write(plan, sampleMessage(), generator, projection, null);
+        }
+
+        assertThat(json.toString())
+                .isEqualTo(objectMapper.writeValueAsString(parser.parse(plan, sampleMessage(), projection)))
+                .isEqualTo("{\"ItemsCNT\":2,\"Items\":[{\"No\":1},{\"No\":2}],\"Customer\":{\"Sub\":[{\"X\":\"x\"},{\"X\":\"y\"}]}}");
+    }
+
+    @Test
+    @DisplayName("스펙에 없는 필드 경로는 프로젝션 생성 실패")
+    void projectionRejectsUnknownPath() {
+        assertThatThrownBy(() -> Projection.of(samplePlan(), List.of("Customer.Unknown")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Customer.Unknown");
+        assertThatThrownBy(() -> Projection.of(samplePlan(), List.of("Name.X")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("큰 고정 길이 요소 배열은 병렬로 디코딩해도 순차 파싱과 결과가 같음")
+    void parallelDecodingKeepsOrder() {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 99; i++) {
+            items.append(String.format("%02d%05d", i, i * 10));
+        }
+        byte[] message = ("000000" + "AB   " + "99" + items + "KIM " + "1" + "x").getBytes(MS949);
+        ParsePlan plan = samplePlan();
+        TcpMessageParser parallelParser = new TcpMessageParser(new FieldParserHelper(MS949), 10, 8, 0);
+        List<Integer> arraySizes = new ArrayList<>();
+
+        Map<String, Object> result = parallelParser.parse(plan, message, arraySizes::add);
+
+        assertThat(result).isEqualTo(parser.parse(plan, message));
+        assertThat(((List<?>) result.get("Items")).get(98)).isEqualTo(Map.of("No", 98, "Amt", 980));
+        assertThat(arraySizes).containsExactly(99, 1);
+        Projection projection = Projection.of(plan, List.of("Items[].Amt", "Customer.Nm"));
+        assertThat(parallelParser.parse(plan, message, projection))
+                .isEqualTo(parser.parse(plan, message, projection));
+    }
+
+    @Test
+    @DisplayName("큰 고정 길이 요소 배열은 스트리밍 출력에서도 구간별로 병렬 출력하여 순서대로 이어 붙임")
+    void parallelWriteKeepsOrder() throws Exception {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 99; i++) {
+            items.append(String.format("%02d%05d", i, i * 10));
+        }
+        byte[] message = ("000000" + "AB   " + "99" + items + "KIM " + "1" + "x").getBytes(MS949);
+        ParsePlan plan = samplePlan();
+        TcpMessageParser parallelParser = new TcpMessageParser(new FieldParserHelper(MS949), 10, 8, 0);
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Integer> arraySizes = new ArrayList<>();
+
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            parallelParser.write(plan, message, generator, arraySizes::add);
+        }
+        StringWriter withoutCodec = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(withoutCodec)) {
+            parallelParser.write(plan, message, generator);
+        }
+
+        String expected = objectMapper.writeValueAsString(parser.parse(plan, message));
+        assertThat(json.toString()).isEqualTo(expected);
+        assertThat(withoutCodec.toString()).isEqualTo(expected);
+        assertThat(arraySizes).containsExactly(99, 1);
+    }
+
+    @Test
+    @DisplayName("카운트 필드 값이 메시지보다 큰 배열은 병렬 디코딩하지 않고 순차 파싱과 결과가 같음")
+    void parallelDecodingSkipsTruncatedArray() {
+        byte[] message = ("000000" + "AB   " + "99" + "0100010" + "0200020").getBytes(MS949);
+        ParsePlan plan = samplePlan();
+        TcpMessageParser parallelParser = new TcpMessageParser(new FieldParserHelper(MS949), 10, 8, 0);
+
+        assertThat(TcpMessageParser.fitsInMessage(message, 13, 99, 7)).isFalse();
+        assertThat(TcpMessageParser.fitsInMessage(message, 13, 2, 7)).isTrue();
+        assertThat(TcpMessageParser.arrayEnd(Integer.MAX_VALUE - 10, 99_999, 100_000)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(parallelParser.parse(plan, message)).isEqualTo(parser.parse(plan, message));
+    }
+
+    @Test
+    @DisplayName("멀티바이트 문자가 포함된 필드를 바이트 길이 기준으로 파싱")
+    void parseMultiByteFields() {
+        // "홍길" 은 MS949 기준 4바이트이므로 Name(5)은 "홍길 " 으로 채워짐
+        byte[] message = ("000034" + "홍길 " + "00" + "김철" + "0").getBytes(MS949);
+        Map<String, Object> result = parser.parse(samplePlan(), message);
+
+        assertThat(result).containsEntry("Name", "홍길").containsEntry("ItemsCNT", 0);
+        assertThat(result.get("Customer")).isEqualTo(Map.of("Nm", "김철", "SubCNT", "0", "Sub", List.of()));
+    }
+
+    @Test
+    @DisplayName("자기 자신을 하위 필드로 참조하는 스펙은 컴파일 실패")
+    void compileRejectsCycle() {
+        List<ApiFieldSpec> specs = List.of(spec("TST_001", 1, "Node", null, "O"));
+        Map<String, List<ApiFieldObject>> objects =
+                Map.of("Node", List.of(child("TST_001", "Node", 1, "Node", 0, "O")));
+
+        assertThatThrownBy(() -> ParsePlanCompiler.compile("TST_001", specs, objects))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.tcpconverter.converter.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+import com.example.tcpconverter.converter.service.ConvertMetrics;
+import com.example.tcpconverter.converter.service.TcpMessageParseService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TcpConvertServerTest {
+
+    /** 응답 5건이면 연결별 응답 대기량 한도(4MB)를 넘는 본문 길이 */
+    private static final int BIG_BODY_LENGTH = 900_000;
+
+    private TcpConvertServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 전문 본문(길이 헤더 이후)을 그대로 돌려주고, "BAD" 전문은 변환 실패로 처리하는 서비스
+        TcpMessageParseService service = mock(TcpMessageParseService.class);
+        doAnswer(invocation -> {
+            byte[] message = invocation.getArgument(0);
+            String body = new String(message, 6, message.length - 6, StandardCharsets.US_ASCII);
+            if (body.equals("BAD")) {
+                throw new IllegalArgumentException("bad message");
+            }
+            if (body.equals("BIG")) {
+                return ("{\"body\":\"" + "X".repeat(BIG_BODY_LENGTH) + "\"}").getBytes(StandardCharsets.UTF_8);
+            }
+            return ("{\"body\":\"" + body + "\"}").getBytes(StandardCharsets.UTF_8);
+        }).when(service).toJson(any(byte[].class), any(JsonFactory.class));
+
+        server = new TcpConvertServer(service, new CommonHeaderCodec(new FieldParserHelper(Charset.forName("MS949"))),
+                new ObjectMapper(), new ConvertMetrics(new SimpleMeterRegistry()), true, 0, 2, 10, TcpConvertServer.ResponseFormat.LENGTH_PREFIXED);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private static String readResponse(DataInputStream in) throws IOException {
+        byte[] header = new byte[6];
+        in.readFully(header);
+        byte[] body = new byte[Integer.parseInt(new String(header, StandardCharsets.US_ASCII)) - 6];
+        in.readFully(body);
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("한 연결에서 연속으로 보낸 전문을 순서대로 응답")
+    void pipelinedRequests() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            // 두 번째 전문은 나누어 전송하여 부분 수신도 함께 확인
+            out.write("000009ONE000009BAD000011TH".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            Thread.sleep(50);
+            out.write("REE".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertThat(readResponse(in)).isEqualTo("{\"body\":\"ONE\"}");
+            assertThat(readResponse(in)).isEqualTo("{\"error\":\"bad message\"}");
+            assertThat(readResponse(in)).isEqualTo("{\"body\":\"THREE\"}");
+        }
+    }
+
+    @Test
+    @DisplayName("응답 대기량 한도로 멈춘 뒤에도 추가 수신 없이 읽기 버퍼에 남은 전문을 처리")
+    void resumesBufferedFramesAfterWriteLimit() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            out.write(("000009BIG".repeat(6) + "000009ONE").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            for (int i = 0; i < 6; i++) {
+                assertThat(readResponse(in)).hasSize(BIG_BODY_LENGTH + 11);
+            }
+            assertThat(readResponse(in)).isEqualTo("{\"body\":\"ONE\"}");
+        }
+    }
+
+    @Test
+    @DisplayName("길이 헤더가 숫자가 아니면 오류 응답 후 연결 종료")
+    void invalidLengthHeaderClosesConnection() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.getOutputStream().write("ABCDEF".getBytes(StandardCharsets.US_ASCII));
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertThat(readResponse(in)).contains("error");
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.tcpconverter.converter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.repository.ApiFieldObjectRepository;
+import com.example.tcpconverter.converter.repository.ApiFieldSpecRepository;
+
+class ApiSpecRegistryTest {
+
+    private final ApiFieldSpecRepository specRepository = mock(ApiFieldSpecRepository.class);
+    private final ApiFieldObjectRepository objectRepository = mock(ApiFieldObjectRepository.class);
+    private final ApiSpecRegistry registry = new ApiSpecRegistry(specRepository, objectRepository,
+            new ApiSpecSnapshotStore(""), ApiSpecRegistry.LoadMode.EAGER, 100);
+
+    private final List<ApiFieldSpec> specs = new ArrayList<>();
+
+    private static ApiFieldSpec spec(String apiCode, int order, String name, int length) {
+        return ApiFieldSpec.builder().apiCode(apiCode).fieldOrder(order).fieldName(name)
+                .fieldLength(length).fieldType("C").isList(false).build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(specRepository.findAllByOrderByApiCodeAscFieldOrderAsc()).thenAnswer(invocation -> new ArrayList<>(specs));
+        when(objectRepository.findAll()).thenReturn(List.of());
+
+        specs.add(spec("AAA_001", 1, "MsgLen", 6));
+        specs.add(spec("BBB_001", 1, "MsgLen", 6));
+        registry.loadSpecs();
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 버전과 플랜을 그대로 유지")
+    void reloadWithoutChanges() {
+        ApiSpecSnapshot before = registry.getSnapshot();
+
+        ApiSpecRegistry.ReloadResult result = registry.reload();
+
+        assertThat(result.getVersion()).isEqualTo(1);
+        assertThat(registry.getSnapshot()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("변경된 API 코드만 다시 컴파일하고 이전 스냅샷은 그대로 유효")
+    void reloadOnlyChangedCodes() {
+        ApiSpecSnapshot before = registry.getSnapshot();
+        ParsePlan unchanged = registry.getPlan("BBB_001");
+
+        specs.set(0, spec("AAA_001", 1, "MsgLen", 8));
+        specs.add(spec("CCC_001", 1, "MsgLen", 6));
+        ApiSpecRegistry.ReloadResult result = registry.reload();
+
+        assertThat(result.getVersion()).isEqualTo(2);
+        assertThat(result.getChanged()).containsExactly("AAA_001");
+        assertThat(result.getAdded()).containsExactly("CCC_001");
+        assertThat(registry.getPlan("BBB_001")).isSameAs(unchanged);
+        assertThat(registry.getPlan("AAA_001").getLength(1)).isEqualTo(8);
+        assertThat(before.getPlan("AAA_001").getLength(1)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("삭제된 API 코드는 새 스냅샷에서 제외")
+    void reloadRemovedCodes() {
+        specs.remove(1);
+
+        ApiSpecRegistry.ReloadResult result = registry.reload();
+
+        assertThat(result.getRemoved()).containsExactly("BBB_001");
+        assertThat(registry.getPlan("BBB_001")).isNull();
+        assertThat(registry.getApiCodes()).containsExactly("AAA_001");
+    }
+
+    @Test
+    @DisplayName("LAZY 모드는 API 코드별 최초 요청 시에만 로드하고 이후에는 캐시 사용")
+    void lazyLoadsOnFirstUse() {
+        ApiSpecRegistry lazy = new ApiSpecRegistry(specRepository, objectRepository,
+                new ApiSpecSnapshotStore(""), ApiSpecRegistry.LoadMode.LAZY, 100);
+        when(specRepository.findByApiCodeOrderByFieldOrder("AAA_001")).thenReturn(List.of(spec("AAA_001", 1, "MsgLen", 6)));
+        when(specRepository.findByApiCodeOrderByFieldOrder("ZZZ_999")).thenReturn(List.of());
+        when(objectRepository.findByApiCodeOrderByParentFieldNameAscFieldOrderAsc(anyString())).thenReturn(List.of());
+
+        lazy.loadSpecs();
+        verify(specRepository, never()).findByApiCodeOrderByFieldOrder(anyString());
+
+        ParsePlan plan = lazy.getPlan("AAA_001");
+        assertThat(lazy.getPlan("AAA_001")).isSameAs(plan);
+        assertThat(lazy.getPlan("ZZZ_999")).isNull();
+        assertThat(lazy.getPlan("ZZZ_999")).isNull();
+        assertThat(lazy.getApiCodes()).containsExactly("AAA_001");
+        verify(specRepository, times(1)).findByApiCodeOrderByFieldOrder("AAA_001");
+        verify(specRepository, times(1)).findByApiCodeOrderByFieldOrder("ZZZ_999");
+
+    }
+
+    @Test
+    @DisplayName("LAZY 모드 리로드는 캐시에 적재된 API 코드 중 스펙이 바뀐 코드만 다시 컴파일")
+    void lazyReloadRecompilesOnlyChangedCodes() {
+        ApiSpecRegistry lazy = new ApiSpecRegistry(specRepository, objectRepository,
+                new ApiSpecSnapshotStore(""), ApiSpecRegistry.LoadMode.LAZY, 100);
+        when(specRepository.findByApiCodeOrderByFieldOrder(anyString())).thenAnswer(invocation -> specs.stream()
+                .filter(spec -> spec.getApiCode().equals(invocation.getArgument(0))).toList());
+        when(specRepository.findByApiCodeInOrderByApiCodeAscFieldOrderAsc(anyCollection()))
+                .thenAnswer(invocation -> specs.stream()
+                        .filter(spec -> invocation.<Collection<?>>getArgument(0).contains(spec.getApiCode()))
+                        .toList());
+        when(objectRepository.findByApiCodeOrderByParentFieldNameAscFieldOrderAsc(anyString())).thenReturn(List.of());
+        when(objectRepository.findByApiCodeInOrderByApiCodeAscParentFieldNameAscFieldOrderAsc(anyCollection()))
+                .thenReturn(List.of());
+        ParsePlan unchanged = lazy.getPlan("AAA_001");
+        ParsePlan before = lazy.getPlan("BBB_001");
+        assertThat(lazy.getPlan("CCC_001")).isNull();
+
+        ApiSpecRegistry.ReloadResult noChange = lazy.reload();
+        assertThat(noChange.getVersion()).isZero();
+        assertThat(lazy.getPlan("AAA_001")).isSameAs(unchanged);
+        assertThat(lazy.getPlan("BBB_001")).isSameAs(before);
+
+        specs.set(1, spec("BBB_001", 1, "MsgLen", 8));
+        specs.add(spec("CCC_001", 1, "MsgLen", 6));
+        ApiSpecRegistry.ReloadResult result = lazy.reload();
+
+        assertThat(result.getVersion()).isEqualTo(1);
+        assertThat(result.getAdded()).containsExactly("CCC_001");
+        assertThat(result.getChanged()).containsExactly("BBB_001");
+        assertThat(lazy.getPlan("AAA_001")).isSameAs(unchanged);
+        assertThat(lazy.getPlan("BBB_001")).isNotSameAs(before);
+        assertThat(lazy.getPlan("CCC_001")).isNotNull();
+        // 개별 조회는 최초 요청 때만 수행하고 리로드는 일괄 조회로 확인
+        verify(specRepository, times(1)).findByApiCodeOrderByFieldOrder("AAA_001");
+        verify(specRepository, times(1)).findByApiCodeOrderByFieldOrder("BBB_001");
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.tcpconverter.converter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.child;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.spec;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.repository.ApiFieldObjectRepository;
+import com.example.tcpconverter.converter.repository.ApiFieldSpecRepository;
+
+class ApiSpecSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private ApiSpecRegistry registry(ApiFieldSpecRepository specRepository, ApiFieldObjectRepository objectRepository,
+                                     Path file) {
+        return new ApiSpecRegistry(specRepository, objectRepository, new ApiSpecSnapshotStore(file.toString()),
+                ApiSpecRegistry.LoadMode.EAGER, 100);
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일이 있으면 데이터베이스 없이 같은 플랜을 복원")
+    void restoresPlansWithoutDatabase() {
+        Path file = directory.resolve("specs.bin");
+        ApiFieldSpecRepository specRepository = mock(ApiFieldSpecRepository.class);
+        ApiFieldObjectRepository objectRepository = mock(ApiFieldObjectRepository.class);
+        when(specRepository.findAllByOrderByApiCodeAscFieldOrderAsc()).thenReturn(List.of(
+                spec("TST_001", 1, "MsgLen", 6, "N"), spec("TST_001", 2, "ItemsCNT", 2, "N"),
+                spec("TST_001", 3, "Items", null, "A")));
+        when(objectRepository.findAll()).thenReturn(List.of(child("TST_001", "Items", 1, "No", 3, "C")));
+
+        ApiSpecRegistry first = registry(specRepository, objectRepository, file);
+        first.loadSpecs();
+        ParsePlan expected = first.getPlan("TST_001");
+        assertThat(file).exists();
+
+        // 데이터베이스에 접근할 수 없는 상태로 기동
+        ApiFieldSpecRepository downRepository = mock(ApiFieldSpecRepository.class);
+        when(downRepository.findAllByOrderByApiCodeAscFieldOrderAsc()).thenThrow(new IllegalStateException("db down"));
+        ApiSpecRegistry second = registry(downRepository, mock(ApiFieldObjectRepository.class), file);
+        second.loadSpecs();
+
+        ParsePlan restored = second.getPlan("TST_001");
+        assertThat(second.getSnapshot().getVersion()).isEqualTo(1);
+        assertThat(restored.getNodeCount()).isEqualTo(expected.getNodeCount());
+        for (int node = 0; node < expected.getNodeCount(); node++) {
+            assertThat(restored.getName(node)).isEqualTo(expected.getName(node));
+            assertThat(restored.getType(node)).isEqualTo(expected.getType(node));
+            assertThat(restored.getCountNode(node)).isEqualTo(expected.getCountNode(node));
+            assertThat(restored.getFixedSize(node)).isEqualTo(expected.getFixedSize(node));
+            assertThat(restored.getStaticOffset(node)).isEqualTo(expected.getStaticOffset(node));
+            assertThat(restored.getMinSize(node)).isEqualTo(expected.getMinSize(node));
+            assertThat(restored.getElementSize(node)).isEqualTo(expected.getElementSize(node));
+        }
+        verify(downRepository, timeout(5000)).findAllByOrderByApiCodeAscFieldOrderAsc();
+        assertThat(second.getPlan("TST_001")).isSameAs(restored);
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷 파일은 무시")
+    void ignoresCorruptedFile() throws Exception {
+        Path file = directory.resolve("specs.bin");
+        Files.write(file, new byte[] {0x54, 0x43, 0x53, 0x50, 0, 0, 0, 1, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        assertThat(new ApiSpecSnapshotStore(file.toString()).read()).isEmpty();
+        assertThat(new ApiSpecSnapshotStore(directory.resolve("missing.bin").toString()).read()).isEmpty();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.tcpconverter.converter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.parser.ParsePlanCompiler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConvertResultCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConvertResultCache cache = new ConvertResultCache(new ConvertMetrics(meterRegistry), true,
+            1_000_000, 60_000);
+    private final ParsePlan plan = ParsePlanCompiler.compile("TST_001", List.of(ApiFieldSpec.builder()
+            .apiCode("TST_001").fieldOrder(1).fieldName("MsgLen").fieldLength(6).fieldType("N").isList(false)
+            .build()), Map.of());
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    private byte[] convert(String json) {
+        conversions.incrementAndGet();
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("converter.result.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 거래 고유번호와 전문은 변환하지 않고 캐시된 결과를 응답")
+    void servesRepeatedMessagesFromCache() throws IOException {
+        byte[] message = "000010ABCD".getBytes(StandardCharsets.US_ASCII);
+
+        byte[] first = cache.get(plan, "TUNO0001", message, () -> convert("{\"a\":1}"));
+        byte[] retry = cache.get(plan, "TUNO0001", message.clone(), () -> convert("{\"a\":2}"));
+
+        assertThat(retry).isSameAs(first);
+        assertThat(conversions.get()).isEqualTo(1);
+        assertThat(lookups(ConvertMetrics.CACHE_HIT)).isEqualTo(1);
+        assertThat(lookups(ConvertMetrics.CACHE_MISS)).isEqualTo(1);
+        assertThat(cache.weightedSize()).isPositive();
+        assertThat(meterRegistry.get("converter.result.cache.size").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("거래 고유번호나 전문이 다르거나 거래 고유번호가 없으면 다시 변환")
+    void convertsDifferentMessages() throws IOException {
+        byte[] message = "000010ABCD".getBytes(StandardCharsets.US_ASCII);
+        cache.get(plan, "TUNO0001", message, () -> convert("{}"));
+
+        cache.get(plan, "TUNO0002", message, () -> convert("{}"));
+        cache.get(plan, "TUNO0001", "000010ABCE".getBytes(StandardCharsets.US_ASCII), () -> convert("{}"));
+        cache.get(plan, "", message, () -> convert("{}"));
+        cache.get(plan, "", message, () -> convert("{}"));
+
+        assertThat(conversions.get()).isEqualTo(5);
+        assertThat(ConvertResultCache.hash(message))
+                .isNotEqualTo(ConvertResultCache.hash("000010ABCE".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 전문은 한 번만 변환하고 결과를 함께 사용")
+    void coalescesConcurrentRequests() throws Exception {
+        byte[] message = "000010ABCD".getBytes(StandardCharsets.US_ASCII);
+        CountDownLatch converting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<byte[]> leader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.get(plan, "TUNO0001", message, () -> {
+                    converting.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return convert("{\"a\":1}");
+                });
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(converting.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<byte[]> follower = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.get(plan, "TUNO0001", message, () -> convert("{\"a\":2}"));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(conversions.get()).isEqualTo(1);
+        assertThat(lookups(ConvertMetrics.CACHE_COALESCED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변환에 실패한 결과는 캐시하지 않음")
+    void doesNotCacheFailures() throws IOException {
+        byte[] message = "000010ABCD".getBytes(StandardCharsets.US_ASCII);
+
+        assertThatThrownBy(() -> cache.get(plan, "TUNO0001", message, () -> {
+            throw new IOException("broken pipe");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(cache.get(plan, "TUNO0001", message, () -> convert("{}"))).isEqualTo("{}".getBytes());
+        assertThat(conversions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 결과는 보관하지 않음")
+    void respectsByteBudget() throws IOException {
+        ConvertResultCache small = new ConvertResultCache(new ConvertMetrics(meterRegistry), true, 1_000, 60_000);
+        byte[] message = "000010ABCD".getBytes(StandardCharsets.US_ASCII);
+        String large = "x".repeat(2_000);
+
+        small.get(plan, "TUNO0001", message, () -> convert(large));
+        small.get(plan, "TUNO0001", message, () -> convert(large));
+
+        assertThat(conversions.get()).isEqualTo(2);
+        assertThat(small.weightedSize()).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("캐시가 꺼져 있으면 항상 변환")
+    void disabledCacheAlwaysConverts() throws IOException {
+        ConvertResultCache disabled = new ConvertResultCache(new ConvertMetrics(meterRegistry), false,
+                1_000_000, 60_000);
+        byte[] message = "000010ABCD".getBytes(StandardCharsets.US_ASCII);
+
+        disabled.get(plan, "TUNO0001", message, () -> convert("{}"));
+        disabled.get(plan, "TUNO0001", message, () -> convert("{}"));
+
+        assertThat(conversions.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.tcpconverter.converter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TcpBatchParseServiceTest {
+
+    private TcpBatchParseService batchService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 전문 본문(길이 헤더 이후)을 그대로 돌려주고, "BAD" 전문은 변환 실패로 처리하는 서비스
+        TcpMessageParseService service = mock(TcpMessageParseService.class);
+        doAnswer(invocation -> {
+            byte[] message = invocation.getArgument(0);
+            String body = new String(message, 6, message.length - 6, StandardCharsets.US_ASCII);
+            if (body.equals("BAD")) {
+                throw new IllegalArgumentException("bad message");
+            }
+            JsonGenerator generator = invocation.getArgument(1);
+            generator.writeString(body);
+            return null;
+        }).when(service).writeJson(any(byte[].class), any(JsonGenerator.class));
+
+        batchService = new TcpBatchParseService(service,
+                new CommonHeaderCodec(new FieldParserHelper(Charset.forName("MS949"))),
+                new ObjectMapper(), new ConvertMetrics(new SimpleMeterRegistry()), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    private String parseBatch(String body, TcpBatchParseService.Framing framing) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        batchService.parseBatch(body.getBytes(StandardCharsets.US_ASCII), framing, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("MsgLen 기준으로 분리하여 요청 순서대로 응답하고 실패는 항목별 오류로 응답")
+    void lengthFramedBatch() throws Exception {
+        String result = parseBatch("000009ONE000009BAD000011THREE00", TcpBatchParseService.Framing.LENGTH);
+
+        assertThat(result).startsWith("[{\"index\":0,\"result\":\"ONE\"},"
+                + "{\"index\":1,\"error\":\"bad message\"},"
+                + "{\"index\":2,\"result\":\"THREE\"},"
+                + "{\"index\":3,\"error\":");
+    }
+
+    @Test
+    @DisplayName("개행 기준으로 분리하며 빈 줄은 무시")
+    void newlineFramedBatch() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            body.append(String.format("000008%02d\r\n", i));
+        }
+        body.append("\n");
+
+        String result = parseBatch(body.toString(), TcpBatchParseService.Framing.NEWLINE);
+
+        assertThat(new ObjectMapper().readTree(result)).hasSize(50);
+        assertThat(result).contains("{\"index\":49,\"result\":\"49\"}");
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.tcpconverter.converter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.child;
+import static com.example.tcpconverter.converter.parser.SpecFixtures.spec;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.entity.ApiFieldObject;
+import com.example.tcpconverter.converter.entity.ApiFieldSpec;
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+import com.example.tcpconverter.converter.parser.ParsePlan;
+import com.example.tcpconverter.converter.parser.ParsePlanCompiler;
+import com.example.tcpconverter.converter.parser.TcpMessageParser;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TcpMessageParseServiceTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final ApiSpecRegistry registry = mock(ApiSpecRegistry.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FieldParserHelper fieldParserHelper = new FieldParserHelper(MS949);
+    private final TcpMessageParseService service = new TcpMessageParseService(registry,
+            new TcpMessageParser(fieldParserHelper), fieldParserHelper, new ConvertMetrics(meterRegistry),
+            new CommonHeaderCodec(fieldParserHelper),
+            new ConvertResultCache(new ConvertMetrics(meterRegistry), false, 0, 0));
+
+    private static String pad(String value, int length) {
+        return String.format("%-" + length + "s", value);
+    }
+
+    private static byte[] message(String msgLen, String apiSvcCd) {
+        return (msgLen + pad("", 129) + pad(apiSvcCd, 20) + "02" + "01" + "02").getBytes(MS949);
+    }
+
+    private void registerPlan() {
+        List<ApiFieldSpec> specs = List.of(
+                spec("TST_001", 1, "MsgLen", 6, "N"),
+                spec("TST_001", 2, "Filler", 129, "C"),
+                spec("TST_001", 3, "ApiSvcCd", 20, "C"),
+                spec("TST_001", 4, "ItemsCNT", 2, "N"),
+                spec("TST_001", 5, "Items", null, "A"));
+        Map<String, List<ApiFieldObject>> objects =
+                Map.of("Items", List.of(child("TST_001", "Items", 1, "No", 2, "N")));
+        ParsePlan plan = ParsePlanCompiler.compile("TST_001", specs, objects);
+        when(registry.getSnapshot()).thenReturn(new ApiSpecSnapshot(1, Map.of(), Map.of(),
+                Map.of("TST_001", plan), Map.of("TST_001", "fingerprint")));
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 API 코드는 레지스트리에서 조회 (LAZY 모드)")
+    void fallsBackToRegistryLookup() {
+        registerPlan();
+        ParsePlan plan = registry.getSnapshot().getPlan("TST_001");
+        when(registry.getSnapshot()).thenReturn(ApiSpecSnapshot.EMPTY);
+        when(registry.getPlan("TST_001")).thenReturn(plan);
+
+        assertThat(service.parse(message("000161", "TST_001"))).containsEntry("ApiSvcCd", "TST_001");
+    }
+
+    @Test
+    @DisplayName("파싱 시간, 전문 크기, 배열 크기를 API 서비스 코드별로 집계")
+    void recordsParseMetrics() {
+        registerPlan();
+
+        Map<String, Object> result = service.parse(message("000161", "TST_001"));
+
+        assertThat((List<?>) result.get("Items")).hasSize(2);
+        assertThat(meterRegistry.get("converter.parse").tag("apiSvcCd", "TST_001").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("converter.message.size").tag("apiSvcCd", "TST_001").summary().totalAmount())
+                .isEqualTo(161);
+        assertThat(meterRegistry.get("converter.array.size").tag("apiSvcCd", "TST_001").summary().max())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JSON 변환 결과는 거래 고유번호와 전문 기준으로 캐시하여 재시도 시 파싱하지 않음")
+    void servesRetriedMessagesFromResultCache() throws Exception {
+        List<ApiFieldSpec> specs = List.of(
+                spec("TST_001", 1, "MsgLen", 6, "N"),
+                spec("TST_001", 2, "Filler", 129, "C"),
+                spec("TST_001", 3, "ApiSvcCd", 20, "C"),
+                spec("TST_001", 4, "Filler2", 54, "C"),
+                spec("TST_001", 5, "IsTuno", 20, "C"),
+                spec("TST_001", 6, "Body", 4, "C"));
+        ParsePlan plan = ParsePlanCompiler.compile("TST_001", specs, Map.of());
+        when(registry.getSnapshot()).thenReturn(new ApiSpecSnapshot(1, Map.of(), Map.of(),
+                Map.of("TST_001", plan), Map.of("TST_001", "fingerprint")));
+        ConvertMetrics metrics = new ConvertMetrics(meterRegistry);
+        TcpMessageParseService cachingService = new TcpMessageParseService(registry,
+                new TcpMessageParser(fieldParserHelper), fieldParserHelper, metrics,
+                new CommonHeaderCodec(fieldParserHelper), new ConvertResultCache(metrics, true, 1_000_000, 60_000));
+        byte[] message = ("000233" + pad("", 129) + pad("TST_001", 20) + pad("", 54) + pad("TUNO0001", 20) + "BODY")
+                .getBytes(MS949);
+        JsonFactory jsonFactory = new ObjectMapper().getFactory();
+
+        byte[] first = cachingService.toJson(message, jsonFactory);
+        byte[] retry = cachingService.toJson(message.clone(), jsonFactory);
+
+        Map<String, Object> result = new ObjectMapper().readValue(first, new TypeReference<Map<String, Object>>() {});
+        assertThat(result).containsEntry("IsTuno", "TUNO0001").containsEntry("Body", "BODY");
+        assertThat(retry).isSameAs(first);
+        assertThat(meterRegistry.get("converter.parse").tag("apiSvcCd", "TST_001").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("converter.result.cache").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필드 경로를 지정하면 해당 필드만 파싱")
+    void parsesRequestedFields() {
+        registerPlan();
+
+        Map<String, Object> result = service.parse(message("000161", "TST_001"), List.of("Items[].No"));
+
+        assertThat(result).isEqualTo(Map.of("Items", List.of(Map.of("No", 1), Map.of("No", 2))));
+        assertThatThrownBy(() -> service.parse(message("000161", "TST_001"), List.of("Unknown")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("거부된 전문은 사유별로 집계")
+    void recordsRejectionsByReason() {
+        registerPlan();
+
+        assertThatThrownBy(() -> service.parse(message("000999", "TST_001")))
+                .isInstanceOf(ParseRejectedException.class);
+        assertThatThrownBy(() -> service.parse(message("000161", "NONE_001")))
+                .isInstanceOf(ParseRejectedException.class);
+
+        assertThat(meterRegistry.get("converter.rejected").tag("reason", "LENGTH_MISMATCH").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("converter.rejected").tag("reason", "UNKNOWN_API_CODE").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.find("converter.parse").timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배열 카운트 기준 스펙 길이와 다른 전문은 파싱 전에 거부")
+    void rejectsMessagesNotMatchingSpecLength() {
+        registerPlan();
+        String header = pad("", 129) + pad("TST_001", 20);
+
+        assertThatThrownBy(() -> service.parse(("000159" + header + "02" + "01").getBytes(MS949)))
+                .isInstanceOfSatisfying(ParseRejectedException.class,
+                        e -> assertThat(e.getReason()).isEqualTo(ParseRejectedException.Reason.TRUNCATED));
+        assertThatThrownBy(() -> service.parse(("000163" + header + "02" + "01" + "02" + "03").getBytes(MS949)))
+                .isInstanceOfSatisfying(ParseRejectedException.class,
+                        e -> assertThat(e.getReason()).isEqualTo(ParseRejectedException.Reason.OVERSIZED));
+        assertThatThrownBy(() -> service.parse(("000156" + header + "0").getBytes(MS949)))
+                .isInstanceOfSatisfying(ParseRejectedException.class,
+                        e -> assertThat(e.getReason()).isEqualTo(ParseRejectedException.Reason.TRUNCATED));
+        assertThat(meterRegistry.get("converter.rejected").tag("reason", "TRUNCATED").counter().count())
+                .isEqualTo(2);
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.tcpconverter.converter.upstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tcpconverter.converter.parser.CommonHeaderCodec;
+import com.example.tcpconverter.converter.parser.FieldParserHelper;
+
+class UpstreamGatewayTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final FieldParserHelper fieldParserHelper = new FieldParserHelper(MS949);
+    private final CommonHeaderCodec commonHeaderCodec = new CommonHeaderCodec(fieldParserHelper);
+
+    private StubHost host;
+    private UpstreamGateway gateway;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        host = new StubHost();
+        gateway = new UpstreamGateway(commonHeaderCodec, true, "localhost", host.getPort(),
+                1, 500, 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        gateway.close();
+        host.close();
+    }
+
+    /** 전문 길이 + 공통부(거래 고유번호까지) + 본문 */
+    private static byte[] message(String isTuno, String body) {
+        String content = String.format("%-203s%-20s", "", isTuno) + body;
+        return (String.format("%06d", content.length() + 6) + content).getBytes(MS949);
+    }
+
+    private static String body(byte[] frame) {
+        int offset = CommonHeaderCodec.IS_TUNO_OFFSET + CommonHeaderCodec.IS_TUNO_LENGTH;
+        return new String(frame, offset, frame.length - offset, MS949);
+    }
+
+    @Test
+    @DisplayName("한 연결에서 여러 요청을 동시에 보내고 순서가 바뀐 응답을 거래 고유번호로 매칭")
+    void matchesOutOfOrderRepliesByIsTuno() {
+        CompletableFuture<byte[]> first = gateway.send(message("TUNO0001", "PAIR-A"));
+        CompletableFuture<byte[]> second = gateway.send(message("TUNO0002", "PAIR-B"));
+
+        assertThat(body(first.join())).isEqualTo("PAIR-A");
+        assertThat(body(second.join())).isEqualTo("PAIR-B");
+        assertThat(host.replyOrder).containsExactly("TUNO0002", "TUNO0001");
+        assertThat(host.accepted.get()).isEqualTo(1);
+        assertThat(body(gateway.exchange(message("TUNO0003", "OK")))).isEqualTo("OK");
+    }
+
+    @Test
+    @DisplayName("응답이 없으면 대기 시간 초과로 실패하고 연결은 계속 사용")
+    void timesOutWithoutReply() {
+        assertThatThrownBy(() -> gateway.exchange(message("TUNO0001", "SILENT")))
+                .isInstanceOf(UpstreamException.class)
+                .hasMessageContaining("초과");
+
+        assertThat(body(gateway.exchange(message("TUNO0002", "OK")))).isEqualTo("OK");
+        assertThat(host.accepted.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결이 끊어지면 처리 중인 요청을 실패 처리하고 다음 요청에서 다시 연결")
+    void failsPendingRequestsAndReconnects() throws Exception {
+        CompletableFuture<byte[]> silent = gateway.send(message("TUNO0001", "SILENT"));
+        CompletableFuture<byte[]> close = gateway.send(message("TUNO0002", "CLOSE"));
+
+        for (CompletableFuture<byte[]> reply : List.of(silent, close)) {
+            assertThatThrownBy(() -> reply.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(UpstreamException.class);
+        }
+        assertThat(body(gateway.exchange(message("TUNO0003", "OK")))).isEqualTo("OK");
+        assertThat(host.accepted.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("거래 고유번호가 없거나 길이가 맞지 않는 전문, 전달 모드가 꺼진 경우 거부")
+    void rejectsInvalidRequests() {
+        byte[] mismatched = message("TUNO0001", "OK");
+        mismatched[5]++;
+
+        assertThatThrownBy(() -> gateway.send(message("", "OK"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gateway.send(mismatched)).isInstanceOf(IllegalArgumentException.class);
+        UpstreamGateway disabled = new UpstreamGateway(commonHeaderCodec, false, "localhost",
+                host.getPort(), 1, 500, 1000);
+        assertThatThrownBy(() -> disabled.send(message("TUNO0001", "OK"))).isInstanceOf(UpstreamException.class);
+        assertThat(host.accepted.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("호스트에 연결할 수 없으면 UpstreamException, 재시도 간격 동안은 연결을 시도하지 않고 바로 실패")
+    void failsWhenHostIsDown() throws IOException {
+        int port = host.getPort();
+        host.close();
+        UpstreamGateway down = new UpstreamGateway(commonHeaderCodec, true, "localhost", port,
+                2, 500, 60_000);
+
+        try {
+            assertThatThrownBy(() -> down.exchange(message("TUNO0001", "OK")))
+                    .isInstanceOf(UpstreamException.class)
+                    .isNotInstanceOf(CompletionException.class)
+                    .hasMessageContaining("연결할 수 없습니다");
+            assertThatThrownBy(() -> down.exchange(message("TUNO0002", "OK")))
+                    .isInstanceOf(UpstreamException.class)
+                    .hasMessageContaining("재연결 대기");
+        } finally {
+            down.close();
+        }
+    }
+
+    /**
+     * 레거시 호스트 역할의 스텁 서버
+     * 본문에 따라 요청 전문을 그대로 응답:
+     * - OK: 즉시 응답
+     * - PAIR-*: 두 건이 모이면 역순으로 응답
+     * - SILENT: 응답하지 않음
+     * - CLOSE: 연결 종료
+     */
+    private final class StubHost implements AutoCloseable {
+        private final ServerSocket serverSocket = new ServerSocket(0);
+        private final AtomicInteger accepted = new AtomicInteger();
+        private final List<String> replyOrder = new ArrayList<>();
+
+        private StubHost() throws IOException {
+            Thread acceptor = new Thread(this::acceptLoop, "stub-host");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void acceptLoop() {
+            try {
+                while (true) {
+                    Socket socket = serverSocket.accept();
+                    accepted.incrementAndGet();
+                    Thread handler = new Thread(() -> serve(socket), "stub-host-connection");
+                    handler.setDaemon(true);
+                    handler.start();
+                }
+            } catch (IOException e) {
+                // 서버 종료
+            }
+        }
+
+        private void serve(Socket socket) {
+            List<byte[]> pairs = new ArrayList<>();
+            try (socket; DataInputStream in = new DataInputStream(socket.getInputStream())) {
+                OutputStream out = socket.getOutputStream();
+                while (true) {
+                    byte[] header = new byte[6];
+                    in.readFully(header);
+                    byte[] frame = new byte[Integer.parseInt(new String(header, MS949))];
+                    System.arraycopy(header, 0, frame, 0, header.length);
+                    in.readFully(frame, header.length, frame.length - header.length);
+
+                    String body = body(frame);
+                    if (body.equals("CLOSE")) {
+                        return;
+                    }
+                    if (body.startsWith("PAIR")) {
+                        pairs.add(frame);
+                        if (pairs.size() == 2) {
+                            reply(out, pairs.get(1));
+                            reply(out, pairs.get(0));
+                            pairs.clear();
+                        }
+                    } else if (!body.equals("SILENT")) {
+                        reply(out, frame);
+                    }
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            }
+        }
+
+        private void reply(OutputStream out, byte[] frame) throws IOException {
+            synchronized (replyOrder) {
+                replyOrder.add(commonHeaderCodec.readIsTuno(frame));
+            }
+            out.write(frame);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}